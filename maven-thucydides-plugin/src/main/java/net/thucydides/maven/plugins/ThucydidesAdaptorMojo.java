@@ -43,6 +43,21 @@ public class ThucydidesAdaptorMojo extends AbstractMojo {
      */
     public File source;
 
+    /**
+     * Report formats to generate for the imported outcomes - a comma-separated list of xml, json and html.
+     * All three formats are generated by default.
+     *
+     * @parameter expression="${import.formats}"
+     */
+    public String formats;
+
+    /**
+     * Number of threads used to write the reports. Defaults to the number of available processors.
+     *
+     * @parameter expression="${import.threads}"
+     */
+    public Integer threads;
+
     private final EnvironmentVariables environmentVariables;
     private final AdaptorService adaptorService;
     private final TestOutcomeAdaptorReporter reporter = new TestOutcomeAdaptorReporter();
@@ -72,6 +87,14 @@ public class ThucydidesAdaptorMojo extends AbstractMojo {
         this.source = source;
     }
 
+    public void setFormats(String formats) {
+        this.formats = formats;
+    }
+
+    public void setThreads(Integer threads) {
+        this.threads = threads;
+    }
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         getLog().info("Importing external test reports");
@@ -82,6 +105,12 @@ public class ThucydidesAdaptorMojo extends AbstractMojo {
             getLog().info("Adaptor: " + adaptorService.getAdaptor(format));
             reporter.registerAdaptor(adaptorService.getAdaptor(format));
             reporter.setOutputDirectory(outputDirectory);
+            if (formats != null) {
+                reporter.setFormats(formats);
+            }
+            if (threads != null) {
+                reporter.setThreadCount(threads);
+            }
             reporter.generateReportsFrom(source);
         } catch (IOException e) {
             throw new MojoExecutionException(e.getMessage());
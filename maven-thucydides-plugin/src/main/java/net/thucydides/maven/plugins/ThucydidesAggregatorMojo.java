@@ -3,6 +3,9 @@ package net.thucydides.maven.plugins;
 import net.thucydides.core.Thucydides;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.reports.TestOutcomeLoader;
+import net.thucydides.core.reports.aggregate.PartialAggregate;
+import net.thucydides.core.reports.aggregate.PartialAggregates;
 import net.thucydides.core.reports.html.HtmlAggregateStoryReporter;
 import net.thucydides.core.util.EnvironmentVariables;
 import org.apache.maven.plugin.AbstractMojo;
@@ -96,6 +99,26 @@ public class ThucydidesAggregatorMojo extends AbstractMojo {
      */
     public String statisticsUrl;
 
+    /**
+     * Write a partial aggregate of the test results of this shard, instead of generating the HTML reports.
+     * Used when the tests are split across several machines.
+     * @parameter expression="${thucydides.aggregate.partial}" default-value="false"
+     */
+    public boolean partialAggregate;
+
+    /**
+     * Name of this shard in its partial aggregate. Defaults to the name of the source directory.
+     * @parameter expression="${thucydides.aggregate.shard}"
+     */
+    public String shard;
+
+    /**
+     * Merge the partial aggregates found in the source directory and its subdirectories into a summary
+     * of the whole test run, instead of generating the HTML reports.
+     * @parameter expression="${thucydides.aggregate.merge}" default-value="false"
+     */
+    public boolean mergePartialAggregates;
+
     EnvironmentVariables environmentVariables;
 
     /**
@@ -166,7 +189,13 @@ public class ThucydidesAggregatorMojo extends AbstractMojo {
         prepareExecution();
 
         try {
-            generateHtmlStoryReports();
+            if (mergePartialAggregates) {
+                mergePartialAggregates();
+            } else if (partialAggregate) {
+                generatePartialAggregate();
+            } else {
+                generateHtmlStoryReports();
+            }
         } catch (IOException e) {
             throw new MojoExecutionException("Error generating aggregate thucydides reports", e);
         }
@@ -191,6 +220,22 @@ public class ThucydidesAggregatorMojo extends AbstractMojo {
         getReporter().generateReportsForTestResultsFrom(sourceOfTestResult());
     }
 
+    private void generatePartialAggregate() throws IOException {
+        File sourceDirectory = sourceOfTestResult();
+        String shardName = (shard != null) ? shard : sourceDirectory.getName();
+        PartialAggregate partialAggregate = PartialAggregate.from(shardName, TestOutcomeLoader.testOutcomesIn(sourceDirectory));
+        File partialAggregateFile = PartialAggregates.writePartialAggregateTo(outputDirectory, partialAggregate);
+        getLog().info("Partial aggregate for " + shardName + " written to " + partialAggregateFile);
+    }
+
+    private void mergePartialAggregates() throws IOException {
+        PartialAggregate mergedAggregate = PartialAggregates.mergeFrom(sourceOfTestResult());
+        File summaryFile = PartialAggregates.writeMergedAggregateTo(outputDirectory, mergedAggregate);
+        getLog().info("Merged " + mergedAggregate.getShards().size() + " partial aggregates into " + summaryFile
+                      + ": " + mergedAggregate.getTotal() + " tests, " + mergedAggregate.getTotalTests().withFailureOrError()
+                      + " failing, overall result " + mergedAggregate.getResult());
+    }
+
     private File sourceOfTestResult() {
         if ((sourceDirectory != null) && (sourceDirectory.exists())) {
             return sourceDirectory;
@@ -1,10 +1,15 @@
 package net.thucydides.maven.plugins;
 
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.aggregate.PartialAggregate;
+import net.thucydides.core.reports.aggregate.PartialAggregates;
 import net.thucydides.core.reports.html.HtmlAggregateStoryReporter;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -12,6 +17,8 @@ import java.io.File;
 import java.io.IOException;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -34,6 +41,9 @@ public class WhenGeneratingAnAggregateReport {
     @Mock
     MavenProject project;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 
     @Before
     public void setupPlugin() {
@@ -104,4 +114,22 @@ public class WhenGeneratingAnAggregateReport {
         plugin.execute();
     }
 
+    @Test
+    public void partial_aggregates_from_several_shards_can_be_merged_instead_of_generating_the_reports() throws Exception {
+        File shardResults = temporaryFolder.newFolder("shards");
+        File summaryDirectory = temporaryFolder.newFolder("summary");
+        PartialAggregates.writePartialAggregateTo(new File(shardResults, "shard-1"),
+                                                  PartialAggregate.from("shard-1", TestOutcomes.withNoResults()));
+        PartialAggregates.writePartialAggregateTo(new File(shardResults, "shard-2"),
+                                                  PartialAggregate.from("shard-2", TestOutcomes.withNoResults()));
+
+        plugin.setSourceDirectory(shardResults);
+        plugin.setOutputDirectory(summaryDirectory);
+        plugin.mergePartialAggregates = true;
+        plugin.execute();
+
+        assertTrue(new File(summaryDirectory, PartialAggregates.MERGED_AGGREGATE_FILE).exists());
+        verify(reporter, never()).generateReportsForTestResultsFrom(any(File.class));
+    }
+
 }
@@ -1,20 +1,21 @@
 package net.thucydides.browsermob.fixtureservices;
 
 
+import com.google.common.base.Optional;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Lists;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.fixtureservices.FixtureException;
 import net.thucydides.core.fixtureservices.FixtureService;
 import net.thucydides.core.guice.Injectors;
+import net.thucydides.browsermob.traffic.TrafficBudget;
 import net.thucydides.core.util.EnvironmentVariables;
 import org.apache.commons.lang3.StringUtils;
+import org.browsermob.core.har.Har;
 import org.browsermob.proxy.ProxyServer;
 import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
-import java.io.IOException;
-import java.net.ServerSocket;
 import java.net.UnknownHostException;
 import java.util.List;
 
@@ -24,7 +25,8 @@ public class BrowserMobFixtureService implements FixtureService {
 
     private static final int PORT_RANGE = 1000;
     private static final int MIN_AVAILABLE_PORT = 49152;
-    private static final int MAX_AVAILABLE_PORT = MIN_AVAILABLE_PORT + PORT_RANGE;
+
+    private static final PortAllocator PORT_ALLOCATOR = new PortAllocator(MIN_AVAILABLE_PORT, PORT_RANGE);
 
     private final EnvironmentVariables environmentVariables;
 
@@ -32,6 +34,8 @@ public class BrowserMobFixtureService implements FixtureService {
 
     private ThreadLocal<ProxyServer> threadLocalproxyServer = new  ThreadLocal<ProxyServer>();
 
+    private static final ThreadLocal<ProxyServer> ACTIVE_PROXY_SERVER = new ThreadLocal<ProxyServer>();
+
     public BrowserMobFixtureService() {
         this(Injectors.getInjector().getInstance(EnvironmentVariables.class));
     }
@@ -44,7 +48,11 @@ public class BrowserMobFixtureService implements FixtureService {
     public void setup() throws FixtureException {
         if (useBrowserMobProxyManager()) {
             try {
-                initializeProxy(getAvailablePort());
+                if (useSharedProxies()) {
+                    leaseSharedProxy();
+                } else {
+                    initializeProxy(getAvailablePort());
+                }
             } catch (Exception e) {
                 throw new FixtureException("Failed to initialize proxy", e);
             }
@@ -55,21 +63,81 @@ public class BrowserMobFixtureService implements FixtureService {
         return threadLocalproxyServer.get();
     }
 
+    /**
+     * The proxy most recently started for a browser in the current thread, if it is still running.
+     */
+    public static Optional<ProxyServer> getActiveProxyServer() {
+        return Optional.fromNullable(ACTIVE_PROXY_SERVER.get());
+    }
+
+    /**
+     * Start recording the traffic going through the current thread's proxy in a new HAR.
+     */
+    public Har newHar(String initialPageRef) {
+        return (proxyServerRunning()) ? getProxyServer().newHar(initialPageRef) : null;
+    }
+
+    /**
+     * The traffic recorded by the current thread's proxy since the last call to newHar().
+     */
+    public Har getHar() {
+        return (proxyServerRunning()) ? getProxyServer().getHar() : null;
+    }
+
     private void initializeProxy(int port) throws Exception {
-        setPort(port);
-        threadLocalproxyServer.set(new ProxyServer(port));
-        threadLocalproxyServer.get().start();
+        ProxyServer proxyServer = startProxy(new ProxyServer(port));
+        if (captureTraffic()) {
+            proxyServer.newHar(Thread.currentThread().getName());
+        }
+        activate(proxyServer);
+    }
+
+    private void activate(ProxyServer proxyServer) {
+        threadLocalproxyServer.set(proxyServer);
+        ACTIVE_PROXY_SERVER.set(proxyServer);
+    }
+
+    private ProxyServer startProxy(ProxyServer proxyServer) throws Exception {
+        setPort(proxyServer.getPort());
+        try {
+            proxyServer.start();
+        } catch (Exception e) {
+            PORT_ALLOCATOR.release(proxyServer.getPort());
+            throw e;
+        }
+        return proxyServer;
+    }
+
+    private void leaseSharedProxy() throws Exception {
+        ProxyServer proxyServer = SharedProxyPool.getInstance().leaseProxy(new SharedProxyPool.ProxyStarter() {
+            @Override
+            public ProxyServer startProxy() throws Exception {
+                return BrowserMobFixtureService.this.startProxy(new PooledProxyServer(getAvailablePort()));
+            }
+        });
+        setPort(proxyServer.getPort());
+        proxyServer.newHar(Thread.currentThread().getName());
+        activate(proxyServer);
     }
 
     @Override
     public void shutdown() {
-        if (threadLocalproxyServer.get() != null) {
+        ProxyServer proxyServer = threadLocalproxyServer.get();
+        if (proxyServer != null) {
+            threadLocalproxyServer.remove();
+            if (ACTIVE_PROXY_SERVER.get() == proxyServer) {
+                ACTIVE_PROXY_SERVER.remove();
+            }
+            if (useSharedProxies() && SharedProxyPool.getInstance().returnProxy(proxyServer)) {
+                return;
+            }
             try {
-                threadLocalproxyServer.get().stop();
+                proxyServer.stop();
             } catch (Exception e) {
                 throw new FixtureException("Could not shut down BrowserMob proxy", e);
+            } finally {
+                PORT_ALLOCATOR.release(proxyServer.getPort());
             }
-            threadLocalproxyServer.remove();
         }
     }
 
@@ -94,6 +162,14 @@ public class BrowserMobFixtureService implements FixtureService {
         return (StringUtils.isEmpty(browserMobFilter) || shouldActivateBrowserMobWithDriver(browserMobFilter, environmentVariables));
     }
 
+    private boolean useSharedProxies() {
+        return environmentVariables.getPropertyAsBoolean(BrowserMobSystemProperties.BROWSER_MOB_SHARED_PROXIES, false);
+    }
+
+    private boolean captureTraffic() {
+        return TrafficBudget.from(environmentVariables).capturesTraffic();
+    }
+
     private boolean shouldActivateBrowserMobWithDriver(String filter, EnvironmentVariables environmentVariables) {
         String currentDriver = environmentVariables.getProperty(ThucydidesSystemProperty.DRIVER);
         List allowedBrowsers = Lists.newArrayList(Splitter.on(",").trimResults().split(filter.toLowerCase()));
@@ -110,39 +186,15 @@ public class BrowserMobFixtureService implements FixtureService {
 
     protected int getAvailablePort() {
         int defaultPort = environmentVariables.getPropertyAsInteger(BrowserMobSystemProperties.BROWSER_MOB_PROXY, DEFAULT_PORT);
-        if (isAvailable(defaultPort)) {
-            return defaultPort;
-        } else {
-            return nextAvailablePort(MIN_AVAILABLE_PORT);
-        }
-    }
-
-    private int nextAvailablePort(int portNumber) {
-        if (portNumber > MAX_AVAILABLE_PORT) {
-            throw new IllegalStateException("No available ports found");
-        }
-        if (isAvailable(portNumber)) {
-            return portNumber;
-        } else {
-            return nextAvailablePort(portNumber + 1);
-        }
+        return PORT_ALLOCATOR.allocatePort(defaultPort, new PortAllocator.PortCheck() {
+            @Override
+            public boolean isAvailable(int portNumber) {
+                return BrowserMobFixtureService.this.isAvailable(portNumber);
+            }
+        });
     }
 
     protected boolean isAvailable(int portNumber) {
-        ServerSocket socket = null;
-        boolean available = false;
-        try {
-            socket = new ServerSocket(portNumber);
-            available = true;
-        } catch (IOException e) {
-            available = false;
-        } finally {
-            if (socket != null) {
-                try {
-                    socket.close();
-                } catch (IOException ignored) {}
-            }
-        }
-        return available;
+        return PortAllocator.isFree(portNumber);
     }
 }
@@ -11,7 +11,42 @@ public enum BrowserMobSystemProperties {
     /**
      * Optional proxy port to use for Browser Mob.
      */
-    BROWSER_MOB_PROXY;
+    BROWSER_MOB_PROXY,
+
+    /**
+     * If set to true, proxies are kept running and shared between test threads and browser sessions,
+     * rather than being started and stopped with each browser. Each browser session still has a proxy
+     * (and so its recorded traffic) to itself while it is running.
+     */
+    BROWSER_MOB_SHARED_PROXIES,
+
+    /**
+     * If set to true, the traffic going through the proxy is recorded for each test step,
+     * and a summary of it (request count, size, load time and slowest resources) is added to the test reports.
+     * Traffic is always recorded if one of the traffic budgets is set.
+     */
+    BROWSER_MOB_CAPTURE_TRAFFIC,
+
+    /**
+     * The maximum number of requests a test step is expected to make.
+     */
+    BROWSER_MOB_BUDGET_REQUESTS,
+
+    /**
+     * The maximum number of bytes a test step is expected to download.
+     */
+    BROWSER_MOB_BUDGET_BYTES,
+
+    /**
+     * The maximum time, in milliseconds, the requests made by a test step are expected to take.
+     */
+    BROWSER_MOB_BUDGET_LOAD_TIME,
+
+    /**
+     * What to do when a test step goes over one of the traffic budgets: 'flag' (the default) records the
+     * violation in the reports, and 'fail' also marks the step as failing.
+     */
+    BROWSER_MOB_BUDGET_ACTION;
 
     @Override
     public String toString() {
@@ -0,0 +1,174 @@
+package net.thucydides.browsermob.fixtureservices;
+
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+import org.browsermob.proxy.ProxyServer;
+import org.browsermob.proxy.http.RequestInterceptor;
+import org.browsermob.proxy.http.ResponseInterceptor;
+import org.java_bandwidthlimiter.StreamManager;
+
+import java.util.Map;
+
+/**
+ * A BrowserMob proxy that can be shared through the SharedProxyPool.
+ * BrowserMob proxies cannot be reset, so this proxy notes when a test changes its configuration
+ * (blacklists, whitelists, headers, rewrite rules, interceptors, bandwidth and so on) after it has started.
+ * A customised proxy is not handed on to another browser session.
+ */
+class PooledProxyServer extends ProxyServer {
+
+    private volatile boolean started = false;
+    private volatile boolean customised = false;
+
+    PooledProxyServer(int port) {
+        super(port);
+    }
+
+    @Override
+    public void start() throws Exception {
+        super.start();
+        started = true;
+    }
+
+    public boolean hasBeenCustomised() {
+        return customised;
+    }
+
+    private void customising() {
+        if (started) {
+            customised = true;
+        }
+    }
+
+    @Override
+    public void setRetryCount(int count) {
+        customising();
+        super.setRetryCount(count);
+    }
+
+    @Override
+    public void remapHost(String source, String target) {
+        customising();
+        super.remapHost(source, target);
+    }
+
+    @Override
+    public void addRequestInterceptor(HttpRequestInterceptor interceptor) {
+        customising();
+        super.addRequestInterceptor(interceptor);
+    }
+
+    @Override
+    public void addRequestInterceptor(RequestInterceptor interceptor) {
+        customising();
+        super.addRequestInterceptor(interceptor);
+    }
+
+    @Override
+    public void addResponseInterceptor(HttpResponseInterceptor interceptor) {
+        customising();
+        super.addResponseInterceptor(interceptor);
+    }
+
+    @Override
+    public void addResponseInterceptor(ResponseInterceptor interceptor) {
+        customising();
+        super.addResponseInterceptor(interceptor);
+    }
+
+    @Override
+    public StreamManager getStreamManager() {
+        customising();
+        return super.getStreamManager();
+    }
+
+    @Override
+    public void setDownstreamKbps(long downstreamKbps) {
+        customising();
+        super.setDownstreamKbps(downstreamKbps);
+    }
+
+    @Override
+    public void setUpstreamKbps(long upstreamKbps) {
+        customising();
+        super.setUpstreamKbps(upstreamKbps);
+    }
+
+    @Override
+    public void setLatency(long latency) {
+        customising();
+        super.setLatency(latency);
+    }
+
+    @Override
+    public void setRequestTimeout(int requestTimeout) {
+        customising();
+        super.setRequestTimeout(requestTimeout);
+    }
+
+    @Override
+    public void setSocketOperationTimeout(int readTimeout) {
+        customising();
+        super.setSocketOperationTimeout(readTimeout);
+    }
+
+    @Override
+    public void setConnectionTimeout(int connectionTimeout) {
+        customising();
+        super.setConnectionTimeout(connectionTimeout);
+    }
+
+    @Override
+    public void autoBasicAuthorization(String domain, String username, String password) {
+        customising();
+        super.autoBasicAuthorization(domain, username, password);
+    }
+
+    @Override
+    public void rewriteUrl(String match, String replace) {
+        customising();
+        super.rewriteUrl(match, replace);
+    }
+
+    @Override
+    public void blacklistRequests(String pattern, int responseCode) {
+        customising();
+        super.blacklistRequests(pattern, responseCode);
+    }
+
+    @Override
+    public void whitelistRequests(String[] patterns, int responseCode) {
+        customising();
+        super.whitelistRequests(patterns, responseCode);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        customising();
+        super.addHeader(name, value);
+    }
+
+    @Override
+    public void setCaptureHeaders(boolean captureHeaders) {
+        customising();
+        super.setCaptureHeaders(captureHeaders);
+    }
+
+    @Override
+    public void setCaptureContent(boolean captureContent) {
+        customising();
+        super.setCaptureContent(captureContent);
+    }
+
+    @Override
+    public void setDNSCacheTimeout(int timeout) {
+        customising();
+        super.setDNSCacheTimeout(timeout);
+    }
+
+    @Override
+    public void setOptions(Map<String, String> options) {
+        customising();
+        super.setOptions(options);
+    }
+}
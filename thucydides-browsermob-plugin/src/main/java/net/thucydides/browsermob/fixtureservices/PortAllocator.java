@@ -0,0 +1,78 @@
+package net.thucydides.browsermob.fixtureservices;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out free ports to proxies started in parallel from different threads.
+ * Candidate ports are taken from a shared counter rather than by scanning from the start of the range each time,
+ * and a port is claimed for this JVM before it is checked, so two threads never race each other for the same port.
+ * Claimed ports are given back when the proxy using them is shut down.
+ */
+public class PortAllocator {
+
+    private static final ConcurrentMap<Integer, Boolean> CLAIMED_PORTS = new ConcurrentHashMap<Integer, Boolean>();
+
+    private final int firstPort;
+    private final int portRange;
+    private final AtomicInteger nextPort = new AtomicInteger();
+
+    public PortAllocator(int firstPort, int portRange) {
+        this.firstPort = firstPort;
+        this.portRange = portRange;
+    }
+
+    public interface PortCheck {
+        boolean isAvailable(int portNumber);
+    }
+
+    /**
+     * Claim the preferred port if it is free, or the next free port in the range otherwise.
+     */
+    public int allocatePort(int preferredPort, PortCheck portCheck) {
+        if (claim(preferredPort, portCheck)) {
+            return preferredPort;
+        }
+        for (int attempt = 0; attempt <= portRange; attempt++) {
+            int candidatePort = firstPort + (nextPort.getAndIncrement() & Integer.MAX_VALUE) % (portRange + 1);
+            if (claim(candidatePort, portCheck)) {
+                return candidatePort;
+            }
+        }
+        throw new IllegalStateException("No available ports found");
+    }
+
+    public void release(int portNumber) {
+        CLAIMED_PORTS.remove(portNumber);
+    }
+
+    private boolean claim(int portNumber, PortCheck portCheck) {
+        if (CLAIMED_PORTS.putIfAbsent(portNumber, Boolean.TRUE) != null) {
+            return false;
+        }
+        if (portCheck.isAvailable(portNumber)) {
+            return true;
+        }
+        CLAIMED_PORTS.remove(portNumber);
+        return false;
+    }
+
+    public static boolean isFree(int portNumber) {
+        ServerSocket socket = null;
+        try {
+            socket = new ServerSocket(portNumber);
+            return true;
+        } catch (IOException e) {
+            return false;
+        } finally {
+            if (socket != null) {
+                try {
+                    socket.close();
+                } catch (IOException ignored) {}
+            }
+        }
+    }
+}
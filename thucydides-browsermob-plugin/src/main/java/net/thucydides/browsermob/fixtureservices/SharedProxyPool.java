@@ -0,0 +1,91 @@
+package net.thucydides.browsermob.fixtureservices;
+
+import org.browsermob.proxy.ProxyServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A pool of long-lived BrowserMob proxies shared by all the test threads in a JVM.
+ * A browser session leases a proxy for as long as it runs, so the traffic recorded by a proxy always belongs
+ * to a single session, and hands it back when the browser closes. Proxies are only started when no idle proxy
+ * is available, so the pool never grows beyond the number of browsers running at the same time.
+ * BrowserMob proxies cannot be reset, so a proxy whose configuration was changed during a session
+ * (with blacklists, headers, rewrite rules and so on) is removed from the pool rather than handed on.
+ * All of the proxies are stopped when the JVM shuts down.
+ */
+public class SharedProxyPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedProxyPool.class);
+
+    private static final SharedProxyPool INSTANCE = new SharedProxyPool();
+
+    private final Queue<ProxyServer> idleProxies = new ConcurrentLinkedQueue<ProxyServer>();
+    private final CopyOnWriteArrayList<ProxyServer> allProxies = new CopyOnWriteArrayList<ProxyServer>();
+
+    public interface ProxyStarter {
+        ProxyServer startProxy() throws Exception;
+    }
+
+    SharedProxyPool() {
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                stopAll();
+            }
+        }, "BrowserMob proxy pool shutdown"));
+    }
+
+    public static SharedProxyPool getInstance() {
+        return INSTANCE;
+    }
+
+    public ProxyServer leaseProxy(ProxyStarter proxyStarter) throws Exception {
+        ProxyServer proxyServer = idleProxies.poll();
+        if (proxyServer == null) {
+            proxyServer = proxyStarter.startProxy();
+            allProxies.add(proxyServer);
+            LOGGER.debug("Started shared BrowserMob proxy on port {} ({} proxies in the pool)",
+                         proxyServer.getPort(), allProxies.size());
+        }
+        return proxyServer;
+    }
+
+    /**
+     * Hand a proxy back once the browser session using it has finished.
+     * @return false if the proxy could not be reused and was removed from the pool, in which case the caller
+     * should stop it.
+     */
+    public boolean returnProxy(ProxyServer proxyServer) {
+        if (!canBeReused(proxyServer)) {
+            allProxies.remove(proxyServer);
+            LOGGER.debug("Removed customised BrowserMob proxy on port {} from the pool", proxyServer.getPort());
+            return false;
+        }
+        idleProxies.offer(proxyServer);
+        return true;
+    }
+
+    private boolean canBeReused(ProxyServer proxyServer) {
+        return (proxyServer instanceof PooledProxyServer) && !((PooledProxyServer) proxyServer).hasBeenCustomised();
+    }
+
+    public int size() {
+        return allProxies.size();
+    }
+
+    void stopAll() {
+        for (ProxyServer proxyServer : allProxies) {
+            try {
+                proxyServer.stop();
+            } catch (Exception e) {
+                LOGGER.debug("Could not stop BrowserMob proxy on port {}: {}", proxyServer.getPort(), e.getMessage());
+            }
+        }
+        allProxies.clear();
+        idleProxies.clear();
+    }
+}
@@ -0,0 +1,53 @@
+package net.thucydides.browsermob.traffic;
+
+import com.google.common.collect.Lists;
+import net.thucydides.core.model.NetworkTraffic;
+import org.browsermob.core.har.Har;
+import org.browsermob.core.har.HarEntry;
+import org.browsermob.core.har.HarResponse;
+
+import java.util.List;
+
+/**
+ * Reduces the HAR recorded by a BrowserMob proxy to the totals kept in the test reports.
+ */
+public class HarSummary {
+
+    private HarSummary() {}
+
+    public static NetworkTraffic of(Har har) {
+        if (har == null || har.getLog() == null || har.getLog().getEntries() == null) {
+            return NetworkTraffic.none();
+        }
+        List<HarEntry> entries = har.getLog().getEntries();
+        String pageUrl = null;
+        long totalBytes = 0;
+        long firstRequestStart = Long.MAX_VALUE;
+        long lastResponseEnd = Long.MIN_VALUE;
+        List<NetworkTraffic.ResourceTiming> resources = Lists.newArrayList();
+
+        for (HarEntry entry : entries) {
+            String url = entry.getRequest().getUrl();
+            if (pageUrl == null) {
+                pageUrl = url;
+            }
+            long bytes = bytesReceivedFor(entry.getResponse());
+            totalBytes += bytes;
+            if (entry.getStartedDateTime() != null) {
+                long start = entry.getStartedDateTime().getTime();
+                firstRequestStart = Math.min(firstRequestStart, start);
+                lastResponseEnd = Math.max(lastResponseEnd, start + entry.getTime());
+            }
+            resources.add(new NetworkTraffic.ResourceTiming(url, entry.getTime(), bytes));
+        }
+        long loadTime = (lastResponseEnd >= firstRequestStart) ? lastResponseEnd - firstRequestStart : 0;
+        return new NetworkTraffic(pageUrl, entries.size(), totalBytes, loadTime, resources);
+    }
+
+    private static long bytesReceivedFor(HarResponse response) {
+        if (response == null) {
+            return 0;
+        }
+        return Math.max(0, response.getBodySize()) + Math.max(0, response.getHeadersSize());
+    }
+}
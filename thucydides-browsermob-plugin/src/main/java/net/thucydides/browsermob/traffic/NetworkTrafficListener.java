@@ -0,0 +1,177 @@
+package net.thucydides.browsermob.traffic;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
+import net.thucydides.browsermob.fixtureservices.BrowserMobFixtureService;
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.model.DataTable;
+import net.thucydides.core.model.NetworkTraffic;
+import net.thucydides.core.model.Story;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.steps.ExecutedStepDescription;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.steps.StepFailure;
+import net.thucydides.core.steps.StepListener;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.browsermob.proxy.ProxyServer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+
+/**
+ * Records the network traffic seen by the BrowserMob proxy during each test step, and checks it against the
+ * configured traffic budgets. A new HAR is started whenever a step starts or a nested step finishes. The traffic
+ * in the previous HAR is first added to the step that was running, so a step that has nested steps records the
+ * traffic from before, between and after them.
+ * This listener is registered automatically when the BrowserMob plugin is on the classpath, but only records
+ * anything if traffic capture or a traffic budget has been configured.
+ */
+public class NetworkTrafficListener implements StepListener {
+
+    private final TrafficBudget budget;
+    private final Stack<Optional<TestStep>> runningSteps = new Stack<Optional<TestStep>>();
+
+    public NetworkTrafficListener() {
+        this(Injectors.getInjector().getInstance(EnvironmentVariables.class));
+    }
+
+    public NetworkTrafficListener(EnvironmentVariables environmentVariables) {
+        this.budget = TrafficBudget.from(environmentVariables);
+    }
+
+    @Override
+    public void testStarted(String description) {
+        runningSteps.clear();
+    }
+
+    @Override
+    public void stepStarted(ExecutedStepDescription description) {
+        startRecordingTrafficFor(description.getName());
+    }
+
+    @Override
+    public void skippedStepStarted(ExecutedStepDescription description) {
+        startRecordingTrafficFor(description.getName());
+    }
+
+    @Override
+    public void stepFinished() {
+        stepDone();
+    }
+
+    @Override
+    public void stepFailed(StepFailure failure) {
+        stepDone();
+    }
+
+    @Override
+    public void stepIgnored() {
+        stepDone();
+    }
+
+    @Override
+    public void stepPending() {
+        stepDone();
+    }
+
+    @Override
+    public void stepPending(String message) {
+        stepDone();
+    }
+
+    @Override
+    public void assumptionViolated(String message) {
+        stepDone();
+    }
+
+    private void stepDone() {
+        if (runningSteps.isEmpty()) {
+            return;
+        }
+        Optional<TestStep> finishedStep = runningSteps.pop();
+        Optional<ProxyServer> proxyServer = activeProxyServer();
+        if (proxyServer.isPresent()) {
+            recordTrafficFrom(proxyServer.get(), finishedStep);
+            if (!runningSteps.isEmpty()) {
+                proxyServer.get().newHar("step-" + runningSteps.size());
+            }
+        }
+    }
+
+    /**
+     * The base step listener is notified before this one, so the latest step is the step that has just started.
+     */
+    private void startRecordingTrafficFor(String pageRef) {
+        Optional<ProxyServer> proxyServer = activeProxyServer();
+        if (proxyServer.isPresent()) {
+            if (!runningSteps.isEmpty()) {
+                recordTrafficFrom(proxyServer.get(), runningSteps.peek());
+            }
+            proxyServer.get().newHar(pageRef);
+        }
+        runningSteps.push(StepEventBus.getEventBus().getLatestStep());
+    }
+
+    private void recordTrafficFrom(ProxyServer proxyServer, Optional<TestStep> step) {
+        NetworkTraffic traffic = HarSummary.of(proxyServer.getHar());
+        if (step.isPresent() && !traffic.isEmpty()) {
+            recordTraffic(step.get(), traffic);
+        }
+    }
+
+    protected void recordTraffic(TestStep step, NetworkTraffic traffic) {
+        if (step.hasNetworkTraffic()) {
+            traffic = step.getNetworkTraffic().plus(traffic);
+        }
+        List<String> violations = budget.violationsIn(traffic);
+        step.setNetworkTraffic(traffic.withBudgetViolations(violations));
+        if (!violations.isEmpty() && budget.failsStepsOverBudget() && !step.isFailure() && !step.isError()) {
+            step.failedWith(new AssertionError("Network traffic over budget: " + Joiner.on("; ").join(violations)));
+        }
+    }
+
+    private Optional<ProxyServer> activeProxyServer() {
+        if (!budget.capturesTraffic()) {
+            return Optional.absent();
+        }
+        return BrowserMobFixtureService.getActiveProxyServer();
+    }
+
+    @Override
+    public void testSuiteStarted(Class<?> storyClass) {}
+
+    @Override
+    public void testSuiteStarted(Story story) {}
+
+    @Override
+    public void testSuiteFinished() {}
+
+    @Override
+    public void testFinished(TestOutcome result) {}
+
+    @Override
+    public void testRetried() {}
+
+    @Override
+    public void lastStepFailed(StepFailure failure) {}
+
+    @Override
+    public void testFailed(TestOutcome testOutcome, Throwable cause) {}
+
+    @Override
+    public void testIgnored() {}
+
+    @Override
+    public void notifyScreenChange() {}
+
+    @Override
+    public void useExamplesFrom(DataTable table) {}
+
+    @Override
+    public void exampleStarted(Map<String, String> data) {}
+
+    @Override
+    public void exampleFinished() {}
+}
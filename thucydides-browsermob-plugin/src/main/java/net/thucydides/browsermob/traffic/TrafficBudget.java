@@ -0,0 +1,68 @@
+package net.thucydides.browsermob.traffic;
+
+import com.google.common.collect.Lists;
+import net.thucydides.browsermob.fixtureservices.BrowserMobSystemProperties;
+import net.thucydides.core.model.NetworkTraffic;
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.util.List;
+
+/**
+ * The limits on the network traffic of a single test step, as configured in the browser.mob.budget.* properties.
+ * A value of zero (the default) means there is no limit.
+ */
+public class TrafficBudget {
+
+    private final boolean captureTraffic;
+    private final int maximumRequests;
+    private final long maximumBytes;
+    private final long maximumLoadTime;
+    private final boolean failStepsOverBudget;
+
+    private TrafficBudget(boolean captureTraffic,
+                          int maximumRequests,
+                          long maximumBytes,
+                          long maximumLoadTime,
+                          boolean failStepsOverBudget) {
+        this.captureTraffic = captureTraffic;
+        this.maximumRequests = maximumRequests;
+        this.maximumBytes = maximumBytes;
+        this.maximumLoadTime = maximumLoadTime;
+        this.failStepsOverBudget = failStepsOverBudget;
+    }
+
+    public static TrafficBudget from(EnvironmentVariables environmentVariables) {
+        return new TrafficBudget(
+                environmentVariables.getPropertyAsBoolean(BrowserMobSystemProperties.BROWSER_MOB_CAPTURE_TRAFFIC, false),
+                environmentVariables.getPropertyAsInteger(BrowserMobSystemProperties.BROWSER_MOB_BUDGET_REQUESTS, 0),
+                environmentVariables.getPropertyAsInteger(BrowserMobSystemProperties.BROWSER_MOB_BUDGET_BYTES, 0),
+                environmentVariables.getPropertyAsInteger(BrowserMobSystemProperties.BROWSER_MOB_BUDGET_LOAD_TIME, 0),
+                "fail".equalsIgnoreCase(environmentVariables.getProperty(BrowserMobSystemProperties.BROWSER_MOB_BUDGET_ACTION, "flag")));
+    }
+
+    public boolean capturesTraffic() {
+        return captureTraffic || isDefined();
+    }
+
+    public boolean isDefined() {
+        return (maximumRequests > 0) || (maximumBytes > 0) || (maximumLoadTime > 0);
+    }
+
+    public boolean failsStepsOverBudget() {
+        return failStepsOverBudget;
+    }
+
+    public List<String> violationsIn(NetworkTraffic traffic) {
+        List<String> violations = Lists.newArrayList();
+        if ((maximumRequests > 0) && (traffic.getRequestCount() > maximumRequests)) {
+            violations.add("Made " + traffic.getRequestCount() + " requests (budget: " + maximumRequests + ")");
+        }
+        if ((maximumBytes > 0) && (traffic.getTotalBytes() > maximumBytes)) {
+            violations.add("Downloaded " + traffic.getTotalBytes() + " bytes (budget: " + maximumBytes + ")");
+        }
+        if ((maximumLoadTime > 0) && (traffic.getLoadTime() > maximumLoadTime)) {
+            violations.add("Took " + traffic.getLoadTime() + " ms to load (budget: " + maximumLoadTime + " ms)");
+        }
+        return violations;
+    }
+}
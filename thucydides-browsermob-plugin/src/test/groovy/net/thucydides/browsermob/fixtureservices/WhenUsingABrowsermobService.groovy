@@ -170,6 +170,76 @@ class WhenUsingABrowsermobService extends Specification {
             noExceptionThrown()
     }
 
+    def "should allocate different ports to proxies started at the same time"() {
+        given:
+            def allocator = new PortAllocator(49152, 1000)
+            def allocatedPorts = new Vector<Integer>()
+            def portCheck = { true } as PortAllocator.PortCheck
+        when:
+            def threads = (1..8).collect {
+                Thread.start {
+                    for (i in 1..10) {
+                        allocatedPorts << allocator.allocatePort(5555, portCheck)
+                    }
+                }
+            }
+            threads*.join()
+        then:
+            allocatedPorts.size() == 80
+            allocatedPorts.unique(false).size() == 80
+        cleanup:
+            allocatedPorts.each { allocator.release(it) }
+    }
+
+    def "should reuse a shared proxy once the browser using it has finished"() {
+        given:
+            environmentVariables.setProperty("browser.mob.shared.proxies","true")
+            service = new BrowserMobFixtureService(environmentVariables)
+            service.setup()
+            def firstProxy = service.proxyServer
+            service.shutdown()
+        when:
+            service.setup()
+        then:
+            service.proxyServer.is(firstProxy)
+    }
+
+    def "should not hand on a shared proxy whose configuration was changed"() {
+        given:
+            environmentVariables.setProperty("browser.mob.shared.proxies","true")
+            service = new BrowserMobFixtureService(environmentVariables)
+            service.setup()
+            def customisedProxy = service.proxyServer
+            customisedProxy.blacklistRequests("http://ads.example.com/.*", 404)
+            service.shutdown()
+        when:
+            service.setup()
+        then:
+            !service.proxyServer.is(customisedProxy)
+            !SharedProxyPool.instance.returnProxy(customisedProxy)
+    }
+
+    def "should give each thread its own proxy when proxies are shared"() {
+        given:
+            environmentVariables.setProperty("browser.mob.shared.proxies","true")
+            service = new BrowserMobFixtureService(environmentVariables)
+            service.setup()
+        and:
+            def proxyUsedInAnotherThread
+            def thread = Thread.start {
+                service2 = new BrowserMobFixtureService(environmentVariables)
+                service2.setup()
+                proxyUsedInAnotherThread = service2.proxyServer
+                service2.shutdown()
+                service2 = null
+            }
+        when:
+            thread.join()
+        then:
+            !proxyUsedInAnotherThread.is(service.proxyServer)
+            proxyUsedInAnotherThread.port != service.proxyServer.port
+    }
+
     def cleanup() {
         if (service) {
             service.shutdown()
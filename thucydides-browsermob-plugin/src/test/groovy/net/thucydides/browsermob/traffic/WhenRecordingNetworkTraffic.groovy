@@ -0,0 +1,129 @@
+package net.thucydides.browsermob.traffic
+
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpHandler
+import com.sun.net.httpserver.HttpServer
+import net.thucydides.browsermob.fixtureservices.BrowserMobFixtureService
+import net.thucydides.core.model.NetworkTraffic
+import net.thucydides.core.model.TestResult
+import net.thucydides.core.model.TestStep
+import net.thucydides.core.steps.BaseStepListener
+import net.thucydides.core.steps.ExecutedStepDescription
+import net.thucydides.core.steps.StepEventBus
+import net.thucydides.core.util.MockEnvironmentVariables
+import spock.lang.Specification
+
+class WhenRecordingNetworkTraffic extends Specification {
+
+    def environmentVariables = new MockEnvironmentVariables()
+    BrowserMobFixtureService service
+    HttpServer server
+
+    def setup() {
+        server = HttpServer.create(new InetSocketAddress(0), 0)
+        server.createContext("/", { HttpExchange exchange ->
+            def body = ("x" * 2048).bytes
+            exchange.sendResponseHeaders(200, body.length)
+            exchange.responseBody.write(body)
+            exchange.close()
+        } as HttpHandler)
+        server.start()
+    }
+
+    def "should summarize the traffic that went through the proxy"() {
+        given:
+            environmentVariables.setProperty("browser.mob.capture.traffic", "true")
+            service = new BrowserMobFixtureService(environmentVariables)
+            service.setup()
+        when:
+            fetchThroughProxy("/index.html")
+            fetchThroughProxy("/style.css")
+            def traffic = HarSummary.of(service.har)
+        then:
+            traffic.requestCount == 2
+            traffic.totalBytes >= 4096
+            traffic.pageUrl.endsWith("/index.html")
+            traffic.slowestResources.size() == 2
+    }
+
+    def "should flag steps that go over the traffic budget"() {
+        given:
+            environmentVariables.setProperty("browser.mob.budget.requests", "5")
+            def listener = new NetworkTrafficListener(environmentVariables)
+            def step = TestStep.forStepCalled("a step").withResult(TestResult.SUCCESS)
+        when:
+            listener.recordTraffic(step, new NetworkTraffic("http://localhost/", 6, 1000, 100, []))
+        then:
+            step.networkTraffic.overBudget
+            step.result == TestResult.SUCCESS
+    }
+
+    def "should fail steps that go over the traffic budget if requested"() {
+        given:
+            environmentVariables.setProperty("browser.mob.budget.load.time", "500")
+            environmentVariables.setProperty("browser.mob.budget.action", "fail")
+            def listener = new NetworkTrafficListener(environmentVariables)
+            def step = TestStep.forStepCalled("a step").withResult(TestResult.SUCCESS)
+        when:
+            listener.recordTraffic(step, new NetworkTraffic("http://localhost/", 6, 1000, 800, []))
+        then:
+            step.result == TestResult.FAILURE
+            step.errorMessage.contains("800 ms")
+    }
+
+    def "should keep the traffic of a step from before and after its nested steps"() {
+        given:
+            environmentVariables.setProperty("browser.mob.capture.traffic", "true")
+            service = new BrowserMobFixtureService(environmentVariables)
+            service.setup()
+            def baseStepListener = new BaseStepListener(File.createTempFile("thucydides", "outcomes").parentFile)
+            def eventBus = StepEventBus.eventBus
+            eventBus.registerListener(baseStepListener)
+            def listener = new NetworkTrafficListener(environmentVariables)
+            eventBus.testStarted("a_test")
+        when:
+            startStep(eventBus, listener, "a step")
+            fetchThroughProxy("/before.html")
+            startStep(eventBus, listener, "a nested step")
+            fetchThroughProxy("/nested.html")
+            finishStep(eventBus, listener)
+            fetchThroughProxy("/after.html")
+            finishStep(eventBus, listener)
+            def outcome = baseStepListener.testOutcomes[0]
+        then:
+            outcome.testSteps[0].networkTraffic.requestCount == 2
+            outcome.testSteps[0].children[0].networkTraffic.requestCount == 1
+            outcome.networkTraffic.requestCount == 3
+        cleanup:
+            eventBus.dropListener(baseStepListener)
+            eventBus.clear()
+    }
+
+    def startStep(StepEventBus eventBus, NetworkTrafficListener listener, String name) {
+        eventBus.stepStarted(ExecutedStepDescription.withTitle(name))
+        listener.stepStarted(ExecutedStepDescription.withTitle(name))
+    }
+
+    def finishStep(StepEventBus eventBus, NetworkTrafficListener listener) {
+        eventBus.stepFinished()
+        listener.stepFinished()
+    }
+
+    def "should not record traffic unless capture or a budget is configured"() {
+        expect:
+            !TrafficBudget.from(environmentVariables).capturesTraffic()
+    }
+
+    def fetchThroughProxy(String path) {
+        def proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress("localhost", service.port))
+        def connection = new URL("http://localhost:${server.address.port}${path}").openConnection(proxy)
+        connection.inputStream.bytes
+    }
+
+    def cleanup() {
+        if (service) {
+            service.shutdown()
+        }
+        server.stop(0)
+    }
+}
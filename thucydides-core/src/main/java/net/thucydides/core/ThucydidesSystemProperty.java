@@ -291,6 +291,29 @@ public enum ThucydidesSystemProperty {
      */
     BATCH_NUMBER("thucydides.batch.number"),
 
+    /**
+     * Run the tests that failed or broke in the previous run before the other tests of the same test case.
+     * The previous results are read from the test outcomes left in the output directory.
+     */
+    RERUN_FAILED_TESTS_FIRST("thucydides.rerun.failed.tests.first"),
+
+    /**
+     * Only run the tests that failed or broke in the previous run.
+     * Tests that have no outcome from the previous run, such as new tests, are run as well.
+     */
+    RERUN_FAILED_TESTS_ONLY("thucydides.rerun.failed.tests.only"),
+
+    /**
+     * Where to find the test outcomes of the previous run, if not in the output directory.
+     */
+    RERUN_OUTCOMES_DIRECTORY("thucydides.rerun.outcomes.directory"),
+
+    /**
+     * Stop running the tests of the current batch once this many tests have failed or broken.
+     * Not set (or 0) to run every test.
+     */
+    FAIL_FAST_THRESHOLD("thucydides.fail.fast.threshold"),
+
     /**
      * HTTP Proxy URL configuration for Firefox and PhantomJS
      */
@@ -504,6 +527,61 @@ public enum ThucydidesSystemProperty {
      */
     THUCYDIDES_KEEP_UNSCALED_SCREENSHOTS("thucydides.keep.unscaled.screenshots"),
 
+    /**
+     * How screenshots are given a uniform height in the screenshot reports.
+     * 'image' (the default) pads the screenshot files themselves, which means decoding and rewriting every image.
+     * 'html' leaves the files untouched and sizes the screenshot viewer in the report page instead.
+     */
+    THUCYDIDES_SCREENSHOT_PADDING("thucydides.screenshot.padding"),
+
+    /**
+     * If set to true, optional screenshots are skipped when neither the URL nor the page contents have changed
+     * since the last screenshot. Screenshots for failures and explicitly requested screenshots are always taken.
+     */
+    THUCYDIDES_SCREENSHOT_SKIP_UNCHANGED("thucydides.screenshot.skip.unchanged"),
+
+    /**
+     * The maximum number of optional screenshots to take in a single test. Screenshots for failures and explicitly
+     * requested screenshots are always taken and do not count towards the budget. Unlimited by default.
+     */
+    THUCYDIDES_SCREENSHOT_BUDGET("thucydides.screenshot.budget"),
+
+    /**
+     * The minimum time, in milliseconds, between two optional screenshots in the same test.
+     * Screenshots for failures and explicitly requested screenshots are always taken. 0 by default.
+     */
+    THUCYDIDES_SCREENSHOT_MINIMUM_INTERVAL("thucydides.screenshot.minimum.interval"),
+
+    /**
+     * If set to true, the browser's Navigation Timing data (time to first byte, DOM content loaded, page load and so on)
+     * is recorded each time a page is opened, and summarized in a page performance report. Defaults to false.
+     */
+    THUCYDIDES_RECORD_NAVIGATION_TIMING("thucydides.record.navigation.timing"),
+
+    /**
+     * A comma-separated list of custom step listeners (simple or fully-qualified class names) that should receive
+     * their events on a background thread rather than on the test thread.
+     * Listeners annotated with @AsynchronousListener are always notified in the background.
+     */
+    THUCYDIDES_ASYNCHRONOUS_LISTENERS("thucydides.asynchronous.listeners"),
+
+    /**
+     * How many step events can be queued for each asynchronous listener. 1024 by default.
+     */
+    THUCYDIDES_ASYNCHRONOUS_LISTENER_BUFFER("thucydides.asynchronous.listener.buffer"),
+
+    /**
+     * What to do when an asynchronous listener falls so far behind that its event buffer is full:
+     * 'block' (the default) makes the test wait for space in the buffer, 'drop' discards the new event.
+     */
+    THUCYDIDES_ASYNCHRONOUS_LISTENER_OVERFLOW("thucydides.asynchronous.listener.overflow"),
+
+    /**
+     * The file in which the index of annotated test classes is kept between runs, e.g. target/annotation-index.ser.
+     * By default the index is only kept in memory.
+     */
+    THUCYDIDES_ANNOTATION_INDEX("thucydides.annotation.index"),
+
     /**
      * If provided, only classes and/or methods with tags in this list will be executed. The parameter expects
      * a tag or comma-separated list of tags in the shortened form.
@@ -526,11 +604,29 @@ public enum ThucydidesSystemProperty {
      */
     THUCYDIDES_NARRATIVE_FORMAT("narrative.format"),
 
+    /**
+     * The maximum number of Asciidoctor instances used to render Asciidoc narratives in parallel.
+     * Each one runs in its own JRuby runtime. Defaults to the number of processors, up to 4.
+     */
+    THUCYDIDES_ASCIIDOC_RENDERERS("thucydides.asciidoc.renderers"),
+
     /**
      * Internal report format used when loading test outcome reports during aggregation - json or xml (xml by default)
      */
     THUCYDIDES_REPORT_FORMAT("thucydides.report.format"),
 
+    /**
+     * Report formats to be generated when importing external test results - a comma-separated list
+     * of xml, json and html (all three by default).
+     */
+    THUCYDIDES_IMPORT_FORMATS("thucydides.import.formats"),
+
+    /**
+     * Number of threads used to write reports when importing external test results.
+     * Defaults to the number of available processors.
+     */
+    THUCYDIDES_IMPORT_THREADS("thucydides.import.threads"),
+
     /**
      * Path to PhantomJS executable
      */
@@ -0,0 +1,17 @@
+package net.thucydides.core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a custom step listener that can receive its events on a background thread, so that a slow listener
+ * (e.g. one that publishes results to a remote dashboard) does not slow down the tests.
+ * Listeners that need to change the outcome of a test should not be asynchronous.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface AsynchronousListener {
+
+}
@@ -0,0 +1,110 @@
+package net.thucydides.core.batches;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.webdriver.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.thucydides.core.ThucydidesSystemProperty.FAIL_FAST_THRESHOLD;
+import static net.thucydides.core.ThucydidesSystemProperty.RERUN_FAILED_TESTS_FIRST;
+import static net.thucydides.core.ThucydidesSystemProperty.RERUN_FAILED_TESTS_ONLY;
+import static net.thucydides.core.ThucydidesSystemProperty.RERUN_OUTCOMES_DIRECTORY;
+
+/**
+ * Gets feedback on failing builds sooner, by running the tests that failed in the previous run first
+ * ("thucydides.rerun.failed.tests.first"), or only those tests ("thucydides.rerun.failed.tests.only"),
+ * and by skipping the rest of the batch once enough tests have failed ("thucydides.fail.fast.threshold").
+ * The batch managers still decide which test cases belong to the current batch; the test runners then
+ * use this class to decide in what order, and whether, to run the tests of each test case.
+ */
+@Singleton
+public class FailureFeedback {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FailureFeedback.class);
+
+    private final boolean failedTestsFirst;
+    private final boolean failedTestsOnly;
+    private final int failFastThreshold;
+    private final PreviousTestRun previousTestRun;
+    private final AtomicInteger failureCount = new AtomicInteger(0);
+
+    @Inject
+    public FailureFeedback(final Configuration configuration) {
+        this(configuration.getEnvironmentVariables(), configuration.getOutputDirectory());
+    }
+
+    /**
+     * The previous test outcomes are read straight away, before this run replaces them.
+     */
+    public FailureFeedback(final EnvironmentVariables environmentVariables, final File outputDirectory) {
+        this.failedTestsFirst = environmentVariables.getPropertyAsBoolean(RERUN_FAILED_TESTS_FIRST, false);
+        this.failedTestsOnly = environmentVariables.getPropertyAsBoolean(RERUN_FAILED_TESTS_ONLY, false);
+        this.failFastThreshold = environmentVariables.getPropertyAsInteger(FAIL_FAST_THRESHOLD, 0);
+        if (failedTestsFirst || failedTestsOnly) {
+            String outcomeDirectory = RERUN_OUTCOMES_DIRECTORY.from(environmentVariables,
+                                                                    outputDirectory.getAbsolutePath());
+            this.previousTestRun = PreviousTestRun.loadFrom(new File(outcomeDirectory), environmentVariables);
+        } else {
+            this.previousTestRun = PreviousTestRun.none();
+        }
+    }
+
+    /**
+     * @return true if tests that failed in the previous run should be run before the others.
+     */
+    public boolean runFailedTestsFirst() {
+        return (failedTestsFirst || failedTestsOnly) && !previousTestRun.isEmpty();
+    }
+
+    public boolean previouslyFailed(final Class<?> testCase, final String methodName) {
+        return previousTestRun.hasFailed(testCase, methodName);
+    }
+
+    public boolean previouslyFailedWithData(final Class<?> testCase, final List<?> rowValues) {
+        return previousTestRun.hasFailedWithData(testCase, rowValues);
+    }
+
+    /**
+     * In "failed tests only" mode, a test case is run if it failed last time, or if it was not run at all.
+     */
+    public boolean shouldRun(final Class<?> testCase) {
+        if (failureThresholdReached()) {
+            return false;
+        }
+        return !failedTestsOnly || !previousTestRun.hasRun(testCase) || previousTestRun.hasFailed(testCase);
+    }
+
+    public boolean shouldRun(final Class<?> testCase, final String methodName) {
+        if (failureThresholdReached()) {
+            return false;
+        }
+        return !failedTestsOnly
+                || !previousTestRun.hasRun(testCase, methodName)
+                || previousTestRun.hasFailed(testCase, methodName);
+    }
+
+    public boolean shouldRunWithData(final Class<?> testCase, final List<?> rowValues) {
+        return !failedTestsOnly
+                || !previousTestRun.hasRunWithData(testCase, rowValues)
+                || previousTestRun.hasFailedWithData(testCase, rowValues);
+    }
+
+    /**
+     * Called whenever a test fails or breaks in this run.
+     */
+    public void recordFailure() {
+        if (failureCount.incrementAndGet() == failFastThreshold) {
+            LOGGER.warn(failFastThreshold + " tests have failed: skipping the remaining tests of this batch");
+        }
+    }
+
+    public boolean failureThresholdReached() {
+        return (failFastThreshold > 0) && (failureCount.get() >= failFastThreshold);
+    }
+}
@@ -0,0 +1,129 @@
+package net.thucydides.core.batches;
+
+import com.google.common.collect.ImmutableList;
+import net.thucydides.core.model.DataTableRow;
+import net.thucydides.core.model.Story;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.reports.TestOutcomeLoader;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * What happened to each test the last time it was run, as recorded in the test outcomes left in a directory.
+ * Test cases are identified by their user story, and data-driven tests by the values of each row of test data.
+ */
+public class PreviousTestRun {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreviousTestRun.class);
+
+    private final Set<String> testCasesRun = new HashSet<String>();
+    private final Set<String> failedTestCases = new HashSet<String>();
+    private final Set<String> testsRun = new HashSet<String>();
+    private final Set<String> failedTests = new HashSet<String>();
+    private final Set<String> dataRowsRun = new HashSet<String>();
+    private final Set<String> failedDataRows = new HashSet<String>();
+
+    PreviousTestRun(final List<TestOutcome> testOutcomes) {
+        for (TestOutcome testOutcome : testOutcomes) {
+            if (testOutcome.getUserStory() != null) {
+                record(testOutcome);
+            }
+        }
+    }
+
+    /**
+     * Load the results of the previous run from the test outcomes in the given directory.
+     * If there are no test outcomes there, nothing is known about the previous run.
+     */
+    public static PreviousTestRun loadFrom(final File outcomeDirectory, final EnvironmentVariables environmentVariables) {
+        try {
+            return new PreviousTestRun(new TestOutcomeLoader(environmentVariables).loadFrom(outcomeDirectory));
+        } catch (IOException noPreviousOutcomes) {
+            LOGGER.info("No previous test outcomes found in " + outcomeDirectory);
+            return none();
+        }
+    }
+
+    public static PreviousTestRun none() {
+        return new PreviousTestRun(ImmutableList.<TestOutcome>of());
+    }
+
+    private void record(final TestOutcome testOutcome) {
+        String testCase = testOutcome.getUserStory().getId();
+        String test = testKey(testCase, testOutcome.getMethodName());
+        boolean failed = isFailing(testOutcome.getResult());
+
+        testCasesRun.add(testCase);
+        testsRun.add(test);
+        if (failed) {
+            failedTestCases.add(testCase);
+            failedTests.add(test);
+        }
+        if (testOutcome.isDataDriven()) {
+            for (DataTableRow row : testOutcome.getDataTable().getRows()) {
+                String dataRow = dataRowKey(testCase, row.getValues());
+                dataRowsRun.add(dataRow);
+                if (isFailing(row.getResult())) {
+                    failedDataRows.add(dataRow);
+                }
+            }
+        }
+    }
+
+    private boolean isFailing(final TestResult result) {
+        return (result == TestResult.FAILURE) || (result == TestResult.ERROR);
+    }
+
+    public boolean isEmpty() {
+        return testCasesRun.isEmpty();
+    }
+
+    public boolean hasRun(final Class<?> testCase) {
+        return testCasesRun.contains(testCaseKey(testCase));
+    }
+
+    public boolean hasFailed(final Class<?> testCase) {
+        return failedTestCases.contains(testCaseKey(testCase));
+    }
+
+    public boolean hasRun(final Class<?> testCase, final String methodName) {
+        return testsRun.contains(testKey(testCaseKey(testCase), methodName));
+    }
+
+    public boolean hasFailed(final Class<?> testCase, final String methodName) {
+        return failedTests.contains(testKey(testCaseKey(testCase), methodName));
+    }
+
+    public boolean hasRunWithData(final Class<?> testCase, final List<?> rowValues) {
+        return dataRowsRun.contains(dataRowKey(testCaseKey(testCase), rowValues));
+    }
+
+    public boolean hasFailedWithData(final Class<?> testCase, final List<?> rowValues) {
+        return failedDataRows.contains(dataRowKey(testCaseKey(testCase), rowValues));
+    }
+
+    /**
+     * Test outcomes are recorded against the story a test case tests, which is the test case itself
+     * unless it is annotated with @Story.
+     */
+    private String testCaseKey(final Class<?> testCase) {
+        Class<?> storyClass = Story.testedInTestCase(testCase);
+        return Story.from((storyClass != null) ? storyClass : testCase).getId();
+    }
+
+    private String testKey(final String testCase, final String methodName) {
+        return testCase + ":" + methodName;
+    }
+
+    private String dataRowKey(final String testCase, final List<?> rowValues) {
+        return testCase + ":" + String.valueOf(rowValues);
+    }
+}
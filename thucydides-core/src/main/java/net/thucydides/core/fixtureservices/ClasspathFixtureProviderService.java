@@ -1,6 +1,7 @@
 package net.thucydides.core.fixtureservices;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.ServiceLoader;
 
@@ -14,15 +15,16 @@ public class ClasspathFixtureProviderService implements FixtureProviderService {
     private List<FixtureService> fixtureServices;
 
     @Override
-    public List<FixtureService> getFixtureServices() {
+    public synchronized List<FixtureService> getFixtureServices() {
         if (fixtureServices == null) {
-            fixtureServices = new ArrayList<FixtureService>();
+            List<FixtureService> loadedFixtureServices = new ArrayList<FixtureService>();
 
             ServiceLoader<FixtureService> fixtureServiceLoader = ServiceLoader.load(FixtureService.class);
 
             for (FixtureService fixtureService : fixtureServiceLoader) {
-                fixtureServices.add(fixtureService);
+                loadedFixtureServices.add(fixtureService);
             }
+            fixtureServices = Collections.unmodifiableList(loadedFixtureServices);
         }
         return fixtureServices;
     }
@@ -6,22 +6,32 @@ import com.google.inject.Module;
 /**
  * Somewhere to hold the Guice injector.
  * There might be a better way to do this.
+ * The injector is looked up very often from parallel test threads, so it is only locked while it is being created.
  */
 public class Injectors {
 
-    private static Injector injector;
+    private static volatile Injector injector;
 
-    public static synchronized Injector getInjector() {
-        if (injector == null) {
-            injector = Guice.createInjector(new ThucydidesModule());
+    public static Injector getInjector() {
+        Injector currentInjector = injector;
+        if (currentInjector == null) {
+            currentInjector = createInjectorIfNotCreated(new ThucydidesModule());
         }
-        return injector;
+        return currentInjector;
     }
     
-    public static synchronized Injector getInjector(Module module){
-    	if (injector == null) {
-    		injector = Guice.createInjector(module);
-    	}
-    	return injector;
+    public static Injector getInjector(Module module){
+        Injector currentInjector = injector;
+        if (currentInjector == null) {
+            currentInjector = createInjectorIfNotCreated(module);
+        }
+        return currentInjector;
+    }
+
+    private static synchronized Injector createInjectorIfNotCreated(Module module) {
+        if (injector == null) {
+            injector = Guice.createInjector(module);
+        }
+        return injector;
     }
-}
\ No newline at end of file
+}
@@ -15,7 +15,7 @@ public class ResizableImage {
 
     private final File screenshotFile;
     private final SimpleImageInfo imageInfo;
-    private final int MAX_SUPPORTED_HEIGHT = 4000;
+    public static final int MAX_SUPPORTED_HEIGHT = 4000;
 
     private final Logger logger = LoggerFactory.getLogger(ResizableImage.class);
 
@@ -0,0 +1,131 @@
+package net.thucydides.core.images;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Maps;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.Dimension;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the width and height of the screenshots stored in a directory, so that the reports do not need to
+ * open every screenshot file to find out how big it is.
+ * The dimensions are kept in a small file next to the screenshots, one "filename=width,height" line per screenshot.
+ * Lines are only ever appended, and the last line recorded for a screenshot wins.
+ */
+public class ScreenshotDimensions {
+
+    public static final String DIMENSIONS_FILE = "screenshot-dimensions.properties";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScreenshotDimensions.class);
+
+    private static final ConcurrentMap<String, ScreenshotDimensions> DIMENSIONS_BY_DIRECTORY
+            = new ConcurrentHashMap<String, ScreenshotDimensions>();
+
+    private final File dimensionsFile;
+    private final Map<String, Dimension> dimensions = Maps.newHashMap();
+    private long loadedLength = 0;
+
+    public ScreenshotDimensions(final File directory) {
+        this.dimensionsFile = new File(directory, DIMENSIONS_FILE);
+    }
+
+    /**
+     * The shared dimension records for a given screenshot directory.
+     */
+    public static ScreenshotDimensions in(final File directory) {
+        String key = directory.getAbsolutePath();
+        ScreenshotDimensions screenshotDimensions = DIMENSIONS_BY_DIRECTORY.get(key);
+        if (screenshotDimensions == null) {
+            DIMENSIONS_BY_DIRECTORY.putIfAbsent(key, new ScreenshotDimensions(directory));
+            screenshotDimensions = DIMENSIONS_BY_DIRECTORY.get(key);
+        }
+        return screenshotDimensions;
+    }
+
+    public synchronized void record(final String filename, final int width, final int height) {
+        reloadIfChanged();
+        Dimension dimension = new Dimension(width, height);
+        if (dimension.equals(dimensions.get(filename))) {
+            return;
+        }
+        dimensions.put(filename, dimension);
+        appendToDimensionsFile(filename + "=" + width + "," + height + "\n");
+    }
+
+    public synchronized Optional<Dimension> recordedFor(final String filename) {
+        reloadIfChanged();
+        return Optional.fromNullable(dimensions.get(filename));
+    }
+
+    /**
+     * The dimensions of a screenshot file, read from the image header and recorded if they were not already known.
+     */
+    public Dimension of(final File screenshotFile) throws IOException {
+        Optional<Dimension> recordedDimension = recordedFor(screenshotFile.getName());
+        if (recordedDimension.isPresent()) {
+            return recordedDimension.get();
+        }
+        SimpleImageInfo imageInfo = new SimpleImageInfo(screenshotFile);
+        record(screenshotFile.getName(), imageInfo.getWidth(), imageInfo.getHeight());
+        return new Dimension(imageInfo.getWidth(), imageInfo.getHeight());
+    }
+
+    private void appendToDimensionsFile(final String line) {
+        synchronized (ScreenshotDimensions.class) {
+            OutputStream output = null;
+            try {
+                dimensionsFile.getParentFile().mkdirs();
+                output = new FileOutputStream(dimensionsFile, true);
+                output.write(line.getBytes("UTF-8"));
+                output.close();
+                output = null;
+                loadedLength = dimensionsFile.length();
+            } catch (IOException e) {
+                LOGGER.debug("Could not record screenshot dimensions in {}: {}", dimensionsFile, e.getMessage());
+            } finally {
+                IOUtils.closeQuietly(output);
+            }
+        }
+    }
+
+    private void reloadIfChanged() {
+        if (!dimensionsFile.exists() || dimensionsFile.length() == loadedLength) {
+            return;
+        }
+        try {
+            List<String> lines = FileUtils.readLines(dimensionsFile, "UTF-8");
+            for (String line : lines) {
+                addDimensionFrom(line);
+            }
+            loadedLength = dimensionsFile.length();
+        } catch (IOException e) {
+            LOGGER.debug("Could not read screenshot dimensions from {}: {}", dimensionsFile, e.getMessage());
+        }
+    }
+
+    private void addDimensionFrom(final String line) {
+        int separator = line.lastIndexOf('=');
+        int comma = line.lastIndexOf(',');
+        if (separator <= 0 || comma < separator) {
+            return;
+        }
+        try {
+            int width = Integer.parseInt(line.substring(separator + 1, comma).trim());
+            int height = Integer.parseInt(line.substring(comma + 1).trim());
+            dimensions.put(line.substring(0, separator), new Dimension(width, height));
+        } catch (NumberFormatException ignored) {
+            LOGGER.debug("Ignoring invalid screenshot dimensions: {}", line);
+        }
+    }
+}
@@ -25,9 +25,13 @@ public class DataTable {
     private final static List<DataTableRow> NO_ROWS = Lists.newArrayList();
 
     private DataTable(List<String> headers, List<DataTableRow> rows) {
+        this(headers, rows, !rows.isEmpty());
+    }
+
+    private DataTable(List<String> headers, List<DataTableRow> rows, boolean predefinedRows) {
         this.headers = headers;
         this.rows = new CopyOnWriteArrayList(rows);
-        this.predefinedRows = !rows.isEmpty();
+        this.predefinedRows = predefinedRows;
     }
 
     public static DataTableBuilder withHeaders(List<String> headers) {
@@ -85,6 +89,21 @@ public class DataTable {
         currentRow.set(rows.size() -1);
     }
 
+    /**
+     * @return A copy of this table whose rows, and row results, will not change when this table does.
+     */
+    public DataTable copy() {
+        List<DataTableRow> copiedRows = new ArrayList<DataTableRow>();
+        for (DataTableRow row : rows) {
+            DataTableRow copiedRow = new DataTableRow(row.getValues());
+            copiedRow.setResult(row.getResult());
+            copiedRows.add(copiedRow);
+        }
+        DataTable copy = new DataTable(headers, copiedRows, predefinedRows);
+        copy.currentRow.set(currentRow.get());
+        return copy;
+    }
+
     public boolean hasPredefinedRows() {
         return predefinedRows;
     }
@@ -0,0 +1,165 @@
+package net.thucydides.core.model;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A summary of the network traffic recorded while a test step was running, e.g. by a recording proxy.
+ * Only the totals and the slowest few resources are kept, rather than every request and response.
+ * Budget violations are recorded against the traffic when a step goes over one of the configured budgets.
+ */
+public class NetworkTraffic {
+
+    public static final int SLOWEST_RESOURCE_COUNT = 5;
+
+    private final String pageUrl;
+    private final int requestCount;
+    private final long totalBytes;
+    private final long loadTime;
+    private final List<ResourceTiming> slowestResources;
+    private final List<String> budgetViolations;
+
+    private static final NetworkTraffic NO_TRAFFIC = new NetworkTraffic(null, 0, 0, 0, Collections.<ResourceTiming>emptyList());
+
+    public NetworkTraffic(final String pageUrl,
+                          final int requestCount,
+                          final long totalBytes,
+                          final long loadTime,
+                          final List<ResourceTiming> slowestResources) {
+        this(pageUrl, requestCount, totalBytes, loadTime, slowestResources, Collections.<String>emptyList());
+    }
+
+    public NetworkTraffic(final String pageUrl,
+                          final int requestCount,
+                          final long totalBytes,
+                          final long loadTime,
+                          final List<ResourceTiming> slowestResources,
+                          final List<String> budgetViolations) {
+        this.pageUrl = pageUrl;
+        this.requestCount = requestCount;
+        this.totalBytes = totalBytes;
+        this.loadTime = loadTime;
+        this.slowestResources = ImmutableList.copyOf(slowest(slowestResources));
+        this.budgetViolations = ImmutableList.copyOf(budgetViolations);
+    }
+
+    public static NetworkTraffic none() {
+        return NO_TRAFFIC;
+    }
+
+    /**
+     * The URL of the first document requested, which is usually the page that was being loaded.
+     */
+    public String getPageUrl() {
+        return pageUrl;
+    }
+
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * The time in milliseconds between the start of the first request and the end of the last response.
+     */
+    public long getLoadTime() {
+        return loadTime;
+    }
+
+    public List<ResourceTiming> getSlowestResources() {
+        return (slowestResources == null) ? Collections.<ResourceTiming>emptyList() : slowestResources;
+    }
+
+    public List<String> getBudgetViolations() {
+        return (budgetViolations == null) ? Collections.<String>emptyList() : budgetViolations;
+    }
+
+    public boolean isOverBudget() {
+        return !getBudgetViolations().isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return requestCount == 0;
+    }
+
+    public NetworkTraffic withBudgetViolations(final List<String> violations) {
+        return new NetworkTraffic(pageUrl, requestCount, totalBytes, loadTime, getSlowestResources(), violations);
+    }
+
+    /**
+     * The combined traffic of two steps, keeping the slowest resources of both.
+     */
+    public NetworkTraffic plus(final NetworkTraffic otherTraffic) {
+        List<ResourceTiming> combinedResources = Lists.newArrayList(getSlowestResources());
+        combinedResources.addAll(otherTraffic.getSlowestResources());
+        List<String> combinedViolations = Lists.newArrayList(getBudgetViolations());
+        combinedViolations.addAll(otherTraffic.getBudgetViolations());
+
+        return new NetworkTraffic((pageUrl != null) ? pageUrl : otherTraffic.getPageUrl(),
+                                  requestCount + otherTraffic.getRequestCount(),
+                                  totalBytes + otherTraffic.getTotalBytes(),
+                                  loadTime + otherTraffic.getLoadTime(),
+                                  combinedResources,
+                                  combinedViolations);
+    }
+
+    private static List<ResourceTiming> slowest(final List<ResourceTiming> resources) {
+        if (resources == null) {
+            return Collections.emptyList();
+        }
+        List<ResourceTiming> sortedResources = Lists.newArrayList(resources);
+        Collections.sort(sortedResources, SLOWEST_FIRST);
+        return sortedResources.subList(0, Math.min(SLOWEST_RESOURCE_COUNT, sortedResources.size()));
+    }
+
+    private static final Comparator<ResourceTiming> SLOWEST_FIRST = new Comparator<ResourceTiming>() {
+        @Override
+        public int compare(ResourceTiming resource1, ResourceTiming resource2) {
+            return (resource1.getTime() < resource2.getTime()) ? 1 : ((resource1.getTime() == resource2.getTime()) ? 0 : -1);
+        }
+    };
+
+    @Override
+    public String toString() {
+        return "NetworkTraffic{" +
+                "pageUrl='" + pageUrl + '\'' +
+                ", requestCount=" + requestCount +
+                ", totalBytes=" + totalBytes +
+                ", loadTime=" + loadTime +
+                '}';
+    }
+
+    /**
+     * The time taken to fetch a single resource.
+     */
+    public static class ResourceTiming {
+        private final String url;
+        private final long time;
+        private final long bytes;
+
+        public ResourceTiming(final String url, final long time, final long bytes) {
+            this.url = url;
+            this.time = time;
+            this.bytes = bytes;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+    }
+}
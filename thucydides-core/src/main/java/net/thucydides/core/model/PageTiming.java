@@ -0,0 +1,87 @@
+package net.thucydides.core.model;
+
+/**
+ * The Navigation Timing figures reported by the browser for one page visit.
+ * All of the times are in milliseconds, measured from the start of the navigation.
+ */
+public class PageTiming {
+
+    private final String url;
+    private final String urlPattern;
+    private final long redirectTime;
+    private final long domainLookupTime;
+    private final long connectTime;
+    private final long timeToFirstByte;
+    private final long domInteractive;
+    private final long domContentLoaded;
+    private final long pageLoad;
+
+    public PageTiming(final String url,
+                      final String urlPattern,
+                      final long redirectTime,
+                      final long domainLookupTime,
+                      final long connectTime,
+                      final long timeToFirstByte,
+                      final long domInteractive,
+                      final long domContentLoaded,
+                      final long pageLoad) {
+        this.url = url;
+        this.urlPattern = urlPattern;
+        this.redirectTime = redirectTime;
+        this.domainLookupTime = domainLookupTime;
+        this.connectTime = connectTime;
+        this.timeToFirstByte = timeToFirstByte;
+        this.domInteractive = domInteractive;
+        this.domContentLoaded = domContentLoaded;
+        this.pageLoad = pageLoad;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * The URL template of the page that was opened, used to group visits to the same page with different parameters.
+     */
+    public String getUrlPattern() {
+        return (urlPattern != null) ? urlPattern : url;
+    }
+
+    public long getRedirectTime() {
+        return redirectTime;
+    }
+
+    public long getDomainLookupTime() {
+        return domainLookupTime;
+    }
+
+    public long getConnectTime() {
+        return connectTime;
+    }
+
+    public long getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    public long getDomInteractive() {
+        return domInteractive;
+    }
+
+    public long getDomContentLoaded() {
+        return domContentLoaded;
+    }
+
+    public long getPageLoad() {
+        return pageLoad;
+    }
+
+    @Override
+    public String toString() {
+        return "PageTiming{" +
+                "url='" + url + '\'' +
+                ", timeToFirstByte=" + timeToFirstByte +
+                ", domContentLoaded=" + domContentLoaded +
+                ", pageLoad=" + pageLoad +
+                '}';
+    }
+}
@@ -258,7 +258,7 @@ public class TestOutcome {
         this.issues = removeDuplicates(issues);
         this.additionalVersions = removeDuplicates(additionalVersions);
         this.additionalIssues = additionalIssues;
-        this.tags = tags;
+        this.tags = (tags == null) ? null : ImmutableSet.copyOf(tags);
         this.userStory = userStory;
         this.testFailureCause = testFailureCause;
         this.qualifier = qualifier;
@@ -356,6 +356,37 @@ public class TestOutcome {
         }
     }
 
+    /**
+     * @return A copy of this test outcome, including its test steps and test data, that will not change
+     * when this test outcome does.
+     */
+    public TestOutcome copy() {
+        List<TestStep> copiedSteps = new ArrayList<TestStep>();
+        for (TestStep step : testSteps) {
+            copiedSteps.add(step.copyWithChildren());
+        }
+        TestOutcome copy = new TestOutcome(this.startTime,
+                this.duration,
+                this.title,
+                this.description,
+                this.methodName,
+                this.testCase,
+                copiedSteps,
+                this.issues,
+                (this.additionalIssues == null) ? null : new ArrayList<String>(this.additionalIssues),
+                this.tags,
+                this.userStory,
+                this.testFailureCause,
+                this.annotatedResult,
+                (this.dataTable == null) ? null : this.dataTable.copy(),
+                this.qualifier,
+                this.manualTest);
+        copy.versions = (this.versions == null) ? null : new ArrayList<String>(this.versions);
+        copy.additionalVersions = new ArrayList<String>(this.additionalVersions);
+        copy.sessionId = this.sessionId;
+        return copy;
+    }
+
     private void initializeStoryFrom(final Class<?> testCase) {
         Story story;
         if (Story.testedInTestCase(testCase) != null) {
@@ -582,6 +613,64 @@ public class TestOutcome {
         return ImmutableList.copyOf(flattenedTestSteps);
     }
 
+    /**
+     * The network traffic recorded during all of the steps of this test.
+     */
+    public NetworkTraffic getNetworkTraffic() {
+        NetworkTraffic networkTraffic = NetworkTraffic.none();
+        for (TestStep step : getFlattenedTestSteps()) {
+            if (step.hasNetworkTraffic()) {
+                networkTraffic = networkTraffic.plus(step.getNetworkTraffic());
+            }
+        }
+        return networkTraffic;
+    }
+
+    /**
+     * The total time spent on a given activity (e.g. waits or screenshots) during the steps of this test.
+     */
+    public long getTimeSpentOn(TimingCategory category) {
+        long timeSpent = 0;
+        for (TestStep step : getFlattenedTestSteps()) {
+            timeSpent += step.getTimeSpentOn(category);
+        }
+        return timeSpent;
+    }
+
+    public long getTimeSpentOn(String category) {
+        return getTimeSpentOn(TimingCategory.valueOf(category));
+    }
+
+    public double getPercentageOfTimeSpentOn(String category) {
+        long duration = getDuration();
+        return (duration > 0) ? (getTimeSpentOn(category) * 100.0) / duration : 0.0;
+    }
+
+    /**
+     * The activities that the time spent in each step is broken down into, in the order they are reported.
+     */
+    public List<TimingCategory> getTimingCategories() {
+        return ImmutableList.copyOf(TimingCategory.values());
+    }
+
+    public boolean hasTimingBreakdown() {
+        for (TestStep step : getFlattenedTestSteps()) {
+            if (!step.getTimings().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean hasNetworkTraffic() {
+        for (TestStep step : getFlattenedTestSteps()) {
+            if (step.hasNetworkTraffic()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public List<TestStep> getLeafTestSteps() {
         List<TestStep> leafTestSteps = new ArrayList<TestStep>();
         for (TestStep step : getTestSteps()) {
@@ -897,11 +986,15 @@ public class TestOutcome {
     }
 
 
+    /**
+     * The tags are worked out by the tag providers the first time they are needed, and the same
+     * immutable set is returned from then on.
+     */
     public Set<TestTag> getTags() {
         if (tags == null) {
             tags = getTagsUsingTagProviders(getTagProviderService().getTagProviders());
         }
-        return ImmutableSet.copyOf(tags);
+        return tags;
     }
 
     private Set<TestTag> getTagsUsingTagProviders(List<TagProvider> tagProviders) {
@@ -910,24 +1003,23 @@ public class TestOutcome {
             try {
                 Set<TestTag> providedTags = tagProvider.getTagsFor(this);
                 if (providedTags != null) {
-                    tags.addAll(tagProvider.getTagsFor(this));
+                    tags.addAll(providedTags);
                 }
             } catch(Throwable theTagProviderFailedBueThereIsntMuchWeCanDoAboutIt) {
                 logger.error("Tag provider " + tagProvider + " failure",
                              theTagProviderFailedBueThereIsntMuchWeCanDoAboutIt);
             }
         }
-        return tags;
+        return ImmutableSet.copyOf(tags);
     }
 
     public void setTags(Set<TestTag> tags) {
-        this.tags = Sets.newHashSet(tags);
+        this.tags = ImmutableSet.copyOf(tags);
     }
 
 
     public void addTags(List<TestTag> tags) {
-        getTags();
-        this.tags.addAll(tags);
+        this.tags = ImmutableSet.<TestTag>builder().addAll(getTags()).addAll(tags).build();
     }
 
     public List<String> getIssueKeys() {
@@ -1,6 +1,8 @@
 package net.thucydides.core.model;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.pages.SystemClock;
 import net.thucydides.core.screenshots.ScreenshotAndHtmlSource;
@@ -9,6 +11,7 @@ import org.joda.time.DateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import static ch.lambdaj.Lambda.extract;
 import static ch.lambdaj.Lambda.join;
@@ -40,6 +43,9 @@ public class TestStep {
     private List<ScreenshotAndHtmlSource> screenshots = new ArrayList<ScreenshotAndHtmlSource>();
     private Throwable cause;
     private TestResult result;
+    private NetworkTraffic networkTraffic;
+    private Map<TimingCategory, Long> timings = Maps.newHashMap();
+    private List<PageTiming> pageTimings = new ArrayList<PageTiming>();
 
     private List<TestStep> children = new ArrayList<TestStep>();
 
@@ -135,15 +141,31 @@ public class TestStep {
         newTestStep.cause = cause;
         newTestStep.result = result;
         newTestStep.number = number;
+        newTestStep.networkTraffic = networkTraffic;
+        newTestStep.timings = Maps.newHashMap(getTimings());
+        newTestStep.pageTimings = new ArrayList<PageTiming>(getPageTimings());
         newTestStep.children = new ArrayList(children);
         return newTestStep;
     }
 
 
+    TestStep copyWithChildren() {
+        TestStep newTestStep = copyOfThisTestStep();
+        newTestStep.children = new ArrayList<TestStep>();
+        for (TestStep child : children) {
+            newTestStep.children.add(child.copyWithChildren());
+        }
+        return newTestStep;
+    }
+
     public void recordDuration() {
         setDuration(now().getMillis() - startTime);
     }
 
+    public long getStartTime() {
+        return startTime;
+    }
+
     public int getNumber() {
         return number;
     }
@@ -339,6 +361,76 @@ public class TestStep {
         }
     }
 
+    /**
+     * The network traffic recorded while this step was running, if any was captured.
+     */
+    public NetworkTraffic getNetworkTraffic() {
+        return (networkTraffic != null) ? networkTraffic : NetworkTraffic.none();
+    }
+
+    public void setNetworkTraffic(final NetworkTraffic networkTraffic) {
+        this.networkTraffic = networkTraffic;
+    }
+
+    public boolean hasNetworkTraffic() {
+        return (networkTraffic != null);
+    }
+
+    /**
+     * Add some time spent on a given activity (e.g. waiting or taking screenshots) during this step.
+     */
+    public void recordTime(final TimingCategory category, final long milliseconds) {
+        if (timings == null) {
+            timings = Maps.newHashMap();
+        }
+        Long timeSoFar = timings.get(category);
+        timings.put(category, (timeSoFar == null) ? milliseconds : timeSoFar + milliseconds);
+    }
+
+    public Map<TimingCategory, Long> getTimings() {
+        return (timings == null) ? ImmutableMap.<TimingCategory, Long>of() : ImmutableMap.copyOf(timings);
+    }
+
+    public long getTimeSpentOn(final TimingCategory category) {
+        Long time = getTimings().get(category);
+        return (time == null) ? 0 : time;
+    }
+
+    public long getTimeSpentOn(final String category) {
+        return getTimeSpentOn(TimingCategory.valueOf(category));
+    }
+
+    /**
+     * The time spent in the step itself, as opposed to the time spent on one of the timed activities.
+     * Time recorded against nested steps is included in the time of the nested steps, not this one.
+     */
+    public long getUntimedDuration() {
+        long timedDuration = 0;
+        for (Long time : getTimings().values()) {
+            timedDuration += time;
+        }
+        if (isAGroup()) {
+            for (TestStep child : getChildren()) {
+                timedDuration += child.getDuration();
+            }
+        }
+        return Math.max(0, getDuration() - timedDuration);
+    }
+
+    /**
+     * Record the browser's navigation timing for a page opened during this step.
+     */
+    public void recordPageTiming(final PageTiming pageTiming) {
+        if (pageTimings == null) {
+            pageTimings = new ArrayList<PageTiming>();
+        }
+        pageTimings.add(pageTiming);
+    }
+
+    public List<PageTiming> getPageTimings() {
+        return (pageTimings == null) ? ImmutableList.<PageTiming>of() : ImmutableList.copyOf(pageTimings);
+    }
+
     public int getScreenshotCount() {
         return screenshots.size();
     }
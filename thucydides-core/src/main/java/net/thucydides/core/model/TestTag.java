@@ -1,6 +1,8 @@
 package net.thucydides.core.model;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
 import static org.apache.commons.lang3.ObjectUtils.compare;
 
@@ -8,6 +10,11 @@ public class TestTag implements Comparable<TestTag> {
 
     public static final TestTag EMPTY_TAG = new TestTag("","");
 
+    /**
+     * The same few tags appear on thousands of test outcomes, so equal tags share a single instance.
+     */
+    private static final Interner<TestTag> TAGS = Interners.newWeakInterner();
+
     private final String name;
     private final String type;
 
@@ -59,8 +66,8 @@ public class TestTag implements Comparable<TestTag> {
         }
         
         public TestTag andType(String type) {
-            return new TestTag(name, type);
-        } 
+            return TAGS.intern(new TestTag(name, type));
+        }
     }
 
     @Override
@@ -0,0 +1,22 @@
+package net.thucydides.core.model;
+
+/**
+ * The kinds of activity that the time spent in a test step is broken down into.
+ * Any time not spent on one of these activities is reported as time spent in the step itself.
+ */
+public enum TimingCategory {
+    PAGE_LOAD("Page loads"),
+    BROWSER("Browser commands"),
+    WAIT("Waits"),
+    SCREENSHOT("Screenshots");
+
+    private final String label;
+
+    TimingCategory(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
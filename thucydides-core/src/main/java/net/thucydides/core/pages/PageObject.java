@@ -19,6 +19,7 @@ import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.webdriver.DefaultPageObjectInitialiser;
 import net.thucydides.core.webdriver.WebDriverFacade;
 import net.thucydides.core.webdriver.javascript.JavascriptExecutorFacade;
+import net.thucydides.core.webdriver.javascript.NavigationTimingCollector;
 import net.thucydides.core.webelements.Checkbox;
 import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.Alert;
@@ -564,7 +565,12 @@ public abstract class PageObject {
     private void open(final OpenMode openMode, final String... parameterValues) {
         String startingUrl = pageUrls.getStartingUrl(parameterValues);
         LOGGER.debug("Opening page at url {}", startingUrl);
-        openPageAtUrl(startingUrl);
+        NavigationTimingCollector.expectPageMatching(PageUrls.urlPatternFor(pageUrls.getStartingUrl()));
+        try {
+            openPageAtUrl(startingUrl);
+        } finally {
+            NavigationTimingCollector.clearExpectedPage();
+        }
         checkUrlPatterns(openMode);
         initializePage();
         LOGGER.debug("Page opened");
@@ -588,7 +594,12 @@ public abstract class PageObject {
 		String startingUrl = pageUrls.getNamedUrl(urlTemplateName,
 				parameterValues);
 		LOGGER.debug("Opening page at url {}", startingUrl);
-		openPageAtUrl(startingUrl);
+		NavigationTimingCollector.expectPageMatching(PageUrls.urlPatternFor(pageUrls.getNamedUrl(urlTemplateName)));
+		try {
+			openPageAtUrl(startingUrl);
+		} finally {
+			NavigationTimingCollector.clearExpectedPage();
+		}
 		checkUrlPatterns(openMode);
 		initializePage();
 		LOGGER.debug("Page opened");
@@ -81,6 +81,18 @@ public class PageUrls {
         }
     }
 
+    /**
+     * A pattern for grouping visits to the same page with different parameters: the query string and fragment
+     * are dropped, and any numeric path segments are replaced by {id}.
+     */
+    public static String urlPatternFor(final String url) {
+        if (url == null) {
+            return null;
+        }
+        String path = StringUtils.substringBefore(StringUtils.substringBefore(url, "#"), "?");
+        return path.replaceAll("/\\d+(?=/|$)", "/{id}");
+    }
+
     private static boolean isAClasspathResource(String annotatedBaseUrl) {
         return (annotatedBaseUrl != null) && (annotatedBaseUrl.startsWith(CLASSPATH_URL_PREFIX));
     }
@@ -0,0 +1,313 @@
+package net.thucydides.core.reflection;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.thucydides.core.ThucydidesSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.annotation.Inherited;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Finds annotated classes by reading class files rather than loading the classes.
+ * The annotations found in each class file or jar are cached in memory against the file's timestamp and size,
+ * so that unchanged classes are only read once. If the thucydides.annotation.index property names an index file,
+ * the cache is also saved there between runs.
+ */
+public class AnnotationIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AnnotationIndex.class);
+
+    private static final String OBJECT_CLASS = Object.class.getName();
+
+    private static AnnotationIndex defaultIndex;
+
+    private final File indexFile;
+    private Map<String, IndexedLocation> locations;
+    private boolean modified = false;
+
+    public AnnotationIndex(File indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    public static synchronized AnnotationIndex getDefaultIndex() {
+        if (defaultIndex == null) {
+            defaultIndex = new AnnotationIndex(defaultIndexFile());
+        }
+        return defaultIndex;
+    }
+
+    private static File defaultIndexFile() {
+        String indexFilePath = System.getProperty(ThucydidesSystemProperty.THUCYDIDES_ANNOTATION_INDEX.getPropertyName());
+        return (indexFilePath == null) ? null : new File(indexFilePath);
+    }
+
+    /**
+     * Names of the (non-inner) classes in a package and its subpackages that carry a given runtime annotation.
+     * Annotations marked as @Inherited are also matched through the super class chain.
+     */
+    public synchronized List<String> classesAnnotatedWith(Class<?> annotation,
+                                                          String packageName,
+                                                          ClassLoader classLoader) throws IOException {
+        loadIndexIfRequired();
+        Map<String, ClassFileSummary> classesInPackage = classesIn(packageName, classLoader);
+        saveIndexIfModified();
+
+        boolean inherited = annotation.isAnnotationPresent(Inherited.class);
+        List<String> annotatedClasses = Lists.newArrayList();
+        for (ClassFileSummary summary : classesInPackage.values()) {
+            if (summary.isAnnotatedWith(annotation)
+                    || (inherited && superClassIsAnnotated(summary, annotation, classesInPackage, classLoader))) {
+                annotatedClasses.add(summary.getClassName());
+            }
+        }
+        return annotatedClasses;
+    }
+
+    private boolean superClassIsAnnotated(ClassFileSummary summary,
+                                          Class<?> annotation,
+                                          Map<String, ClassFileSummary> indexedClasses,
+                                          ClassLoader classLoader) {
+        String superClassName = summary.getSuperClassName();
+        while (superClassName != null && !OBJECT_CLASS.equals(superClassName)) {
+            ClassFileSummary superClass = indexedClasses.get(superClassName);
+            if (superClass == null) {
+                return superClassOutsideIndexIsAnnotated(superClassName, annotation, classLoader);
+            }
+            if (superClass.isAnnotatedWith(annotation)) {
+                return true;
+            }
+            superClassName = superClass.getSuperClassName();
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean superClassOutsideIndexIsAnnotated(String superClassName, Class<?> annotation, ClassLoader classLoader) {
+        try {
+            Class<?> superClass = Class.forName(superClassName, false, classLoader);
+            return superClass.isAnnotationPresent((Class) annotation);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private Map<String, ClassFileSummary> classesIn(String packageName, ClassLoader classLoader) throws IOException {
+        String path = packageName.replace('.', '/');
+        Map<String, ClassFileSummary> classes = Maps.newHashMap();
+        Enumeration<URL> resources = classLoader.getResources(path);
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+            if ("jar".equals(resource.getProtocol())) {
+                classes.putAll(classesInJar(resource, path));
+            } else if ("file".equals(resource.getProtocol())) {
+                classes.putAll(classesInDirectory(new File(decoded(resource.getPath())), packageName));
+            }
+        }
+        return classes;
+    }
+
+    private Map<String, ClassFileSummary> classesInJar(URL jarResource, String packagePath) throws IOException {
+        String jarPath = decoded(jarResource.getPath());
+        String jarFilePath = jarPath.substring(0, jarPath.indexOf("!")).replaceFirst("^file:", "");
+        File jarFile = new File(jarFilePath);
+        String locationKey = jarFile.getAbsolutePath() + "!/" + packagePath;
+
+        IndexedLocation location = locations.get(locationKey);
+        if (location == null || !location.isUpToDateWith(jarFile)) {
+            location = new IndexedLocation(jarFile, readClassesFromJar(jarFile, packagePath + "/"));
+            locations.put(locationKey, location);
+            modified = true;
+        }
+        return location.getClasses();
+    }
+
+    private Map<String, ClassFileSummary> readClassesFromJar(File jarFile, String packagePrefix) throws IOException {
+        Map<String, ClassFileSummary> classes = Maps.newHashMap();
+        ZipFile zip = new ZipFile(jarFile);
+        try {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.getName().startsWith(packagePrefix) && isTopLevelClassFile(entry.getName())) {
+                    addSummaryTo(classes, zip.getInputStream(entry), entry.getName());
+                }
+            }
+        } finally {
+            zip.close();
+        }
+        return classes;
+    }
+
+    private Map<String, ClassFileSummary> classesInDirectory(File directory, String packageName) throws IOException {
+        Map<String, ClassFileSummary> classes = Maps.newHashMap();
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return classes;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                classes.putAll(classesInDirectory(file, packageName + "." + file.getName()));
+            } else if (isTopLevelClassFile(file.getName())) {
+                classes.putAll(classFile(file));
+            }
+        }
+        return classes;
+    }
+
+    private Map<String, ClassFileSummary> classFile(File classFile) throws IOException {
+        String locationKey = classFile.getAbsolutePath();
+        IndexedLocation location = locations.get(locationKey);
+        if (location == null || !location.isUpToDateWith(classFile)) {
+            Map<String, ClassFileSummary> classes = Maps.newHashMap();
+            addSummaryTo(classes, new FileInputStream(classFile), classFile.getPath());
+            location = new IndexedLocation(classFile, classes);
+            locations.put(locationKey, location);
+            modified = true;
+        }
+        return location.getClasses();
+    }
+
+    private void addSummaryTo(Map<String, ClassFileSummary> classes, InputStream classFile, String source) {
+        try {
+            ClassFileSummary summary = ClassFileSummary.readFrom(new BufferedInputStream(classFile));
+            classes.put(summary.getClassName(), summary);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read class file {}: {}", source, e.getMessage());
+        } finally {
+            closeQuietly(classFile);
+        }
+    }
+
+    private boolean isTopLevelClassFile(String name) {
+        return name.endsWith(".class") && !name.contains("$");
+    }
+
+    private String decoded(String path) {
+        try {
+            return URLDecoder.decode(path, "UTF-8");
+        } catch (IOException e) {
+            return path;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadIndexIfRequired() {
+        if (locations != null) {
+            return;
+        }
+        locations = new HashMap<String, IndexedLocation>();
+        if (indexFile == null || !indexFile.exists()) {
+            return;
+        }
+        ObjectInputStream input = null;
+        try {
+            input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(indexFile)));
+            locations.putAll((Map<String, IndexedLocation>) input.readObject());
+        } catch (Exception e) {
+            LOGGER.debug("Ignoring unreadable annotation index {}", indexFile);
+            locations.clear();
+        } finally {
+            closeQuietly(input);
+        }
+    }
+
+    /**
+     * Entries for class files and jars that no longer exist are dropped, and the index is written to a temporary
+     * file of its own before being renamed, so that builds running in parallel never read a half-written index.
+     */
+    private void saveIndexIfModified() {
+        if (!modified || indexFile == null) {
+            return;
+        }
+        removeDeletedLocations();
+        ObjectOutputStream output = null;
+        File temporaryIndexFile = null;
+        try {
+            File indexDirectory = indexFile.getAbsoluteFile().getParentFile();
+            indexDirectory.mkdirs();
+            temporaryIndexFile = File.createTempFile(indexFile.getName(), ".tmp", indexDirectory);
+            output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryIndexFile)));
+            output.writeObject(new HashMap<String, IndexedLocation>(locations));
+            output.close();
+            output = null;
+            if (temporaryIndexFile.renameTo(indexFile) || (indexFile.delete() && temporaryIndexFile.renameTo(indexFile))) {
+                modified = false;
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not save annotation index {}: {}", indexFile, e.getMessage());
+        } finally {
+            closeQuietly(output);
+            if (temporaryIndexFile != null && temporaryIndexFile.exists()) {
+                temporaryIndexFile.delete();
+            }
+        }
+    }
+
+    private void removeDeletedLocations() {
+        Iterator<IndexedLocation> indexedLocations = locations.values().iterator();
+        while (indexedLocations.hasNext()) {
+            if (!indexedLocations.next().stillExists()) {
+                indexedLocations.remove();
+            }
+        }
+    }
+
+    private void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static class IndexedLocation implements Serializable {
+        private static final long serialVersionUID = 2L;
+
+        private final String path;
+        private final long lastModified;
+        private final long length;
+        private final HashMap<String, ClassFileSummary> classes;
+
+        private IndexedLocation(File file, Map<String, ClassFileSummary> classes) {
+            this.path = file.getAbsolutePath();
+            this.lastModified = file.lastModified();
+            this.length = file.length();
+            this.classes = new HashMap<String, ClassFileSummary>(classes);
+        }
+
+        public boolean isUpToDateWith(File file) {
+            return file.lastModified() == lastModified && file.length() == length;
+        }
+
+        public boolean stillExists() {
+            return new File(path).exists();
+        }
+
+        public Map<String, ClassFileSummary> getClasses() {
+            return Collections.unmodifiableMap(classes);
+        }
+    }
+}
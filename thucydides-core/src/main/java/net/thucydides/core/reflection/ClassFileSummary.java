@@ -0,0 +1,232 @@
+package net.thucydides.core.reflection;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.Set;
+
+/**
+ * The super class and runtime-visible class annotations of a class, read directly from the class file bytes.
+ * Reading a class file this way does not load or initialise the class.
+ */
+public class ClassFileSummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private final String className;
+    private final String superClassName;
+    private final Set<String> annotations;
+
+    public ClassFileSummary(String className, String superClassName, Set<String> annotations) {
+        this.className = className;
+        this.superClassName = superClassName;
+        this.annotations = ImmutableSet.copyOf(annotations);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * The fully qualified name of the super class, or null for java.lang.Object.
+     */
+    public String getSuperClassName() {
+        return superClassName;
+    }
+
+    /**
+     * Fully qualified names of the runtime-visible annotations declared directly on the class.
+     */
+    public Set<String> getAnnotations() {
+        return annotations;
+    }
+
+    public boolean isAnnotatedWith(Class<?> annotation) {
+        return annotations.contains(annotation.getName());
+    }
+
+    public static ClassFileSummary readFrom(InputStream classFile) throws IOException {
+        return new ClassFileParser(new DataInputStream(classFile)).parse();
+    }
+
+    private static class ClassFileParser {
+        private static final int CONSTANT_UTF8 = 1;
+        private static final int CONSTANT_INTEGER = 3;
+        private static final int CONSTANT_FLOAT = 4;
+        private static final int CONSTANT_LONG = 5;
+        private static final int CONSTANT_DOUBLE = 6;
+        private static final int CONSTANT_CLASS = 7;
+        private static final int CONSTANT_STRING = 8;
+        private static final int CONSTANT_FIELDREF = 9;
+        private static final int CONSTANT_METHODREF = 10;
+        private static final int CONSTANT_INTERFACE_METHODREF = 11;
+        private static final int CONSTANT_NAME_AND_TYPE = 12;
+        private static final int CONSTANT_METHOD_HANDLE = 15;
+        private static final int CONSTANT_METHOD_TYPE = 16;
+        private static final int CONSTANT_DYNAMIC = 17;
+        private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+        private static final int CONSTANT_MODULE = 19;
+        private static final int CONSTANT_PACKAGE = 20;
+
+        private final DataInputStream input;
+        private String[] utf8Constants;
+        private int[] classNameIndexes;
+
+        private ClassFileParser(DataInputStream input) {
+            this.input = input;
+        }
+
+        public ClassFileSummary parse() throws IOException {
+            if (input.readInt() != MAGIC) {
+                throw new IOException("Not a class file");
+            }
+            input.readUnsignedShort(); // minor version
+            input.readUnsignedShort(); // major version
+            readConstantPool();
+            input.readUnsignedShort(); // access flags
+            String className = classNameAt(input.readUnsignedShort());
+            String superClassName = classNameAt(input.readUnsignedShort());
+            skipInterfaces();
+            skipMembers(); // fields
+            skipMembers(); // methods
+            Set<String> annotations = readClassAnnotations();
+            return new ClassFileSummary(className, superClassName, annotations);
+        }
+
+        private void readConstantPool() throws IOException {
+            int constantPoolCount = input.readUnsignedShort();
+            utf8Constants = new String[constantPoolCount];
+            classNameIndexes = new int[constantPoolCount];
+            for (int i = 1; i < constantPoolCount; i++) {
+                int tag = input.readUnsignedByte();
+                switch (tag) {
+                    case CONSTANT_UTF8:
+                        utf8Constants[i] = input.readUTF();
+                        break;
+                    case CONSTANT_CLASS:
+                        classNameIndexes[i] = input.readUnsignedShort();
+                        break;
+                    case CONSTANT_STRING:
+                    case CONSTANT_METHOD_TYPE:
+                    case CONSTANT_MODULE:
+                    case CONSTANT_PACKAGE:
+                        skipFully(2);
+                        break;
+                    case CONSTANT_METHOD_HANDLE:
+                        skipFully(3);
+                        break;
+                    case CONSTANT_INTEGER:
+                    case CONSTANT_FLOAT:
+                    case CONSTANT_FIELDREF:
+                    case CONSTANT_METHODREF:
+                    case CONSTANT_INTERFACE_METHODREF:
+                    case CONSTANT_NAME_AND_TYPE:
+                    case CONSTANT_DYNAMIC:
+                    case CONSTANT_INVOKE_DYNAMIC:
+                        skipFully(4);
+                        break;
+                    case CONSTANT_LONG:
+                    case CONSTANT_DOUBLE:
+                        skipFully(8);
+                        i++;
+                        break;
+                    default:
+                        throw new IOException("Unknown constant pool tag " + tag);
+                }
+            }
+        }
+
+        private String classNameAt(int index) {
+            if (index == 0) {
+                return null;
+            }
+            return utf8Constants[classNameIndexes[index]].replace('/', '.');
+        }
+
+        private void skipInterfaces() throws IOException {
+            int interfaceCount = input.readUnsignedShort();
+            skipFully(interfaceCount * 2);
+        }
+
+        private void skipMembers() throws IOException {
+            int memberCount = input.readUnsignedShort();
+            for (int i = 0; i < memberCount; i++) {
+                skipFully(6);
+                skipAttributes(input.readUnsignedShort());
+            }
+        }
+
+        private void skipAttributes(int attributeCount) throws IOException {
+            for (int i = 0; i < attributeCount; i++) {
+                skipFully(2);
+                skipFully(input.readInt());
+            }
+        }
+
+        private Set<String> readClassAnnotations() throws IOException {
+            Set<String> annotations = Sets.newHashSet();
+            int attributeCount = input.readUnsignedShort();
+            for (int i = 0; i < attributeCount; i++) {
+                String attributeName = utf8Constants[input.readUnsignedShort()];
+                int length = input.readInt();
+                if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                    int annotationCount = input.readUnsignedShort();
+                    for (int j = 0; j < annotationCount; j++) {
+                        annotations.add(readAnnotation());
+                    }
+                } else {
+                    skipFully(length);
+                }
+            }
+            return annotations;
+        }
+
+        private String readAnnotation() throws IOException {
+            String typeDescriptor = utf8Constants[input.readUnsignedShort()];
+            int elementValuePairCount = input.readUnsignedShort();
+            for (int i = 0; i < elementValuePairCount; i++) {
+                skipFully(2);
+                skipElementValue();
+            }
+            return typeDescriptor.substring(1, typeDescriptor.length() - 1).replace('/', '.');
+        }
+
+        private void skipElementValue() throws IOException {
+            int tag = input.readUnsignedByte();
+            switch (tag) {
+                case 'e':
+                    skipFully(4);
+                    break;
+                case '@':
+                    readAnnotation();
+                    break;
+                case '[':
+                    int valueCount = input.readUnsignedShort();
+                    for (int i = 0; i < valueCount; i++) {
+                        skipElementValue();
+                    }
+                    break;
+                default:
+                    skipFully(2);
+            }
+        }
+
+        private void skipFully(int byteCount) throws IOException {
+            int remaining = byteCount;
+            while (remaining > 0) {
+                int skipped = input.skipBytes(remaining);
+                if (skipped <= 0) {
+                    throw new IOException("Unexpected end of class file");
+                }
+                remaining -= skipped;
+            }
+        }
+    }
+}
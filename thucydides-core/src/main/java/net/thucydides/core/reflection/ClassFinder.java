@@ -2,6 +2,8 @@ package net.thucydides.core.reflection;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.net.URL;
@@ -20,6 +22,8 @@ import java.util.zip.ZipInputStream;
  */
 public class ClassFinder {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassFinder.class);
+
     private final ClassLoader classLoader;
     private final Class annotation;
 
@@ -47,10 +51,36 @@ public class ClassFinder {
      * @return The classes
      */
     public List<Class<?>> fromPackage(String packageName) {
-
+        if (annotation != null) {
+            return annotatedClassesFromIndex(packageName);
+        }
         return filtered(getClasses(packageName));
     }
 
+    /**
+     * Only the classes that the annotation index reports as annotated are loaded.
+     */
+    private List<Class<?>> annotatedClassesFromIndex(String packageName) {
+        List<String> candidateClasses;
+        try {
+            candidateClasses = AnnotationIndex.getDefaultIndex().classesAnnotatedWith(annotation, packageName, classLoader);
+        } catch (Exception e) {
+            return filtered(getClasses(packageName));
+        }
+        Set<String> classNames = Sets.newTreeSet(candidateClasses);
+        List<Class<?>> classes = Lists.newArrayList();
+        for (String className : classNames) {
+            try {
+                if (className.startsWith(packageName)) {
+                    classes.add(Class.forName(className, true, classLoader));
+                }
+            } catch (Throwable e) {
+                LOGGER.warn("Could not load class {}: {}", className, e.getMessage());
+            }
+        }
+        return filtered(classes);
+    }
+
     private List<Class<?>> filtered(Collection<Class<?>> classes) {
         List<Class<?>> matchingClasses = new ArrayList<Class<?>>();
 
@@ -1,23 +1,81 @@
 package net.thucydides.core.reports;
 
 import com.google.common.base.Optional;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.reports.adaptors.TestOutcomeAdaptor;
 import net.thucydides.core.reports.html.HtmlAcceptanceTestReporter;
 import net.thucydides.core.reports.json.JSONTestOutcomeReporter;
 import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.thucydides.core.ThucydidesSystemProperty.THUCYDIDES_IMPORT_FORMATS;
+import static net.thucydides.core.ThucydidesSystemProperty.THUCYDIDES_IMPORT_THREADS;
 
 public class TestOutcomeAdaptorReporter extends ThucydidesReporter {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestOutcomeAdaptorReporter.class);
+
+    private static final String XML = "xml";
+    private static final String JSON = "json";
+    private static final String HTML = "html";
+    private static final Set<String> ALL_FORMATS = ImmutableSet.of(XML, JSON, HTML);
+
+    private static final int PROGRESS_REPORTING_INTERVAL = 100;
+
     private List<TestOutcomeAdaptor> adaptors = Lists.newArrayList();
 
     private final Optional<File> NO_SOURCE_FILE = Optional.absent();
 
+    private Set<String> formats;
+    private int threadCount;
+
+    public TestOutcomeAdaptorReporter() {
+        this(Injectors.getInjector().getInstance(EnvironmentVariables.class));
+    }
+
+    public TestOutcomeAdaptorReporter(EnvironmentVariables environmentVariables) {
+        this.formats = formatsFrom(THUCYDIDES_IMPORT_FORMATS.from(environmentVariables, XML + "," + JSON + "," + HTML));
+        this.threadCount = environmentVariables.getPropertyAsInteger(THUCYDIDES_IMPORT_THREADS,
+                                                                     Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Which report formats (xml, json and/or html) should be generated for the imported outcomes.
+     */
+    public void setFormats(String formats) {
+        this.formats = formatsFrom(formats);
+    }
+
+    public Set<String> getFormats() {
+        return formats;
+    }
+
+    /**
+     * How many threads should be used to write the reports.
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
     public void generateReports() throws IOException {
         generateReports(NO_SOURCE_FILE);
     }
@@ -47,18 +105,109 @@ public class TestOutcomeAdaptorReporter extends ThucydidesReporter {
 
     private void generateReportsFor(List<TestOutcome> outcomes) throws IOException {
 
-        AcceptanceTestReporter xmlTestOutcomeReporter = getXMLReporter();
-        AcceptanceTestReporter htmlAcceptanceTestReporter = getHTMLReporter();
-        AcceptanceTestReporter jsonReporter = getJsonReporter();
+        List<AcceptanceTestReporter> reporters = getSelectedReporters();
 
         TestOutcomes allOutcomes = TestOutcomes.of(outcomes);
-        for(TestOutcome outcome : allOutcomes.getOutcomes()) {
-            xmlTestOutcomeReporter.generateReportFor(outcome, allOutcomes);
-            jsonReporter.generateReportFor(outcome, allOutcomes);
-            htmlAcceptanceTestReporter.generateReportFor(outcome, allOutcomes);
+        List<? extends TestOutcome> outcomesToReport = allOutcomes.getOutcomes();
+        if (threadCount <= 1 || outcomesToReport.size() <= 1) {
+            generateReportsSequentially(outcomesToReport, allOutcomes, reporters);
+        } else {
+            generateReportsConcurrently(outcomesToReport, allOutcomes, reporters);
+        }
+    }
+
+    private void generateReportsSequentially(List<? extends TestOutcome> outcomes,
+                                             TestOutcomes allOutcomes,
+                                             List<AcceptanceTestReporter> reporters) throws IOException {
+        ReportProgress progress = new ReportProgress(outcomes.size());
+        for(TestOutcome outcome : outcomes) {
+            generateReportsFor(outcome, allOutcomes, reporters);
+            progress.outcomeReported();
+        }
+    }
+
+    /**
+     * The reporters are shared between the worker threads: each worker takes the next unreported outcome
+     * and writes it in all of the selected formats.
+     */
+    private void generateReportsConcurrently(final List<? extends TestOutcome> outcomes,
+                                             final TestOutcomes allOutcomes,
+                                             final List<AcceptanceTestReporter> reporters) throws IOException {
+        int workerCount = Math.min(threadCount, outcomes.size());
+        final AtomicInteger nextOutcome = new AtomicInteger(0);
+        final ReportProgress progress = new ReportProgress(outcomes.size());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(workerCount);
+        try {
+            List<Future<Void>> workers = Lists.newArrayList();
+            for(int i = 0; i < workerCount; i++) {
+                workers.add(executorService.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        int outcomeIndex;
+                        while ((outcomeIndex = nextOutcome.getAndIncrement()) < outcomes.size()) {
+                            generateReportsFor(outcomes.get(outcomeIndex), allOutcomes, reporters);
+                            progress.outcomeReported();
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for(Future<Void> worker : workers) {
+                waitFor(worker);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void waitFor(Future<Void> worker) throws IOException {
+        try {
+            worker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating reports", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new ReportGenerationFailedError("Failed to generate reports", e.getCause());
         }
     }
 
+    private void generateReportsFor(TestOutcome outcome,
+                                    TestOutcomes allOutcomes,
+                                    List<AcceptanceTestReporter> reporters) throws IOException {
+        for(AcceptanceTestReporter reporter : reporters) {
+            reporter.generateReportFor(outcome, allOutcomes);
+        }
+    }
+
+    private List<AcceptanceTestReporter> getSelectedReporters() {
+        List<AcceptanceTestReporter> reporters = Lists.newArrayList();
+        if (formats.contains(XML)) {
+            reporters.add(getXMLReporter());
+        }
+        if (formats.contains(JSON)) {
+            reporters.add(getJsonReporter());
+        }
+        if (formats.contains(HTML)) {
+            reporters.add(getHTMLReporter());
+        }
+        return ImmutableList.copyOf(reporters);
+    }
+
+    private Set<String> formatsFrom(String formatList) {
+        Set<String> selectedFormats = ImmutableSet.copyOf(Splitter.on(",").trimResults().omitEmptyStrings()
+                                                                  .split(formatList.toLowerCase(Locale.ENGLISH)));
+        for(String format : selectedFormats) {
+            if (!ALL_FORMATS.contains(format)) {
+                throw new IllegalArgumentException("Unknown report format: " + format + " (expected one of " + ALL_FORMATS + ")");
+            }
+        }
+        return selectedFormats;
+    }
+
     private AcceptanceTestReporter getXMLReporter() {
         XMLTestOutcomeReporter reporter = new XMLTestOutcomeReporter();
         reporter.setOutputDirectory(getOutputDirectory());
@@ -80,4 +229,20 @@ public class TestOutcomeAdaptorReporter extends ThucydidesReporter {
     public void registerAdaptor(TestOutcomeAdaptor adaptor) {
         adaptors.add(adaptor);
     }
+
+    private static class ReportProgress {
+        private final int totalOutcomes;
+        private final AtomicInteger reportedOutcomes = new AtomicInteger(0);
+
+        private ReportProgress(int totalOutcomes) {
+            this.totalOutcomes = totalOutcomes;
+        }
+
+        public void outcomeReported() {
+            int reported = reportedOutcomes.incrementAndGet();
+            if ((reported % PROGRESS_REPORTING_INTERVAL == 0) || (reported == totalOutcomes)) {
+                LOGGER.info("Generated reports for {} of {} imported test outcomes", reported, totalOutcomes);
+            }
+        }
+    }
 }
@@ -69,7 +69,9 @@ public class TestOutcomeLoader {
 
     public static TestOutcomes testOutcomesIn(final File reportsDirectory) throws IOException {
         TestOutcomeLoader loader = new TestOutcomeLoader();
-        return TestOutcomes.of(loader.loadFrom(reportsDirectory));
+        List<TestOutcome> testOutcomes = loader.loadFrom(reportsDirectory);
+        new TestOutcomeTagResolver().resolveTagsFor(testOutcomes);
+        return TestOutcomes.of(testOutcomes);
     }
 
     public AcceptanceTestLoader getOutcomeReporter() {
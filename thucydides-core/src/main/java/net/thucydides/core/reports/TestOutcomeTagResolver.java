@@ -0,0 +1,72 @@
+package net.thucydides.core.reports;
+
+import net.thucydides.core.model.TestOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Works out the tags of a list of test outcomes up front, spread over several threads.
+ * Each outcome keeps the tags it was given, so the aggregate reports can ask for them as often as
+ * they like without going back to the tag providers.
+ */
+public class TestOutcomeTagResolver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestOutcomeTagResolver.class);
+
+    private final int threadCount;
+
+    public TestOutcomeTagResolver() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public TestOutcomeTagResolver(int threadCount) {
+        this.threadCount = Math.max(1, threadCount);
+    }
+
+    public void resolveTagsFor(final List<TestOutcome> testOutcomes) {
+        if (testOutcomes.isEmpty()) {
+            return;
+        }
+        // The first outcome is done on this thread so that the tag providers can finish any lazy setup
+        // (reading the requirements hierarchy, for example) before several threads use them at once.
+        testOutcomes.get(0).getTags();
+
+        if (threadCount == 1 || testOutcomes.size() == 1) {
+            for (TestOutcome testOutcome : testOutcomes) {
+                testOutcome.getTags();
+            }
+            return;
+        }
+
+        final AtomicInteger nextOutcome = new AtomicInteger(1);
+        int workers = Math.min(threadCount, testOutcomes.size() - 1);
+        ExecutorService executorService = Executors.newFixedThreadPool(workers);
+        try {
+            for (int i = 0; i < workers; i++) {
+                executorService.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        int index;
+                        while ((index = nextOutcome.getAndIncrement()) < testOutcomes.size()) {
+                            testOutcomes.get(index).getTags();
+                        }
+                    }
+                });
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        try {
+            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while resolving test outcome tags");
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package net.thucydides.core.reports.adaptors.common;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import net.thucydides.core.model.TestOutcome;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads test outcomes from several source files at the same time.
+ * Outcomes are returned in the same order as the source files, whatever order the files are finished in.
+ */
+public class ConcurrentOutcomeFileLoader {
+
+    public interface OutcomeFileReader {
+        List<TestOutcome> testOutcomesIn(File sourceFile) throws IOException;
+    }
+
+    private final int threadCount;
+
+    public ConcurrentOutcomeFileLoader() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ConcurrentOutcomeFileLoader(int threadCount) {
+        this.threadCount = Math.max(1, threadCount);
+    }
+
+    public List<TestOutcome> loadFrom(final File[] sourceFiles, final OutcomeFileReader reader) throws IOException {
+        if (sourceFiles == null || sourceFiles.length == 0) {
+            return ImmutableList.of();
+        }
+        if (sourceFiles.length == 1 || threadCount == 1) {
+            return loadSequentiallyFrom(sourceFiles, reader);
+        }
+        return loadConcurrentlyFrom(sourceFiles, reader);
+    }
+
+    private List<TestOutcome> loadSequentiallyFrom(File[] sourceFiles, OutcomeFileReader reader) throws IOException {
+        List<TestOutcome> loadedOutcomes = Lists.newArrayList();
+        for (File sourceFile : sourceFiles) {
+            loadedOutcomes.addAll(reader.testOutcomesIn(sourceFile));
+        }
+        return ImmutableList.copyOf(loadedOutcomes);
+    }
+
+    private List<TestOutcome> loadConcurrentlyFrom(File[] sourceFiles, final OutcomeFileReader reader) throws IOException {
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(threadCount, sourceFiles.length));
+        try {
+            List<Future<List<TestOutcome>>> loadedFiles = Lists.newArrayList();
+            for (final File sourceFile : sourceFiles) {
+                loadedFiles.add(executorService.submit(new Callable<List<TestOutcome>>() {
+                    @Override
+                    public List<TestOutcome> call() throws Exception {
+                        return reader.testOutcomesIn(sourceFile);
+                    }
+                }));
+            }
+            List<TestOutcome> loadedOutcomes = Lists.newArrayList();
+            for (Future<List<TestOutcome>> loadedFile : loadedFiles) {
+                loadedOutcomes.addAll(resultOf(loadedFile));
+            }
+            return ImmutableList.copyOf(loadedOutcomes);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private List<TestOutcome> resultOf(Future<List<TestOutcome>> loadedFile) throws IOException {
+        try {
+            return loadedFile.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading test outcomes", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
@@ -9,59 +9,62 @@ import net.thucydides.core.model.Story;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestResult;
 import net.thucydides.core.model.TestStep;
+import net.thucydides.core.reports.adaptors.common.ConcurrentOutcomeFileLoader;
 import net.thucydides.core.reports.adaptors.common.FilebasedOutcomeAdaptor;
-import net.thucydides.core.reports.adaptors.xunit.BasicXUnitLoader;
+import net.thucydides.core.reports.adaptors.xunit.StreamingXUnitLoader;
+import net.thucydides.core.reports.adaptors.xunit.XUnitStreamHandler;
 import net.thucydides.core.reports.adaptors.xunit.io.XUnitFiles;
 import net.thucydides.core.reports.adaptors.xunit.model.TestCase;
 import net.thucydides.core.reports.adaptors.xunit.model.TestSuite;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 public class LettuceXUnitAdaptor extends FilebasedOutcomeAdaptor {
 
-    BasicXUnitLoader loader = new BasicXUnitLoader();
+    private final StreamingXUnitLoader loader = new StreamingXUnitLoader();
+    private final ConcurrentOutcomeFileLoader fileLoader = new ConcurrentOutcomeFileLoader();
 
     public List<TestOutcome> loadOutcomesFrom(final File source) throws IOException {
-        List<TestOutcome> loadedOutcomes = Lists.newArrayList();
-        for(File xunitFile : XUnitFiles.in(source)) {
-            loadedOutcomes.addAll(testOutcomesIn(xunitFile));
-        }
-        return ImmutableList.copyOf(loadedOutcomes);
+        return fileLoader.loadFrom(XUnitFiles.in(source), new ConcurrentOutcomeFileLoader.OutcomeFileReader() {
+            @Override
+            public List<TestOutcome> testOutcomesIn(File xunitFile) throws IOException {
+                return LettuceXUnitAdaptor.this.testOutcomesIn(xunitFile);
+            }
+        });
     }
 
-    private Collection<? extends TestOutcome> testOutcomesIn(File xunitFile) throws IOException {
-        List<TestSuite> rawTestSuites = loader.loadFrom(xunitFile);
-        return ImmutableList.copyOf(groupTestCasesByClassname(rawTestSuites));
-    }
-
-    private List<TestOutcome> groupTestCasesByClassname(List<TestSuite> testSuites) {
-        List<TestOutcome> groupedOutcomes = Lists.newArrayList();
-        for(TestSuite suite : testSuites) {
-            groupedOutcomes.addAll(testOutcomesWithGroupedTestCases(suite));
-        }
-        return groupedOutcomes;
-    }
+    private List<TestOutcome> testOutcomesIn(File xunitFile) throws IOException {
+        final List<TestOutcome> groupedTestOutcomes = Lists.newArrayList();
+        loader.streamFrom(xunitFile, new XUnitStreamHandler() {
+            private final Map<TestSuite, Map<String, TestOutcome>> testOutcomesIndexes = Maps.newIdentityHashMap();
 
+            @Override
+            public void testSuiteStarted(TestSuite testSuite) {
+                Map<String, TestOutcome> testOutcomesIndex = Maps.newHashMap();
+                testOutcomesIndexes.put(testSuite, testOutcomesIndex);
+            }
 
-    private List<TestOutcome> testOutcomesWithGroupedTestCases(TestSuite testSuite) {
-        List<TestCase> rawTestCases = testSuite.getTestCases();
-        List<TestOutcome> groupedTestOutcomes = Lists.newArrayList();
-        Map<String, TestOutcome> testOutcomesIndex = Maps.newHashMap();
+            @Override
+            public void testCaseLoaded(TestSuite testSuite, TestCase testCase) {
+                Map<String, TestOutcome> testOutcomesIndex = testOutcomesIndexes.get(testSuite);
+                TestOutcome testOutcome = testOutcomeForTestClass(testOutcomesIndex, testCase.getClassname());
+                addIfNotPresent(groupedTestOutcomes, testOutcome);
+                TestStep nextStep = TestStep.forStepCalled(testCase.getName()).withResult(resultOf(testCase));
+                Optional<Throwable> testFailure = testFailureFrom(testCase);
+                if (testFailure.isPresent()) {
+                    nextStep.failedWith(testFailure.get());
+                }
+                testOutcome.recordStep(nextStep);
+            }
 
-        for(TestCase testCase : rawTestCases) {
-            TestOutcome testOutcome = testOutcomeForTestClass(testOutcomesIndex, testCase.getClassname());
-            addIfNotPresent(groupedTestOutcomes, testOutcome);
-            TestStep nextStep = TestStep.forStepCalled(testCase.getName()).withResult(resultOf(testCase));
-            Optional<Throwable> testFailure = testFailureFrom(testCase);
-            if (testFailure.isPresent()) {
-                nextStep.failedWith(testFailure.get());
+            @Override
+            public void testSuiteFinished(TestSuite testSuite) {
+                testOutcomesIndexes.remove(testSuite);
             }
-            testOutcome.recordStep(nextStep);
-        }
+        });
         return ImmutableList.copyOf(groupedTestOutcomes);
     }
 
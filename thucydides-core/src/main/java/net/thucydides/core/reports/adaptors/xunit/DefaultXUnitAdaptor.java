@@ -6,6 +6,7 @@ import com.google.common.collect.Lists;
 import net.thucydides.core.model.Story;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestResult;
+import net.thucydides.core.reports.adaptors.common.ConcurrentOutcomeFileLoader;
 import net.thucydides.core.reports.adaptors.common.FilebasedOutcomeAdaptor;
 import net.thucydides.core.reports.adaptors.xunit.io.XUnitFiles;
 import net.thucydides.core.reports.adaptors.xunit.model.TestCase;
@@ -15,33 +16,37 @@ import net.thucydides.core.util.NameConverter;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collection;
 import java.util.List;
 
-import static ch.lambdaj.Lambda.convert;
-
 public class DefaultXUnitAdaptor extends FilebasedOutcomeAdaptor {
-    private final XUnitLoader loader = new BasicXUnitLoader();
+    private final StreamingXUnitLoader loader = new StreamingXUnitLoader();
+    private final ConcurrentOutcomeFileLoader fileLoader = new ConcurrentOutcomeFileLoader();
 
     public List<TestOutcome> loadOutcomesFrom(final File source) throws IOException {
-        List<TestOutcome> loadedOutcomes = Lists.newArrayList();
-        for(File xunitFile : XUnitFiles.in(source)) {
-            loadedOutcomes.addAll(testOutcomesIn(xunitFile));
-        }
-        return ImmutableList.copyOf(loadedOutcomes);
+        return fileLoader.loadFrom(XUnitFiles.in(source), new ConcurrentOutcomeFileLoader.OutcomeFileReader() {
+            @Override
+            public List<TestOutcome> testOutcomesIn(File xunitFile) throws IOException {
+                return DefaultXUnitAdaptor.this.testOutcomesIn(xunitFile);
+            }
+        });
     }
 
     public List<TestOutcome> testOutcomesIn(File xunitFile) throws IOException {
-        List<TestSuite> xunitTestSuites =  loader.loadFrom(xunitFile);
-        List<TestOutcome> testOutcomes = Lists.newArrayList();
-        for(TestSuite testSuite : xunitTestSuites) {
-            testOutcomes.addAll(testOutcomesIn(testSuite));
-        }
-        return ImmutableList.copyOf(testOutcomes);
-    }
+        final List<TestOutcome> testOutcomes = Lists.newArrayList();
+        final Converter<TestCase, TestOutcome> toTestOutcome = toTestOutcomes();
+        loader.streamFrom(xunitFile, new XUnitStreamHandler() {
+            @Override
+            public void testSuiteStarted(TestSuite testSuite) {}
 
-    private Collection<? extends TestOutcome> testOutcomesIn(TestSuite testSuite) {
-        return convert(testSuite.getTestCases(), toTestOutcomes());
+            @Override
+            public void testCaseLoaded(TestSuite testSuite, TestCase testCase) {
+                testOutcomes.add(toTestOutcome.convert(testCase));
+            }
+
+            @Override
+            public void testSuiteFinished(TestSuite testSuite) {}
+        });
+        return ImmutableList.copyOf(testOutcomes);
     }
 
     private Converter<TestCase, TestOutcome> toTestOutcomes() {
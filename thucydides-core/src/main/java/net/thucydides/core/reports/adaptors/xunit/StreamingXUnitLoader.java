@@ -0,0 +1,208 @@
+package net.thucydides.core.reports.adaptors.xunit;
+
+import com.google.common.collect.Lists;
+import net.thucydides.core.reports.adaptors.xunit.model.TestCase;
+import net.thucydides.core.reports.adaptors.xunit.model.TestException;
+import net.thucydides.core.reports.adaptors.xunit.model.TestSuite;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Reads xUnit files using a StAX parser rather than a DOM.
+ * Test cases are passed to an XUnitStreamHandler as soon as they have been read, so memory usage
+ * does not depend on the size of the xUnit file.
+ */
+public class StreamingXUnitLoader implements XUnitLoader {
+
+    private static final String TEST_SUITE = "testsuite";
+    private static final String TEST_CASE = "testcase";
+    private static final String FAILURE = "failure";
+    private static final String ERROR = "error";
+    private static final String SKIPPED = "skipped";
+
+    @Override
+    public List<TestSuite> loadFrom(final File xUnitReport) throws IOException {
+        final List<TestSuite> testSuites = Lists.newArrayList();
+        streamFrom(xUnitReport, new XUnitStreamHandler() {
+            private List<TestCase> testCases;
+
+            @Override
+            public void testSuiteStarted(TestSuite testSuite) {
+                testCases = Lists.newArrayList();
+            }
+
+            @Override
+            public void testCaseLoaded(TestSuite testSuite, TestCase testCase) {
+                testCases.add(testCase);
+            }
+
+            @Override
+            public void testSuiteFinished(TestSuite testSuite) {
+                testSuites.add(testSuite.withTestCases(testCases));
+            }
+        });
+        return testSuites;
+    }
+
+    /**
+     * Read an xUnit file, notifying the handler of each test suite and test case as it is found.
+     * Nested test suites are reported in the order in which they are closed, and each test case
+     * belongs to the innermost enclosing test suite.
+     */
+    public void streamFrom(final File xUnitReport, final XUnitStreamHandler handler) throws IOException {
+        InputStream inputStream = null;
+        XMLStreamReader reader = null;
+        try {
+            inputStream = new BufferedInputStream(new FileInputStream(xUnitReport));
+            reader = newInputFactory().createXMLStreamReader(inputStream);
+            int testSuiteCount = readTestSuites(reader, handler);
+            shouldHaveAtLeastOneTestSuite(testSuiteCount, xUnitReport);
+        } catch (CouldNotReadXUnitFileException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CouldNotReadXUnitFileException(e.getMessage());
+        } finally {
+            closeQuietly(reader);
+            if (inputStream != null) {
+                inputStream.close();
+            }
+        }
+    }
+
+    /**
+     * XMLInputFactory instances are not guaranteed to be thread-safe, and files may be read concurrently.
+     */
+    private XMLInputFactory newInputFactory() {
+        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        return inputFactory;
+    }
+
+    private int readTestSuites(XMLStreamReader reader, XUnitStreamHandler handler) throws XMLStreamException {
+        LinkedList<TestSuite> openTestSuites = Lists.newLinkedList();
+        int testSuiteCount = 0;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (TEST_SUITE.equals(reader.getLocalName())) {
+                    TestSuite testSuite = TestSuite.named(attribute(reader, "name"));
+                    openTestSuites.push(testSuite);
+                    handler.testSuiteStarted(testSuite);
+                    testSuiteCount++;
+                } else if (TEST_CASE.equals(reader.getLocalName()) && !openTestSuites.isEmpty()) {
+                    handler.testCaseLoaded(openTestSuites.peek(), readTestCase(reader));
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && TEST_SUITE.equals(reader.getLocalName())) {
+                handler.testSuiteFinished(openTestSuites.pop());
+            }
+        }
+        return testSuiteCount;
+    }
+
+    private TestCase readTestCase(XMLStreamReader reader) throws XMLStreamException {
+        TestCase testCase = TestCase.withName(attribute(reader, "name"))
+                                    .andClassname(attribute(reader, "classname"))
+                                    .andTime(timeFrom(attribute(reader, "time")));
+
+        TestException failure = null;
+        TestException error = null;
+        String skipped = "";
+
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String elementName = reader.getLocalName();
+                if (FAILURE.equals(elementName) && failure == null) {
+                    failure = readException(reader, FAILURE);
+                } else if (ERROR.equals(elementName) && error == null) {
+                    error = readException(reader, ERROR);
+                } else {
+                    if (SKIPPED.equals(elementName) && StringUtils.isEmpty(skipped)) {
+                        skipped = StringUtils.defaultIfEmpty(attribute(reader, "type"), "unknown");
+                    }
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+
+        if (failure != null) {
+            testCase = testCase.withFailure(failure);
+        }
+        if (error != null) {
+            testCase = testCase.withError(error);
+        }
+        if (StringUtils.isNotEmpty(skipped)) {
+            testCase = testCase.wasSkipped(skipped);
+        }
+        return testCase;
+    }
+
+    /**
+     * Reads the exception details and leaves the reader positioned on the closing tag of the exception element.
+     */
+    private TestException readException(XMLStreamReader reader, String exceptionType) throws XMLStreamException {
+        String message = attribute(reader, "message");
+        String errorOutput = textContentOf(reader);
+        return new TestException(message, errorOutput, exceptionType);
+    }
+
+    private String textContentOf(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder textContent = new StringBuilder();
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.CHARACTERS
+                       || event == XMLStreamConstants.CDATA
+                       || event == XMLStreamConstants.SPACE) {
+                textContent.append(reader.getText());
+            }
+        }
+        return textContent.toString();
+    }
+
+    private String attribute(XMLStreamReader reader, String name) {
+        return StringUtils.defaultString(reader.getAttributeValue(null, name));
+    }
+
+    private double timeFrom(String time) {
+        double timeValue = 0.0;
+        if (StringUtils.isNotEmpty(time)) {
+            timeValue = Double.parseDouble(time);
+        }
+        return timeValue;
+    }
+
+    private void shouldHaveAtLeastOneTestSuite(int testSuiteCount, File xUnitReport) {
+        if (testSuiteCount == 0) {
+            throw new CouldNotReadXUnitFileException("Could not read xUnit file " + xUnitReport.getAbsolutePath());
+        }
+    }
+
+    private void closeQuietly(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package net.thucydides.core.reports.adaptors.xunit;
+
+import net.thucydides.core.reports.adaptors.xunit.model.TestCase;
+import net.thucydides.core.reports.adaptors.xunit.model.TestSuite;
+
+/**
+ * Receives test suites and test cases one at a time as they are read from an xUnit file,
+ * so that large files can be processed without holding the whole document in memory.
+ */
+public interface XUnitStreamHandler {
+    void testSuiteStarted(TestSuite testSuite);
+
+    void testCaseLoaded(TestSuite testSuite, TestCase testCase);
+
+    void testSuiteFinished(TestSuite testSuite);
+}
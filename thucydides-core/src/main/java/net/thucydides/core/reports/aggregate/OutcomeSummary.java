@@ -0,0 +1,105 @@
+package net.thucydides.core.reports.aggregate;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestTag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An entry in the index of test outcomes kept in a partial aggregate: enough to list and link to a test
+ * without reading its full outcome.
+ */
+public class OutcomeSummary {
+
+    private final String reportName;
+    private final String title;
+    private final String storyTitle;
+    private final TestResult result;
+    private final int testCount;
+    private final int stepCount;
+    private final long duration;
+    private final List<String> tags;
+    private final String shard;
+
+    public OutcomeSummary(final String reportName,
+                          final String title,
+                          final String storyTitle,
+                          final TestResult result,
+                          final int testCount,
+                          final int stepCount,
+                          final long duration,
+                          final List<String> tags,
+                          final String shard) {
+        this.reportName = reportName;
+        this.title = title;
+        this.storyTitle = storyTitle;
+        this.result = result;
+        this.testCount = testCount;
+        this.stepCount = stepCount;
+        this.duration = duration;
+        this.tags = new ArrayList<String>(tags);
+        this.shard = shard;
+    }
+
+    public static OutcomeSummary of(final TestOutcome outcome, final String shard) {
+        List<String> tags = new ArrayList<String>();
+        for (TestTag tag : outcome.getTags()) {
+            tags.add(PartialAggregate.keyFor(tag));
+        }
+        Collections.sort(tags);
+        return new OutcomeSummary(outcome.getReportName(),
+                                  outcome.getTitle(),
+                                  outcome.getStoryTitle(),
+                                  outcome.getResult(),
+                                  outcome.getTestCount(),
+                                  outcome.getNestedStepCount(),
+                                  outcome.getDuration(),
+                                  tags,
+                                  shard);
+    }
+
+    public String getReportName() {
+        return reportName;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getStoryTitle() {
+        return storyTitle;
+    }
+
+    public TestResult getResult() {
+        return result;
+    }
+
+    public int getTestCount() {
+        return testCount;
+    }
+
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return The tags of this test, in the form "type:name".
+     */
+    public List<String> getTags() {
+        return Collections.unmodifiableList(tags);
+    }
+
+    /**
+     * @return The name of the shard that ran this test.
+     */
+    public String getShard() {
+        return shard;
+    }
+}
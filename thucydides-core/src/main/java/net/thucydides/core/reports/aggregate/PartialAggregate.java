@@ -0,0 +1,195 @@
+package net.thucydides.core.reports.aggregate;
+
+import com.google.common.collect.ImmutableList;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.reports.TestOutcomes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A summary of the test outcomes produced by one shard of a test run: the number of tests with each result,
+ * their duration and step count, overall and for each tag and requirement, and an index of the outcomes.
+ * The partial aggregates of several shards can be merged to summarize the whole run without reading
+ * every test outcome again.
+ */
+public class PartialAggregate {
+
+    private static final String TAG_SEPARATOR = ":";
+
+    private final List<String> shards = new ArrayList<String>();
+    private final ResultCounts totals = new ResultCounts();
+    private final Map<String, ResultCounts> tagCounts = new TreeMap<String, ResultCounts>();
+    private final Set<String> requirementTagTypes = new TreeSet<String>();
+    private final List<OutcomeSummary> outcomes = new ArrayList<OutcomeSummary>();
+
+    private PartialAggregate() {
+    }
+
+    /**
+     * Summarize the test outcomes of a shard.
+     */
+    public static PartialAggregate from(final String shard, final TestOutcomes testOutcomes) {
+        PartialAggregate partialAggregate = new PartialAggregate();
+        partialAggregate.shards.add(shard);
+        partialAggregate.requirementTagTypes.addAll(testOutcomes.getRequirementTagTypes());
+        for (TestOutcome outcome : testOutcomes.getOutcomes()) {
+            partialAggregate.add(outcome, shard);
+        }
+        return partialAggregate;
+    }
+
+    /**
+     * Combine the partial aggregates of several shards into a summary of all of their test outcomes.
+     */
+    public static PartialAggregate merge(final List<PartialAggregate> partialAggregates) {
+        PartialAggregate mergedAggregate = new PartialAggregate();
+        for (PartialAggregate partialAggregate : partialAggregates) {
+            mergedAggregate.add(partialAggregate);
+        }
+        return mergedAggregate;
+    }
+
+    private void add(final TestOutcome outcome, final String shard) {
+        ResultCounts outcomeCounts = ResultCounts.of(outcome);
+        totals.add(outcomeCounts);
+        for (TestTag tag : outcome.getTags()) {
+            countsForTag(keyFor(tag)).add(outcomeCounts);
+        }
+        outcomes.add(OutcomeSummary.of(outcome, shard));
+    }
+
+    private void add(final PartialAggregate partialAggregate) {
+        shards.addAll(partialAggregate.shards);
+        totals.add(partialAggregate.totals);
+        for (Map.Entry<String, ResultCounts> tagCount : partialAggregate.tagCounts.entrySet()) {
+            countsForTag(tagCount.getKey()).add(tagCount.getValue());
+        }
+        requirementTagTypes.addAll(partialAggregate.requirementTagTypes);
+        outcomes.addAll(partialAggregate.outcomes);
+    }
+
+    private ResultCounts countsForTag(final String tagKey) {
+        ResultCounts counts = tagCounts.get(tagKey);
+        if (counts == null) {
+            counts = new ResultCounts();
+            tagCounts.put(tagKey, counts);
+        }
+        return counts;
+    }
+
+    static String keyFor(final TestTag tag) {
+        return tag.getType() + TAG_SEPARATOR + tag.getName();
+    }
+
+    private static String typeIn(final String tagKey) {
+        return tagKey.substring(0, tagKey.indexOf(TAG_SEPARATOR));
+    }
+
+    private static String nameIn(final String tagKey) {
+        return tagKey.substring(tagKey.indexOf(TAG_SEPARATOR) + 1);
+    }
+
+    /**
+     * @return The names of the shards summarized here.
+     */
+    public List<String> getShards() {
+        return ImmutableList.copyOf(shards);
+    }
+
+    public ResultCounts getTotalTests() {
+        return totals;
+    }
+
+    public int getTotal() {
+        return totals.getTotal();
+    }
+
+    public int getTotalTestScenarios() {
+        return totals.getTotalTestScenarios();
+    }
+
+    public long getDuration() {
+        return totals.getDuration();
+    }
+
+    public int getStepCount() {
+        return totals.getStepCount();
+    }
+
+    public TestResult getResult() {
+        return totals.getResult();
+    }
+
+    public List<String> getTagTypes() {
+        Set<String> tagTypes = new TreeSet<String>();
+        for (String tagKey : tagCounts.keySet()) {
+            tagTypes.add(typeIn(tagKey));
+        }
+        return ImmutableList.copyOf(tagTypes);
+    }
+
+    public List<String> getTagsOfType(final String tagType) {
+        List<String> tagNames = new ArrayList<String>();
+        for (String tagKey : tagCounts.keySet()) {
+            if (typeIn(tagKey).equalsIgnoreCase(tagType)) {
+                tagNames.add(nameIn(tagKey));
+            }
+        }
+        return ImmutableList.copyOf(tagNames);
+    }
+
+    /**
+     * @return The test counts for the tests with a given tag, or empty counts if no test has this tag.
+     */
+    public ResultCounts withTag(final TestTag tag) {
+        ResultCounts counts = tagCounts.get(keyFor(tag));
+        return (counts != null) ? counts : new ResultCounts();
+    }
+
+    /**
+     * @return The test counts for each tag, indexed by tag in the form "type:name".
+     */
+    public Map<String, ResultCounts> getTagCounts() {
+        return Collections.unmodifiableMap(tagCounts);
+    }
+
+    /**
+     * @return The test counts for each requirement, indexed by requirement in the form "type:name".
+     */
+    public Map<String, ResultCounts> getRequirementCounts() {
+        Map<String, ResultCounts> requirementCounts = new TreeMap<String, ResultCounts>();
+        for (Map.Entry<String, ResultCounts> tagCount : tagCounts.entrySet()) {
+            if (requirementTagTypes.contains(typeIn(tagCount.getKey()))) {
+                requirementCounts.put(tagCount.getKey(), tagCount.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(requirementCounts);
+    }
+
+    public List<String> getRequirementTagTypes() {
+        return ImmutableList.copyOf(requirementTagTypes);
+    }
+
+    /**
+     * @return An index of the test outcomes, in the order in which the shards were merged.
+     */
+    public List<OutcomeSummary> getOutcomes() {
+        return Collections.unmodifiableList(outcomes);
+    }
+
+    @Override
+    public String toString() {
+        return "PartialAggregate{" +
+                "shards=" + shards +
+                ", totals=" + totals +
+                '}';
+    }
+}
@@ -0,0 +1,122 @@
+package net.thucydides.core.reports.aggregate;
+
+import com.google.common.base.Optional;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.StreamException;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads and writes partial aggregates.
+ * Each shard writes its partial aggregate to its own output directory; the merge step looks for them in
+ * a directory and its subdirectories, so the output directories of the shards can simply be copied side by side.
+ */
+public class PartialAggregates {
+
+    public static final String PARTIAL_AGGREGATE_FILE = "thucydides-partial-aggregate.xml";
+    public static final String MERGED_AGGREGATE_FILE = "thucydides-summary.xml";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartialAggregates.class);
+
+    private PartialAggregates() {
+    }
+
+    public static File writePartialAggregateTo(final File directory, final PartialAggregate partialAggregate) throws IOException {
+        return write(partialAggregate, new File(directory, PARTIAL_AGGREGATE_FILE));
+    }
+
+    public static File writeMergedAggregateTo(final File directory, final PartialAggregate mergedAggregate) throws IOException {
+        return write(mergedAggregate, new File(directory, MERGED_AGGREGATE_FILE));
+    }
+
+    private static File write(final PartialAggregate aggregate, final File aggregateFile) throws IOException {
+        aggregateFile.getParentFile().mkdirs();
+        Writer writer = null;
+        try {
+            writer = new OutputStreamWriter(new FileOutputStream(aggregateFile), Charset.forName("UTF-8"));
+            new XStream().toXML(aggregate, writer);
+        } finally {
+            IOUtils.closeQuietly(writer);
+        }
+        return aggregateFile;
+    }
+
+    /**
+     * @return The partial aggregates found in a directory or any of its subdirectories.
+     */
+    public static List<PartialAggregate> loadFrom(final File directory) {
+        List<File> partialAggregateFiles = new ArrayList<File>();
+        findPartialAggregateFilesIn(directory, partialAggregateFiles);
+
+        XStream xstream = new XStream();
+        List<PartialAggregate> partialAggregates = new ArrayList<PartialAggregate>();
+        for (File partialAggregateFile : partialAggregateFiles) {
+            partialAggregates.add(read(xstream, partialAggregateFile));
+        }
+        return partialAggregates;
+    }
+
+    private static void findPartialAggregateFilesIn(final File directory, final List<File> partialAggregateFiles) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files);
+        for (File file : files) {
+            if (file.isDirectory()) {
+                findPartialAggregateFilesIn(file, partialAggregateFiles);
+            } else if (file.getName().equals(PARTIAL_AGGREGATE_FILE)) {
+                partialAggregateFiles.add(file);
+            }
+        }
+    }
+
+    private static PartialAggregate read(final XStream xstream, final File partialAggregateFile) {
+        Reader reader = null;
+        try {
+            reader = new InputStreamReader(new FileInputStream(partialAggregateFile), Charset.forName("UTF-8"));
+            return (PartialAggregate) xstream.fromXML(reader);
+        } catch (FileNotFoundException e) {
+            throw new IllegalArgumentException("Unable to read aggregate in " + partialAggregateFile, e);
+        } catch (StreamException streamException) {
+            throw new IllegalArgumentException("Unable to parse aggregate in " + partialAggregateFile, streamException);
+        } finally {
+            IOUtils.closeQuietly(reader);
+        }
+    }
+
+    /**
+     * @return The merged aggregate written to a directory by the merge step, if there is one.
+     */
+    public static Optional<PartialAggregate> readMergedAggregateFrom(final File directory) {
+        File mergedAggregateFile = new File(directory, MERGED_AGGREGATE_FILE);
+        if (!mergedAggregateFile.exists()) {
+            return Optional.absent();
+        }
+        return Optional.of(read(new XStream(), mergedAggregateFile));
+    }
+
+    /**
+     * Merge the partial aggregates found in a directory or any of its subdirectories.
+     */
+    public static PartialAggregate mergeFrom(final File directory) {
+        List<PartialAggregate> partialAggregates = loadFrom(directory);
+        LOGGER.info("Merging {} partial aggregates from {}", partialAggregates.size(), directory);
+        return PartialAggregate.merge(partialAggregates);
+    }
+}
@@ -0,0 +1,112 @@
+package net.thucydides.core.reports.aggregate;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestResultList;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The number of tests with each result, along with their total duration and step count.
+ * Counts from different sets of test outcomes can be added together.
+ */
+public class ResultCounts {
+
+    private final Map<TestResult, Integer> testsWithResult = new EnumMap<TestResult, Integer>(TestResult.class);
+    private int total;
+    private int scenarios;
+    private int stepCount;
+    private long duration;
+
+    public static ResultCounts of(final TestOutcome outcome) {
+        ResultCounts counts = new ResultCounts();
+        counts.add(outcome);
+        return counts;
+    }
+
+    public void add(final TestOutcome outcome) {
+        for (TestResult result : TestResult.values()) {
+            addTestsWithResult(result, outcome.countResults(result));
+        }
+        total += outcome.getTestCount();
+        scenarios++;
+        stepCount += outcome.getNestedStepCount();
+        duration += outcome.getDuration();
+    }
+
+    public void add(final ResultCounts otherCounts) {
+        for (Map.Entry<TestResult, Integer> resultCount : otherCounts.testsWithResult.entrySet()) {
+            addTestsWithResult(resultCount.getKey(), resultCount.getValue());
+        }
+        total += otherCounts.total;
+        scenarios += otherCounts.scenarios;
+        stepCount += otherCounts.stepCount;
+        duration += otherCounts.duration;
+    }
+
+    private void addTestsWithResult(final TestResult result, final int count) {
+        if (count > 0) {
+            testsWithResult.put(result, withResult(result) + count);
+        }
+    }
+
+    /**
+     * @return The total number of test runs, including rows in data-driven tests.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @return The number of test scenarios (a data-driven test is counted as one test scenario).
+     */
+    public int getTotalTestScenarios() {
+        return scenarios;
+    }
+
+    public int withResult(final TestResult result) {
+        Integer count = testsWithResult.get(result);
+        return (count != null) ? count : 0;
+    }
+
+    public int withResult(final String result) {
+        return withResult(TestResult.valueOf(result.toUpperCase()));
+    }
+
+    public int withIndeterminateResult() {
+        return total - withResult(TestResult.SUCCESS) - withResult(TestResult.FAILURE) - withResult(TestResult.ERROR);
+    }
+
+    public int withFailureOrError() {
+        return withResult(TestResult.FAILURE) + withResult(TestResult.ERROR);
+    }
+
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * @return The total duration of the tests in milliseconds.
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    public TestResult getResult() {
+        List<TestResult> results = new ArrayList<TestResult>(testsWithResult.keySet());
+        return TestResultList.of(results).getOverallResult();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCounts{" +
+                "total=" + total +
+                ", results=" + testsWithResult +
+                ", steps=" + stepCount +
+                ", duration=" + duration +
+                '}';
+    }
+}
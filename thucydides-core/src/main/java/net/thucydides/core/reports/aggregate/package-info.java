@@ -0,0 +1,4 @@
+/**
+ * Partial aggregates, used to summarize test runs that are split across several machines.
+ */
+package net.thucydides.core.reports.aggregate;
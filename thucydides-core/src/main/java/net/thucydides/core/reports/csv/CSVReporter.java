@@ -20,9 +20,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
-import static ch.lambdaj.Lambda.extract;
-import static ch.lambdaj.Lambda.on;
-
 /**
  * Stores test outcomes as CSV files
  */
@@ -57,13 +54,21 @@ public class CSVReporter extends ThucydidesReporter {
     }
 
     private void writeTitleRow(CSVWriter writer) {
+        writer.writeNext(titleRow());
+    }
+
+    String[] titleRow() {
         Inflector inflector = Inflector.getInstance();
         List<String> titles = new ArrayList<String>();
         titles.addAll(Arrays.asList(TITLE_LINE));
         for(String extraColumn : extraColumns) {
             titles.add(inflector.of(extraColumn).asATitle().toString());
         }
-        writer.writeNext(titles.toArray(OF_STRINGS));
+        return titles.toArray(OF_STRINGS);
+    }
+
+    String getEncoding() {
+        return encoding;
     }
 
     private void writeEachRow(TestOutcomes testOutcomes, CSVWriter writer) {
@@ -76,14 +81,17 @@ public class CSVReporter extends ThucydidesReporter {
         return 0.0;//outcome.getStatistics().getPassRate().overTheLast(5).testRuns();
     }
 
-    private String[] withRowDataFrom(TestOutcome outcome) {
+    String[] withRowDataFrom(TestOutcome outcome) {
         List<? extends Serializable> defaultValues = ImmutableList.of(outcome.getStoryTitle(),
                                                                       outcome.getTitle(),
                                                                       outcome.getResult(),
                                                                       outcome.getStartTime(),
                                                                       passRateFor(outcome),
                                                                       outcome.getDurationInSeconds());
-        List<String> cellValues = extract(defaultValues, on(Object.class).toString());
+        List<String> cellValues = Lists.newArrayList();
+        for (Serializable value : defaultValues) {
+            cellValues.add(value.toString());
+        }
         cellValues.addAll(extraValuesFrom(outcome));
         return cellValues.toArray(OF_STRINGS);
     }
@@ -97,7 +105,7 @@ public class CSVReporter extends ThucydidesReporter {
         return extraValues;
     }
 
-    private File getOutputFile(String reportName) {
+    File getOutputFile(String reportName) {
         return new File(getOutputDirectory(), reportName);
     }
 }
@@ -0,0 +1,157 @@
+package net.thucydides.core.reports.csv;
+
+import au.com.bytecode.opencsv.CSVWriter;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static ch.lambdaj.Lambda.on;
+import static ch.lambdaj.Lambda.sort;
+
+/**
+ * Writes the CSV files for many different views of the same test outcomes (by tag, tag type, result and so on).
+ * Views are registered as the HTML reports are generated, and the CSV files are all written at the end:
+ * each test outcome is formatted as a CSV row only once, and the row is then written to every view it appears in.
+ * Only a limited number of CSV files are kept open at any one time.
+ */
+public class MultiViewCSVReporter {
+
+    private static final int MAXIMUM_OPEN_FILES = 64;
+    private static final int WRITE_BUFFER_SIZE = 32 * 1024;
+
+    private final CSVReporter csvReporter;
+    private final int maximumOpenFiles;
+    private final Map<String, List<? extends TestOutcome>> views = new LinkedHashMap<String, List<? extends TestOutcome>>();
+
+    public MultiViewCSVReporter(File outputDirectory) {
+        this(outputDirectory, Injectors.getInjector().getInstance(EnvironmentVariables.class));
+    }
+
+    public MultiViewCSVReporter(File outputDirectory, EnvironmentVariables environmentVariables) {
+        this(outputDirectory, environmentVariables, MAXIMUM_OPEN_FILES);
+    }
+
+    public MultiViewCSVReporter(File outputDirectory, EnvironmentVariables environmentVariables, int maximumOpenFiles) {
+        this.csvReporter = new CSVReporter(outputDirectory, environmentVariables);
+        this.maximumOpenFiles = Math.max(1, maximumOpenFiles);
+    }
+
+    /**
+     * Register a CSV file to be written for a given set of test outcomes.
+     * If the same report name is registered twice, the most recent test outcomes are used.
+     */
+    public void addView(TestOutcomes testOutcomes, String reportName) {
+        views.put(reportName, testOutcomes.getOutcomes());
+    }
+
+    public List<File> generateReports() throws IOException {
+        List<TestOutcome> allOutcomes = distinctOutcomesIn(views.values());
+        List<TestOutcome> sortedOutcomes = sort(allOutcomes, on(TestOutcome.class).getTitle());
+        List<String[]> rows = Lists.newArrayList();
+        Map<TestOutcome, Integer> rowIndexes = new IdentityHashMap<TestOutcome, Integer>();
+        for (TestOutcome outcome : sortedOutcomes) {
+            rowIndexes.put(outcome, rows.size());
+            rows.add(csvReporter.withRowDataFrom(outcome));
+        }
+
+        List<String> reportNames = Lists.newArrayList(views.keySet());
+        List<List<Integer>> viewsForEachRow = viewsForEachRow(reportNames, rowIndexes, rows.size());
+
+        List<File> reports = Lists.newArrayList();
+        for (int firstView = 0; firstView < reportNames.size(); firstView += maximumOpenFiles) {
+            int lastView = Math.min(firstView + maximumOpenFiles, reportNames.size());
+            reports.addAll(writeViews(reportNames.subList(firstView, lastView), firstView, rows, viewsForEachRow));
+        }
+        views.clear();
+        return reports;
+    }
+
+    private List<TestOutcome> distinctOutcomesIn(Iterable<List<? extends TestOutcome>> outcomeLists) {
+        Map<TestOutcome, Boolean> distinctOutcomes = new IdentityHashMap<TestOutcome, Boolean>();
+        List<TestOutcome> outcomes = Lists.newArrayList();
+        for (List<? extends TestOutcome> outcomeList : outcomeLists) {
+            for (TestOutcome outcome : outcomeList) {
+                if (distinctOutcomes.put(outcome, Boolean.TRUE) == null) {
+                    outcomes.add(outcome);
+                }
+            }
+        }
+        return outcomes;
+    }
+
+    private List<List<Integer>> viewsForEachRow(List<String> reportNames, Map<TestOutcome, Integer> rowIndexes, int rowCount) {
+        List<List<Integer>> viewsForEachRow = Lists.newArrayListWithCapacity(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            viewsForEachRow.add(Lists.<Integer>newArrayList());
+        }
+        for (int view = 0; view < reportNames.size(); view++) {
+            for (TestOutcome outcome : views.get(reportNames.get(view))) {
+                viewsForEachRow.get(rowIndexes.get(outcome)).add(view);
+            }
+        }
+        return viewsForEachRow;
+    }
+
+    private List<File> writeViews(List<String> reportNames,
+                                  int firstView,
+                                  List<String[]> rows,
+                                  List<List<Integer>> viewsForEachRow) throws IOException {
+        Map<Integer, CSVWriter> writers = Maps.newHashMap();
+        List<File> reports = Lists.newArrayList();
+        try {
+            for (int i = 0; i < reportNames.size(); i++) {
+                File report = csvReporter.getOutputFile(reportNames.get(i));
+                CSVWriter writer = bufferedWriterFor(report);
+                writers.put(firstView + i, writer);
+                writer.writeNext(csvReporter.titleRow());
+                reports.add(report);
+            }
+            for (int row = 0; row < rows.size(); row++) {
+                for (Integer view : viewsForEachRow.get(row)) {
+                    CSVWriter writer = writers.get(view);
+                    if (writer != null) {
+                        writer.writeNext(rows.get(row));
+                    }
+                }
+            }
+        } finally {
+            closeAll(writers.values());
+        }
+        return reports;
+    }
+
+    private CSVWriter bufferedWriterFor(File report) throws IOException {
+        return new CSVWriter(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(report),
+                                                                       csvReporter.getEncoding()),
+                                                WRITE_BUFFER_SIZE));
+    }
+
+    private void closeAll(Iterable<CSVWriter> writers) throws IOException {
+        IOException firstFailure = null;
+        for (CSVWriter writer : writers) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package net.thucydides.core.reports.history;
+
+import org.joda.time.DateTime;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The median load time of each page visited during a build, kept so that page performance can be compared
+ * from one build to the next.
+ */
+public class PagePerformanceSnapshot implements Comparable<PagePerformanceSnapshot> {
+
+    private final DateTime time;
+    private final String buildId;
+    private final Map<String, Long> medianPageLoadTimes;
+
+    public PagePerformanceSnapshot(final DateTime time, final String buildId, final Map<String, Long> medianPageLoadTimes) {
+        this.time = time;
+        this.buildId = buildId;
+        this.medianPageLoadTimes = new LinkedHashMap<String, Long>(medianPageLoadTimes);
+    }
+
+    public DateTime getTime() {
+        return time;
+    }
+
+    public String getBuildId() {
+        return buildId;
+    }
+
+    public Map<String, Long> getMedianPageLoadTimes() {
+        return Collections.unmodifiableMap(medianPageLoadTimes);
+    }
+
+    public int compareTo(PagePerformanceSnapshot otherSnapshot) {
+        if (this == otherSnapshot) {
+            return 0;
+        } else {
+            return this.getTime().compareTo(otherSnapshot.getTime());
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Keep track of the test results over time.
@@ -122,6 +123,24 @@ public class TestHistory {
         }
     }
 
+    /**
+     * Record the median load time of each page visited in this build, if any page timings were recorded.
+     */
+    public void updatePagePerformanceHistory(Map<String, Long> medianPageLoadTimes) {
+        if (medianPageLoadTimes.isEmpty()) {
+            return;
+        }
+        String buildId = getEnvironmentVariables().getValue(BUILD_ID, "MANUAL");
+        PagePerformanceSnapshot newSnapshot = new PagePerformanceSnapshot(dateProvider.getCurrentTime(),
+                                                                          buildId,
+                                                                          medianPageLoadTimes);
+        try {
+            save(newSnapshot);
+        } catch (FileNotFoundException e) {
+            throw new IllegalArgumentException("Unable to store history data", e);
+        }
+    }
+
     private void save(TestResultSnapshot snapshot) throws FileNotFoundException {
         XStream xstream = new XStream();
         File snapshotFile = new File(getDirectory(), outcomesPrefix() + snapshot.getTime().getMillis());
@@ -160,6 +179,21 @@ public class TestHistory {
 
     }
 
+    private void save(PagePerformanceSnapshot snapshot) throws FileNotFoundException {
+        XStream xstream = new XStream();
+        File snapshotFile = new File(getDirectory(), pagePerformancePrefix() + snapshot.getTime().getMillis());
+        OutputStream out = null;
+        Writer writer = null;
+        try {
+            out = new FileOutputStream(snapshotFile);
+            writer = new OutputStreamWriter(out, Charset.forName("UTF-8"));
+            xstream.toXML(snapshot, writer);
+        } finally {
+            close(writer);
+            close(out);
+        }
+    }
+
     public List<TestResultSnapshot> getHistory() {
         File[] historyFiles = getOutcomeFiles();
 
@@ -217,6 +251,34 @@ public class TestHistory {
         return resultSnapshots;
     }
 
+    public List<PagePerformanceSnapshot> getPagePerformanceHistory() {
+        File[] historyFiles = getPagePerformanceFiles();
+
+        List<PagePerformanceSnapshot> resultSnapshots = new ArrayList<PagePerformanceSnapshot>();
+
+        XStream xstream = new XStream();
+        for (File historyFile : historyFiles) {
+            PagePerformanceSnapshot snapshot = null;
+            InputStream inputStream = null;
+            Reader reader = null;
+            try {
+                inputStream = new FileInputStream(historyFile);
+                reader = new InputStreamReader(inputStream, Charset.forName("UTF-8"));
+                snapshot = (PagePerformanceSnapshot) xstream.fromXML(reader);
+            } catch (FileNotFoundException e) {
+                throw new IllegalArgumentException("Unable to read history data in " + historyFile, e);
+            } catch (StreamException streamException) {
+                throw new IllegalArgumentException("Unable to parse history data in " + historyFile, streamException);
+            } finally {
+                close(reader);
+                close(inputStream);
+            }
+            resultSnapshots.add(snapshot);
+        }
+        Collections.sort(resultSnapshots);
+        return resultSnapshots;
+    }
+
     private void close(Closeable stream) {
         try {
             stream.close();
@@ -251,10 +313,20 @@ public class TestHistory {
         });
     }
 
+    private File[] getPagePerformanceFiles() {
+        return getDirectory().listFiles(new FilenameFilter() {
+            public boolean accept(File directory, String filename) {
+                return filename.startsWith(pagePerformancePrefix());
+            }
+        });
+    }
+
     private File[] getHistoryFiles() {
         return getDirectory().listFiles(new FilenameFilter() {
             public boolean accept(File directory, String filename) {
-                return filename.startsWith(outcomesPrefix()) || filename.startsWith(progressPrefix());
+                return filename.startsWith(outcomesPrefix())
+                        || filename.startsWith(progressPrefix())
+                        || filename.startsWith(pagePerformancePrefix());
             }
         });
     }
@@ -267,6 +339,10 @@ public class TestHistory {
         return "thucydides-progress-";
     }
 
+    private String pagePerformancePrefix() {
+        return "thucydides-page-performance-";
+    }
+
     public void clearHistory() {
         File[] historyFiles = getHistoryFiles();
         for(File historyFile : historyFiles) {
@@ -1,5 +1,8 @@
 package net.thucydides.core.reports.html;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Key;
@@ -10,6 +13,7 @@ import net.thucydides.core.reports.renderer.Asciidoc;
 import net.thucydides.core.reports.renderer.MarkupRenderer;
 import net.thucydides.core.util.EnvironmentVariables;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.text.translate.AggregateTranslator;
 import org.apache.commons.lang3.text.translate.CharSequenceTranslator;
 import org.apache.commons.lang3.text.translate.EntityArrays;
@@ -18,6 +22,9 @@ import org.apache.commons.lang3.text.translate.LookupTranslator;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,6 +33,8 @@ import static ch.lambdaj.Lambda.join;
 /**
  * Format text for HTML reports.
  * In particular, this integrates JIRA links into the generated reports.
+ * The same titles and step descriptions are formatted on many report pages, so issue links and step descriptions
+ * are each produced in a single scan of the text and cached by their content and the settings that affect them.
  */
 public class Formatter {
 
@@ -33,7 +42,13 @@ public class Formatter {
     private final static Pattern shortIssueNumberPattern = Pattern.compile(ISSUE_NUMBER_REGEXP);
     private final static String FULL_ISSUE_NUMBER_REGEXP = "([A-Z][A-Z0-9-_]*)-\\d+";
     private final static Pattern fullIssueNumberPattern = Pattern.compile(FULL_ISSUE_NUMBER_REGEXP);
-    private final static String ISSUE_LINK_FORMAT = "<a target=\"_blank\" href=\"{0}\">{1}</a>";
+    private final static Pattern anyIssueNumberPattern
+            = Pattern.compile("(" + ISSUE_NUMBER_REGEXP + ")|" + FULL_ISSUE_NUMBER_REGEXP);
+    private static final String KEY_SEPARATOR = "\u0000";
+    private static final String TRIM_MACRO = "{trim=false}";
+    private static final String WHITESPACE = " \t\n\u000B\f\r";
+    private static final String LINE_BREAK = "<br>";
+    private static final int MAXIMUM_CACHED_TEXTS = 10000;
     private static final String ELIPSE = "&hellip;";
     private static final String ASCIIDOC = "asciidoc";
 
@@ -41,6 +56,12 @@ public class Formatter {
     private final EnvironmentVariables environmentVariables;
     private final MarkupRenderer asciidocRenderer;
 
+    // Formatters are created for each test outcome and report, so formatted texts are shared between them
+    private final static Cache<String, String> linkedTexts
+            = CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_TEXTS).build();
+    private final static Cache<String, String> textsFormattedWithFields
+            = CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_TEXTS).build();
+
     @Inject
     public Formatter(IssueTracking issueTracking, EnvironmentVariables environmentVariables) {
         this.issueTracking = issueTracking;
@@ -73,11 +94,15 @@ public class Formatter {
             Matcher matcher = shortIssueNumberPattern.matcher(workingCopy);
 
             ArrayList<String> issues = Lists.newArrayList();
+            StringBuilder remainingText = new StringBuilder(workingCopy.length());
+            int position = 0;
             while (matcher.find()) {
-                String issue = matcher.group();
-                issues.add(issue);
-                workingCopy = workingCopy.replaceFirst(issue, "");
+                issues.add(matcher.group());
+                remainingText.append(workingCopy, position, matcher.start());
+                position = matcher.end();
             }
+            remainingText.append(workingCopy, position, workingCopy.length());
+            workingCopy = remainingText.toString();
 
             return issues;
         }
@@ -87,9 +112,7 @@ public class Formatter {
 
             ArrayList<String> issues = Lists.newArrayList();
             while (unhashedMatcher.find()) {
-                String issue = unhashedMatcher.group();
-                issues.add(issue);
-                workingCopy = workingCopy.replaceFirst(issue, "");
+                issues.add(unhashedMatcher.group());
             }
 
             return issues;
@@ -109,17 +132,29 @@ public class Formatter {
     }
 
     public String addLinks(final String value) {
-        if (issueTracking == null) {
+        if (issueTracking == null || value == null) {
             return value;
         }
-        String formattedValue = value;
-        if (issueTracking.getIssueTrackerUrl() != null) {
-            formattedValue = insertFullIssueTrackingUrls(value);
+        final String issueUrlFormat = issueTracking.getIssueTrackerUrl();
+        final String shortenedIssueUrlFormat = issueTracking.getShortenedIssueTrackerUrl();
+        if (issueUrlFormat == null && shortenedIssueUrlFormat == null) {
+            return value;
         }
-        if (issueTracking.getShortenedIssueTrackerUrl() != null) {
-            formattedValue = insertShortenedIssueTrackingUrls(formattedValue);
+        String key = issueUrlFormat + KEY_SEPARATOR + shortenedIssueUrlFormat + KEY_SEPARATOR + value;
+        return cached(linkedTexts, key, new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return insertIssueTrackingUrls(value, issueUrlFormat, shortenedIssueUrlFormat);
+            }
+        });
+    }
+
+    private String cached(Cache<String, String> formattedTexts, String key, Callable<String> formatting) {
+        try {
+            return formattedTexts.get(key, formatting);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not format text: " + key, e.getCause());
         }
-        return formattedValue;
     }
 
 
@@ -154,6 +189,16 @@ public class Formatter {
         return text;
     }
 
+    private String convertTableBetween(String text, int firstPipe, int lastPipe) {
+        if (firstPipe < 0 || lastPipe <= firstPipe) {
+            return text;
+        }
+        int tableStart = (firstPipe > 0) ? firstPipe - 1 : 0;
+        int tableEnd = (lastPipe + 2 < text.length()) ? lastPipe + 2 : text.length();
+        ExampleTable table = new ExampleTable(text.substring(tableStart, tableEnd));
+        return text.substring(0, tableStart) + table.inHtmlFormat() + text.substring(tableEnd);
+    }
+
     private boolean shouldFormatEmbeddedTables() {
         return !environmentVariables.getPropertyAsBoolean(ThucydidesSystemProperty.IGNORE_EMBEDDED_TABLES, false);
     }
@@ -216,16 +261,39 @@ public class Formatter {
         }
     }
 
-    private String insertShortenedIssueTrackingUrls(String value) {
-        String formattedValue = value;
-        String issueUrlFormat = issueTracking.getShortenedIssueTrackerUrl();
-        List<String> issues = shortenedIssuesIn(value);
-        for (String issue : issues) {
-            String issueUrl = MessageFormat.format(issueUrlFormat, stripLeadingHashFrom(issue));
-            String issueLink = MessageFormat.format(ISSUE_LINK_FORMAT, issueUrl, issue);
-            formattedValue = formattedValue.replaceAll(issue, issueLink);
+    /**
+     * Issue numbers with a leading hash are linked using the shortened issue tracker URL, and full issue numbers
+     * using the issue tracker URL. When there is no shortened URL, a full issue number after the hash is still linked.
+     */
+    private String insertIssueTrackingUrls(String value, String issueUrlFormat, String shortenedIssueUrlFormat) {
+        Matcher matcher = anyIssueNumberPattern.matcher(value);
+        StringBuilder formattedValue = new StringBuilder(value.length() + 64);
+        int position = 0;
+        while (position < value.length() && matcher.find(position)) {
+            String issue = matcher.group();
+            boolean shortenedIssue = (matcher.group(1) != null);
+            if (shortenedIssue && shortenedIssueUrlFormat != null) {
+                formattedValue.append(value, position, matcher.start());
+                appendIssueLink(formattedValue, MessageFormat.format(shortenedIssueUrlFormat, stripLeadingHashFrom(issue)), issue);
+                position = matcher.end();
+            } else if (shortenedIssue) {
+                formattedValue.append(value, position, matcher.start() + 1);
+                position = matcher.start() + 1;
+            } else if (issueUrlFormat != null) {
+                formattedValue.append(value, position, matcher.start());
+                appendIssueLink(formattedValue, MessageFormat.format(issueUrlFormat, issue), issue);
+                position = matcher.end();
+            } else {
+                formattedValue.append(value, position, matcher.end());
+                position = matcher.end();
+            }
         }
-        return formattedValue;
+        formattedValue.append(value, position, value.length());
+        return formattedValue.toString();
+    }
+
+    private void appendIssueLink(StringBuilder formattedValue, String issueUrl, String issue) {
+        formattedValue.append("<a target=\"_blank\" href=\"").append(issueUrl).append("\">").append(issue).append("</a>");
     }
 
     public static List<String> shortenedIssuesIn(String value) {
@@ -238,28 +306,83 @@ public class Formatter {
         return extractor.getFullIssues();
     }
 
-    private String insertFullIssueTrackingUrls(String value) {
-        String formattedValue = value;
-        String issueUrlFormat = issueTracking.getIssueTrackerUrl();
-        List<String> issues = fullIssuesIn(value);
-        for (String issue : issues) {
-            String issueUrl = MessageFormat.format(issueUrlFormat, issue);
-            String issueLink = MessageFormat.format(ISSUE_LINK_FORMAT, issueUrl, issue);
-            formattedValue = formattedValue.replaceAll(issue, issueLink);
+    public String formatWithFields(final String textToFormat, final List<String> fields) {
+        final boolean formatTables = shouldFormatEmbeddedTables();
+        String key = formatTables + KEY_SEPARATOR + fields.size() + KEY_SEPARATOR
+                     + StringUtils.join(fields, KEY_SEPARATOR) + KEY_SEPARATOR + textToFormat;
+        return cached(textsFormattedWithFields, key, new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return formatFieldsTablesAndLineBreaks(textToFormat, ImmutableSet.copyOf(fields), formatTables);
+            }
+        });
+    }
+
+    /**
+     * Escapes the example fields and finds any embedded table in one scan, then converts the table and
+     * the line breaks and removes the trim macros in a second.
+     */
+    private String formatFieldsTablesAndLineBreaks(String text, Set<String> fields, boolean formatTables) {
+        StringBuilder textWithEscapedFields = new StringBuilder(text.length() + 16);
+        int firstPipe = -1;
+        int lastPipe = -1;
+        int position = 0;
+        while (position < text.length()) {
+            char nextChar = text.charAt(position);
+            if (nextChar == '<' && !fields.isEmpty()) {
+                int endOfField = text.indexOf('>', position + 1);
+                if (endOfField > 0 && fields.contains(text.substring(position + 1, endOfField))) {
+                    textWithEscapedFields.append("&lt;").append(text, position + 1, endOfField).append("&gt;");
+                    position = endOfField + 1;
+                    continue;
+                }
+            } else if (nextChar == '|') {
+                if (firstPipe < 0) {
+                    firstPipe = textWithEscapedFields.length();
+                }
+                lastPipe = textWithEscapedFields.length();
+            }
+            textWithEscapedFields.append(nextChar);
+            position++;
         }
-        return formattedValue;
+        String textWithTables = (formatTables) ?
+                convertTableBetween(textWithEscapedFields.toString(), firstPipe, lastPipe) : textWithEscapedFields.toString();
+        return addLineBreaksAndRemoveMacros(textWithTables);
     }
 
-    public String formatWithFields(String textToFormat, List<String> fields) {
-        String textWithEscapedFields = textToFormat;
-        for (String field : fields) {
-            textWithEscapedFields = textWithEscapedFields.replaceAll("<" + field + ">", "&lt;" + field + "&gt;");
+    private String addLineBreaksAndRemoveMacros(String text) {
+        StringBuilder formattedText = new StringBuilder(text.length() + 32);
+        int position = 0;
+        while (position < text.length()) {
+            char nextChar = text.charAt(position);
+            if (nextChar == '\n') {
+                formattedText.append(LINE_BREAK);
+                position++;
+            } else if (nextChar == '\r' && position + 1 < text.length() && text.charAt(position + 1) == '\n') {
+                formattedText.append(LINE_BREAK);
+                position += 2;
+            } else if (nextChar == '{' && text.startsWith(TRIM_MACRO, position) && endOfMacroAt(text, position) > 0) {
+                position = endOfMacroAt(text, position);
+            } else {
+                formattedText.append(nextChar);
+                position++;
+            }
         }
-        return addLineBreaks(removeMacros(convertAnyTables(textWithEscapedFields)));
+        return formattedText.toString();
     }
 
-    private String removeMacros(String textToFormat) {
-        return textToFormat.replaceAll("\\{trim=false\\}\\s*\\r?\\n","");
+    /**
+     * A trim macro is removed together with the whitespace that follows it, up to and including the last new line.
+     */
+    private int endOfMacroAt(String text, int macroStart) {
+        int endOfMacro = -1;
+        for (int position = macroStart + TRIM_MACRO.length();
+             position < text.length() && WHITESPACE.indexOf(text.charAt(position)) >= 0; position++) {
+            if (text.charAt(position) == '\n') {
+                endOfMacro = position + 1;
+            }
+        }
+        return endOfMacro;
     }
 
     private String stripLeadingHashFrom(final String issue) {
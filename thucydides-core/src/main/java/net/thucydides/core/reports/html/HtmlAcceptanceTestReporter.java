@@ -4,7 +4,7 @@ import ch.lambdaj.function.convert.Converter;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Predicate;
 import net.thucydides.core.guice.Injectors;
-import net.thucydides.core.images.ResizableImage;
+import net.thucydides.core.images.ScreenshotDimensions;
 import net.thucydides.core.issues.IssueTracking;
 import net.thucydides.core.model.Screenshot;
 import net.thucydides.core.model.TestOutcome;
@@ -20,6 +20,7 @@ import net.thucydides.core.util.Inflector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.awt.Dimension;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
@@ -29,6 +30,7 @@ import java.util.Map;
 import static ch.lambdaj.Lambda.convert;
 import static com.google.common.collect.Iterables.any;
 import static net.thucydides.core.ThucydidesSystemProperty.THUCYDIDES_KEEP_UNSCALED_SCREENSHOTS;
+import static net.thucydides.core.ThucydidesSystemProperty.THUCYDIDES_SCREENSHOT_PADDING;
 import static net.thucydides.core.model.ReportType.HTML;
 
 /**
@@ -40,6 +42,7 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
     private static final String DEFAULT_ACCEPTANCE_TEST_REPORT = "freemarker/default.ftl";
     private static final String DEFAULT_ACCEPTANCE_TEST_SCREENSHOT = "freemarker/screenshots.ftl";
     private static final int MAXIMUM_SCREENSHOT_WIDTH = 1000;
+    private static final String HTML_SCREENSHOT_PADDING = "html";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HtmlAcceptanceTestReporter.class);
 
@@ -130,13 +133,19 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
 
         Preconditions.checkNotNull(getOutputDirectory());
 
-        List<Screenshot> screenshots = expandScreenshots(testOutcome.getScreenshots());
+        List<Screenshot> screenshots = testOutcome.getScreenshots();
+        int maxHeight = maxScreenshotHeightIn(screenshots);
 
         String screenshotReport = testOutcome.getReportName() + "_screenshots.html";
 
         Map<String,Object> context = new HashMap<String,Object>();
         addTestOutcomeToContext(testOutcome, allTestOutcomes, context);
         addFormattersToContext(context);
+        if (shouldPadScreenshotsInHtml()) {
+            context.put("screenshotHeight", maxHeight);
+        } else {
+            screenshots = expandScreenshots(screenshots, maxHeight);
+        }
         context.put("screenshots", screenshots);
         context.put("reportName", new ReportNameProvider());
         context.put("absoluteReportName", new ReportNameProvider());
@@ -146,8 +155,12 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
 
     }
 
-    private List<Screenshot> expandScreenshots(List<Screenshot> screenshots) throws IOException {
-        return convert(screenshots, new ExpandedScreenshotConverter(maxScreenshotHeightIn(screenshots)));
+    private List<Screenshot> expandScreenshots(List<Screenshot> screenshots, int maxHeight) {
+        return convert(screenshots, new ExpandedScreenshotConverter(maxHeight));
+    }
+
+    private boolean shouldPadScreenshotsInHtml() {
+        return HTML_SCREENSHOT_PADDING.equalsIgnoreCase(THUCYDIDES_SCREENSHOT_PADDING.from(getEnvironmentVariables(), "image"));
     }
 
     private class ExpandedScreenshotConverter implements Converter<Screenshot, Screenshot> {
@@ -186,8 +199,9 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
     }
 
     private int maxHeightOf(int maxHeight, File screenshotFile) throws IOException {
-        int height = ResizableImage.loadFrom(screenshotFile).getHeight();
-        int width = ResizableImage.loadFrom(screenshotFile).getWitdh();
+        Dimension dimension = ScreenshotDimensions.in(getOutputDirectory()).of(screenshotFile);
+        int height = dimension.height;
+        int width = dimension.width;
         if (width > MAXIMUM_SCREENSHOT_WIDTH) {
             height = (int) ((height * 1.0) * (MAXIMUM_SCREENSHOT_WIDTH * 1.0 / width));
         }
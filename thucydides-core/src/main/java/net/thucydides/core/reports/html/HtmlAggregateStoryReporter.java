@@ -1,5 +1,6 @@
 package net.thucydides.core.reports.html;
 
+import com.google.inject.Key;
 import net.thucydides.core.ThucydidesSystemProperties;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.guice.Injectors;
@@ -13,9 +14,13 @@ import net.thucydides.core.reports.ReportOptions;
 import net.thucydides.core.reports.TestOutcomeLoader;
 import net.thucydides.core.reports.TestOutcomes;
 import net.thucydides.core.reports.UserStoryTestReporter;
-import net.thucydides.core.reports.csv.CSVReporter;
+import net.thucydides.core.reports.csv.MultiViewCSVReporter;
+import net.thucydides.core.reports.history.PagePerformanceSnapshot;
 import net.thucydides.core.reports.history.TestHistory;
 import net.thucydides.core.reports.history.TestResultSnapshot;
+import net.thucydides.core.reports.renderer.Asciidoc;
+import net.thucydides.core.reports.renderer.AsciidocMarkupRenderer;
+import net.thucydides.core.reports.renderer.MarkupRenderer;
 import net.thucydides.core.requirements.RequirementsProviderService;
 import net.thucydides.core.requirements.RequirementsService;
 import net.thucydides.core.requirements.model.Requirement;
@@ -49,6 +54,9 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     private static final String RELEASE_TEMPLATE_PATH = "freemarker/release.ftl";
     private static final String TAGTYPE_TEMPLATE_PATH = "freemarker/results-by-tagtype.ftl";
     private static final String REQUIREMENT_TYPE_TEMPLATE_PATH = "freemarker/requirement-type.ftl";
+    private static final String NETWORK_TRAFFIC_TEMPLATE_PATH = "freemarker/network-traffic.ftl";
+    private static final String PAGE_PERFORMANCE_TEMPLATE_PATH = "freemarker/page-performance.ftl";
+    private static final int PAGE_PERFORMANCE_TREND_LENGTH = 10;
 
     private TestHistory testHistory;
     private String projectName;
@@ -61,6 +69,9 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     private final HtmlProgressReporter htmlProgressReporter;
     private List<String> requirementTypes;
     private final RequirementsConfiguration requirementsConfiguration;
+    private MultiViewCSVReporter csvReports;
+    private PageLoadCosts pageLoadCosts;
+    private PagePerformance pagePerformance;
 
     public HtmlAggregateStoryReporter(final String projectName) {
         this(projectName, "");
@@ -123,6 +134,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     }
 
     public void generateReportsForTestResultsIn(TestOutcomes testOutcomes) throws IOException {
+        warmUpAsciidocRendererIfRequired();
         RequirementsOutcomes requirementsOutcomes = requirementsFactory.buildRequirementsOutcomesFrom(testOutcomes);
 
         updateHistoryFor(requirementsOutcomes);
@@ -130,6 +142,11 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         copyResourcesToOutputDirectory();
         copyTestResultsToOutputDirectory();
 
+        csvReports = new MultiViewCSVReporter(getOutputDirectory(), getEnvironmentVariables());
+        pageLoadCosts = PageLoadCosts.in(testOutcomes);
+        pagePerformance = PagePerformance.in(testOutcomes);
+        getTestHistory().updatePagePerformanceHistory(pagePerformance.getMedianPageLoadTimes());
+
         generateAggregateReportFor(testOutcomes);
         generateTagReportsFor(testOutcomes);
         generateTagTypeReportsFor(testOutcomes);
@@ -139,12 +156,25 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         generateRequirementTypeReports(requirementsOutcomes);
         generateResultReportsFor(testOutcomes);
         generateHistoryReportFor(testOutcomes);
+        generateNetworkTrafficReportFor(testOutcomes);
+        generatePagePerformanceReportFor(testOutcomes);
 //        generateCoverageReportsFor(testOutcomes);
 
         generateRequirementsReportsFor(requirementsOutcomes);
 
         generateReleasesReportFor(testOutcomes, requirementsOutcomes);
 
+        csvReports.generateReports();
+    }
+
+    private void warmUpAsciidocRendererIfRequired() {
+        String narrativeFormat = getEnvironmentVariables().getProperty(ThucydidesSystemProperty.THUCYDIDES_NARRATIVE_FORMAT, "");
+        if (narrativeFormat.equalsIgnoreCase("asciidoc")) {
+            MarkupRenderer asciidocRenderer = Injectors.getInjector().getInstance(Key.get(MarkupRenderer.class, Asciidoc.class));
+            if (asciidocRenderer instanceof AsciidocMarkupRenderer) {
+                ((AsciidocMarkupRenderer) asciidocRenderer).warmUp();
+            }
+        }
     }
 
     private void generateRequirementTypeReports(RequirementsOutcomes requirementsOutcomes) throws IOException {
@@ -169,9 +199,8 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
 
     }
 
-    private void generateCSVReportFor(TestOutcomes testOutcomes, String reportName) throws IOException {
-        CSVReporter csvReporter = new CSVReporter(getOutputDirectory(), getEnvironmentVariables());
-        csvReporter.generateReportFor(testOutcomes, reportName);
+    private void generateCSVReportFor(TestOutcomes testOutcomes, String reportName) {
+        csvReports.addView(testOutcomes, reportName);
     }
 
     public void generateRequirementsReportsFor(RequirementsOutcomes requirementsOutcomes) throws IOException {
@@ -410,6 +439,8 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         //context.put("timestamp", timestampFrom(testOutcomesForTagType.getRootOutcomes()));
         context.put("timestamp", timestampFrom(currentTime()));
         context.put("requirementTypes",requirementsService.getRequirementTypes());
+        context.put("showNetworkTraffic", (pageLoadCosts != null) && !pageLoadCosts.isEmpty());
+        context.put("showPagePerformance", (pagePerformance != null) && !pagePerformance.isEmpty());
         addFormattersToContext(context);
         return context;
     }
@@ -432,6 +463,36 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
 
     }
 
+    private void generateNetworkTrafficReportFor(TestOutcomes testOutcomes) throws IOException {
+        if (pageLoadCosts.isEmpty()) {
+            return;
+        }
+        Map<String, Object> context = buildContext(testOutcomes, reportNameProvider);
+        context.put("pageLoadCosts", pageLoadCosts.getRankedPages());
+
+        LOGGER.debug("Writing network traffic page");
+        generateReportPage(context, NETWORK_TRAFFIC_TEMPLATE_PATH, "network-traffic.html");
+    }
+
+    private void generatePagePerformanceReportFor(TestOutcomes testOutcomes) throws IOException {
+        if (pagePerformance.isEmpty()) {
+            return;
+        }
+        List<PagePerformanceSnapshot> history = getTestHistory().getPagePerformanceHistory();
+        List<PagePerformanceSnapshot> recentHistory
+                = history.subList(Math.max(0, history.size() - PAGE_PERFORMANCE_TREND_LENGTH), history.size());
+        Map<String, List<Long>> trends = new HashMap<String, List<Long>>();
+        for (PagePerformance.PageStatistics page : pagePerformance.getPages()) {
+            trends.put(page.getUrlPattern(), PagePerformance.trendFor(page.getUrlPattern(), recentHistory));
+        }
+        Map<String, Object> context = buildContext(testOutcomes, reportNameProvider);
+        context.put("pages", pagePerformance.getPages());
+        context.put("trends", trends);
+
+        LOGGER.debug("Writing page performance page");
+        generateReportPage(context, PAGE_PERFORMANCE_TEMPLATE_PATH, "page-performance.html");
+    }
+
     private void generateReportPage(final Map<String, Object> context,
                                     final String template,
                                     final String outputFile) throws IOException {
@@ -64,7 +64,7 @@ public abstract class HtmlReporter extends ThucydidesReporter {
 
     private boolean alreadyCopied = false;
 
-    protected void copyResourcesToOutputDirectory() throws IOException {
+    protected synchronized void copyResourcesToOutputDirectory() throws IOException {
         if (!alreadyCopied) {
             updateResourceDirectoryFromSystemPropertyIfDefined();
             copyResources();
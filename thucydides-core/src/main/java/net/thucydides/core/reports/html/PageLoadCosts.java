@@ -0,0 +1,142 @@
+package net.thucydides.core.reports.html;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.thucydides.core.model.NetworkTraffic;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.reports.TestOutcomes;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranks the pages visited during a test run by how expensive they were to load, using the network traffic
+ * recorded against each test step. Steps are grouped by the page they loaded (or by the step description if
+ * the page is not known), and the most expensive pages come first.
+ */
+public class PageLoadCosts {
+
+    private final List<PageLoadCost> rankedPages;
+
+    private PageLoadCosts(List<PageLoadCost> rankedPages) {
+        this.rankedPages = rankedPages;
+    }
+
+    public static PageLoadCosts in(TestOutcomes testOutcomes) {
+        Map<String, PageLoadCost> costsByPage = new LinkedHashMap<String, PageLoadCost>();
+        for (TestOutcome outcome : testOutcomes.getOutcomes()) {
+            for (TestStep step : outcome.getFlattenedTestSteps()) {
+                if (step.hasNetworkTraffic() && !step.getNetworkTraffic().isEmpty()) {
+                    String page = pageLoadedBy(step);
+                    PageLoadCost cost = costsByPage.get(page);
+                    if (cost == null) {
+                        cost = new PageLoadCost(page);
+                        costsByPage.put(page, cost);
+                    }
+                    cost.addVisit(step.getNetworkTraffic());
+                }
+            }
+        }
+        List<PageLoadCost> rankedPages = Lists.newArrayList(costsByPage.values());
+        Collections.sort(rankedPages, MOST_EXPENSIVE_FIRST);
+        return new PageLoadCosts(rankedPages);
+    }
+
+    private static String pageLoadedBy(TestStep step) {
+        String pageUrl = step.getNetworkTraffic().getPageUrl();
+        return (pageUrl != null) ? pageUrl : step.getDescription();
+    }
+
+    public List<PageLoadCost> getRankedPages() {
+        return rankedPages;
+    }
+
+    public boolean isEmpty() {
+        return rankedPages.isEmpty();
+    }
+
+    private static final Comparator<PageLoadCost> MOST_EXPENSIVE_FIRST = new Comparator<PageLoadCost>() {
+        @Override
+        public int compare(PageLoadCost page1, PageLoadCost page2) {
+            if (page1.getAverageLoadTime() != page2.getAverageLoadTime()) {
+                return (page1.getAverageLoadTime() < page2.getAverageLoadTime()) ? 1 : -1;
+            }
+            if (page1.getAverageBytes() != page2.getAverageBytes()) {
+                return (page1.getAverageBytes() < page2.getAverageBytes()) ? 1 : -1;
+            }
+            return page1.getPage().compareTo(page2.getPage());
+        }
+    };
+
+    /**
+     * The accumulated network traffic of every visit to a given page.
+     */
+    public static class PageLoadCost {
+        private final String page;
+        private int visits;
+        private long totalLoadTime;
+        private long maximumLoadTime;
+        private long totalBytes;
+        private long totalRequests;
+        private int budgetViolations;
+        private final Map<String, NetworkTraffic.ResourceTiming> slowestResources = Maps.newHashMap();
+
+        PageLoadCost(String page) {
+            this.page = page;
+        }
+
+        void addVisit(NetworkTraffic traffic) {
+            visits++;
+            totalLoadTime += traffic.getLoadTime();
+            maximumLoadTime = Math.max(maximumLoadTime, traffic.getLoadTime());
+            totalBytes += traffic.getTotalBytes();
+            totalRequests += traffic.getRequestCount();
+            if (traffic.isOverBudget()) {
+                budgetViolations++;
+            }
+            for (NetworkTraffic.ResourceTiming resource : traffic.getSlowestResources()) {
+                NetworkTraffic.ResourceTiming slowestSoFar = slowestResources.get(resource.getUrl());
+                if (slowestSoFar == null || slowestSoFar.getTime() < resource.getTime()) {
+                    slowestResources.put(resource.getUrl(), resource);
+                }
+            }
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public int getVisits() {
+            return visits;
+        }
+
+        public long getAverageLoadTime() {
+            return totalLoadTime / visits;
+        }
+
+        public long getMaximumLoadTime() {
+            return maximumLoadTime;
+        }
+
+        public long getAverageBytes() {
+            return totalBytes / visits;
+        }
+
+        public long getAverageRequests() {
+            return totalRequests / visits;
+        }
+
+        public int getBudgetViolations() {
+            return budgetViolations;
+        }
+
+        public List<NetworkTraffic.ResourceTiming> getSlowestResources() {
+            List<NetworkTraffic.ResourceTiming> resources = Lists.newArrayList(slowestResources.values());
+            return new NetworkTraffic(page, 0, 0, 0, resources).getSlowestResources();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package net.thucydides.core.reports.html;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import net.thucydides.core.model.PageTiming;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.history.PagePerformanceSnapshot;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The browser Navigation Timing figures recorded during a test run, grouped by URL pattern.
+ * Each page is summarised by percentiles across every visit, so that one slow visit does not hide
+ * the typical load time, and the slowest pages (by 90th percentile load time) come first.
+ */
+public class PagePerformance {
+
+    private final List<PageStatistics> pages;
+
+    private PagePerformance(List<PageStatistics> pages) {
+        this.pages = pages;
+    }
+
+    public static PagePerformance in(TestOutcomes testOutcomes) {
+        Map<String, PageStatistics> statisticsByPage = new LinkedHashMap<String, PageStatistics>();
+        for (TestOutcome outcome : testOutcomes.getOutcomes()) {
+            for (TestStep step : outcome.getFlattenedTestSteps()) {
+                for (PageTiming pageTiming : step.getPageTimings()) {
+                    PageStatistics statistics = statisticsByPage.get(pageTiming.getUrlPattern());
+                    if (statistics == null) {
+                        statistics = new PageStatistics(pageTiming.getUrlPattern());
+                        statisticsByPage.put(pageTiming.getUrlPattern(), statistics);
+                    }
+                    statistics.addVisit(pageTiming);
+                }
+            }
+        }
+        List<PageStatistics> pages = Lists.newArrayList(statisticsByPage.values());
+        Collections.sort(pages, SLOWEST_FIRST);
+        return new PagePerformance(pages);
+    }
+
+    public List<PageStatistics> getPages() {
+        return pages;
+    }
+
+    public boolean isEmpty() {
+        return pages.isEmpty();
+    }
+
+    /**
+     * The median page load time of each page, as recorded in the test history to show trends across builds.
+     */
+    public Map<String, Long> getMedianPageLoadTimes() {
+        ImmutableMap.Builder<String, Long> medianPageLoadTimes = ImmutableMap.builder();
+        for (PageStatistics page : pages) {
+            medianPageLoadTimes.put(page.getUrlPattern(), page.getMedianPageLoad());
+        }
+        return medianPageLoadTimes.build();
+    }
+
+    /**
+     * The median page load times of a given page in previous builds, oldest first.
+     * Builds in which the page was not visited are left out.
+     */
+    public static List<Long> trendFor(String urlPattern, List<PagePerformanceSnapshot> history) {
+        List<Long> trend = Lists.newArrayList();
+        for (PagePerformanceSnapshot snapshot : history) {
+            if (snapshot.getMedianPageLoadTimes().containsKey(urlPattern)) {
+                trend.add(snapshot.getMedianPageLoadTimes().get(urlPattern));
+            }
+        }
+        return trend;
+    }
+
+    private static final Comparator<PageStatistics> SLOWEST_FIRST = new Comparator<PageStatistics>() {
+        @Override
+        public int compare(PageStatistics page1, PageStatistics page2) {
+            if (page1.getPageLoadPercentile(90) != page2.getPageLoadPercentile(90)) {
+                return (page1.getPageLoadPercentile(90) < page2.getPageLoadPercentile(90)) ? 1 : -1;
+            }
+            return page1.getUrlPattern().compareTo(page2.getUrlPattern());
+        }
+    };
+
+    /**
+     * The timings of every visit to a given page.
+     */
+    public static class PageStatistics {
+        private final String urlPattern;
+        private final List<Long> pageLoadTimes = Lists.newArrayList();
+        private final List<Long> timesToFirstByte = Lists.newArrayList();
+        private final List<Long> domContentLoadedTimes = Lists.newArrayList();
+
+        PageStatistics(String urlPattern) {
+            this.urlPattern = urlPattern;
+        }
+
+        void addVisit(PageTiming pageTiming) {
+            pageLoadTimes.add(pageTiming.getPageLoad());
+            timesToFirstByte.add(pageTiming.getTimeToFirstByte());
+            domContentLoadedTimes.add(pageTiming.getDomContentLoaded());
+        }
+
+        public String getUrlPattern() {
+            return urlPattern;
+        }
+
+        public int getVisits() {
+            return pageLoadTimes.size();
+        }
+
+        public long getPageLoadPercentile(int percentile) {
+            return percentile(pageLoadTimes, percentile);
+        }
+
+        public long getMedianPageLoad() {
+            return getPageLoadPercentile(50);
+        }
+
+        public long getMedianTimeToFirstByte() {
+            return percentile(timesToFirstByte, 50);
+        }
+
+        public long getMedianDomContentLoaded() {
+            return percentile(domContentLoadedTimes, 50);
+        }
+
+        /**
+         * Nearest-rank percentile: the smallest recorded value that is at least as large as the given
+         * percentage of all of the recorded values.
+         */
+        private static long percentile(List<Long> values, int percentile) {
+            if (values.isEmpty()) {
+                return 0;
+            }
+            List<Long> sortedValues = Lists.newArrayList(values);
+            Collections.sort(sortedValues);
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.size());
+            return sortedValues.get(Math.max(0, rank - 1));
+        }
+    }
+}
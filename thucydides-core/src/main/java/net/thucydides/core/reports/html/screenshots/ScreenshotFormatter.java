@@ -1,6 +1,7 @@
 package net.thucydides.core.reports.html.screenshots;
 
 import net.thucydides.core.images.ResizableImage;
+import net.thucydides.core.images.ScreenshotDimensions;
 import net.thucydides.core.model.Screenshot;
 import org.apache.commons.io.FileUtils;
 
@@ -39,7 +40,7 @@ public class ScreenshotFormatter {
 
     public Screenshot expandToHeight(final int targetHeight) throws IOException {
         File screenshotFile = new File(sourceDirectory, screenshot.getFilename());
-        if (screenshotFile.exists()) {
+        if (screenshotFile.exists() && needsPadding(screenshotFile, targetHeight)) {
             File resizedFile = resizedImage(screenshotFile, targetHeight);
             return new Screenshot(resizedFile.getName(),
                                   screenshot.getDescription(),
@@ -50,12 +51,23 @@ public class ScreenshotFormatter {
         }
     }
 
+    /**
+     * Images that are already tall enough (or too tall to be padded) are left as they are rather than being rewritten.
+     */
+    private boolean needsPadding(File screenshotFile, int targetHeight) throws IOException {
+        int height = ScreenshotDimensions.in(sourceDirectory).of(screenshotFile).height;
+        return (height < targetHeight) && (height <= ResizableImage.MAX_SUPPORTED_HEIGHT);
+    }
+
     private File resizedImage(File screenshotFile, int maxHeight) throws IOException {
         String resizedScreenshotFilename = "scaled_" + screenshotFile.getName();
         ResizableImage scaledImage = ResizableImage.loadFrom(screenshotFile).rescaleCanvas(maxHeight);
 
         File scaledFile = new File(sourceDirectory, resizedScreenshotFilename);
         scaledImage.saveTo(scaledFile);
+        ScreenshotDimensions.in(sourceDirectory).record(screenshotFile.getName(),
+                                                        scaledImage.getWitdh(),
+                                                        scaledImage.getHeight());
 
         if (shouldKeepOriginalScreenshots) {
             saveCopyOf(screenshotFile);
@@ -1,30 +1,116 @@
 package net.thucydides.core.reports.renderer;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.util.SystemEnvironmentVariables;
 import org.apache.commons.io.IOUtils;
 import org.asciidoctor.Asciidoctor;
 import org.asciidoctor.Attributes;
 import org.asciidoctor.Options;
 
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.asciidoctor.Asciidoctor.Factory.create;
 
+/**
+ * Renders Asciidoc text as HTML.
+ * The same narratives appear on many report pages, so rendered text is cached by its content.
+ * Each Asciidoctor instance runs in its own JRuby runtime, which is slow to start and is not shared between threads:
+ * a small pool of instances is created as needed, so that report pages generated in parallel do not all wait
+ * for the same one.
+ */
 public class AsciidocMarkupRenderer implements MarkupRenderer {
 
-    Asciidoctor asciidoctor;
+    private static final int MAXIMUM_CACHED_TEXTS = 2000;
 
-    public AsciidocMarkupRenderer() {}
+    private final Cache<String, String> renderedTexts = CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_TEXTS).build();
 
-    private Asciidoctor getAsciidoctor() {
-        if (asciidoctor == null) {
-            asciidoctor = create();
+    private final BlockingQueue<Asciidoctor> idleRenderers = new LinkedBlockingQueue<Asciidoctor>();
+    private final AtomicInteger createdRenderers = new AtomicInteger();
+    private final int maximumRenderers;
+
+    public AsciidocMarkupRenderer() {
+        this(new SystemEnvironmentVariables());
+    }
+
+    @Inject
+    public AsciidocMarkupRenderer(EnvironmentVariables environmentVariables) {
+        int defaultRenderers = Math.min(Runtime.getRuntime().availableProcessors(), 4);
+        this.maximumRenderers = Math.max(1,
+                environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.THUCYDIDES_ASCIIDOC_RENDERERS, defaultRenderers));
+    }
+
+    /**
+     * Start an Asciidoctor instance in the background, so that it is ready by the time the first page needs it.
+     */
+    public void warmUp() {
+        if (createdRenderers.get() > 0) {
+            return;
         }
-        return asciidoctor;
+        Thread warmUpThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                Asciidoctor asciidoctor = newRendererIfAllowed();
+                if (asciidoctor != null) {
+                    idleRenderers.offer(asciidoctor);
+                }
+            }
+        }, "Asciidoctor warm-up");
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
     }
 
     @Override
-    public String render(String text) {
-        return getAsciidoctor().render(addAsciidocLineBreaks(text), getOptions());
+    public String render(final String text) {
+        final String asciidocText = addAsciidocLineBreaks(text);
+        try {
+            return renderedTexts.get(asciidocText, new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    return renderWithPooledRenderer(asciidocText);
+                }
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not render Asciidoc text: " + text, e.getCause());
+        }
+    }
+
+    private String renderWithPooledRenderer(String asciidocText) throws InterruptedException {
+        Asciidoctor asciidoctor = borrowRenderer();
+        try {
+            return asciidoctor.render(asciidocText, getOptions());
+        } finally {
+            idleRenderers.offer(asciidoctor);
+        }
     }
 
+    private Asciidoctor borrowRenderer() throws InterruptedException {
+        Asciidoctor asciidoctor = idleRenderers.poll();
+        if (asciidoctor == null) {
+            asciidoctor = newRendererIfAllowed();
+        }
+        return (asciidoctor != null) ? asciidoctor : idleRenderers.take();
+    }
+
+    private Asciidoctor newRendererIfAllowed() {
+        if (createdRenderers.incrementAndGet() > maximumRenderers) {
+            createdRenderers.decrementAndGet();
+            return null;
+        }
+        try {
+            return create();
+        } catch (RuntimeException e) {
+            createdRenderers.decrementAndGet();
+            throw e;
+        }
+    }
 
     public String addAsciidocLineBreaks(final String text) {
         return (text != null) ?
@@ -10,11 +10,14 @@ import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
 import net.thucydides.core.model.DataTable;
 import net.thucydides.core.model.DataTableRow;
+import net.thucydides.core.model.NetworkTraffic;
+import net.thucydides.core.model.PageTiming;
 import net.thucydides.core.model.Story;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestResult;
 import net.thucydides.core.model.TestStep;
 import net.thucydides.core.model.TestTag;
+import net.thucydides.core.model.TimingCategory;
 import net.thucydides.core.model.features.ApplicationFeature;
 import net.thucydides.core.screenshots.ScreenshotAndHtmlSource;
 import org.apache.commons.collections.CollectionUtils;
@@ -26,6 +29,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
@@ -80,6 +84,28 @@ public class TestOutcomeConverter implements Converter {
     private static final String ROW = "row";
     private static final String VALUE = "value";
     private static final String MANUAL = "manual";
+    private static final String NETWORK_TRAFFIC = "network-traffic";
+    private static final String PAGE_URL = "page-url";
+    private static final String REQUESTS = "requests";
+    private static final String BYTES = "bytes";
+    private static final String LOAD_TIME = "load-time";
+    private static final String RESOURCE = "resource";
+    private static final String URL = "url";
+    private static final String TIME = "time";
+    private static final String BUDGET_VIOLATION = "budget-violation";
+    private static final String TIMINGS = "timings";
+    private static final String TIMING = "timing";
+    private static final String CATEGORY = "category";
+    private static final String PAGE_TIMINGS = "page-timings";
+    private static final String PAGE_TIMING = "page-timing";
+    private static final String URL_PATTERN = "url-pattern";
+    private static final String REDIRECT = "redirect";
+    private static final String DOMAIN_LOOKUP = "domain-lookup";
+    private static final String CONNECT = "connect";
+    private static final String TIME_TO_FIRST_BYTE = "time-to-first-byte";
+    private static final String DOM_INTERACTIVE = "dom-interactive";
+    private static final String DOM_CONTENT_LOADED = "dom-content-loaded";
+    private static final String PAGE_LOAD = "page-load";
     public static final String NEW_LINE_CHAR = "\n";
     public static final String ESCAPE_CHAR_FOR_NEW_LINE = "&#10;";
     private static final String DEFAULT_ERROR_MESSAGE = "Unspecified failure";
@@ -184,6 +210,9 @@ public class TestOutcomeConverter implements Converter {
             writer.addAttribute(NAME_FIELD, step.getDescription());
             writeResult(writer, step);
             writeScreenshotIfPresent(writer, step);
+            writeNetworkTrafficIfPresent(writer, step);
+            writeTimingsIfPresent(writer, step);
+            writePageTimingsIfPresent(writer, step);
 
             List<TestStep> nestedSteps = step.getChildren();
             for (TestStep nestedStep : nestedSteps) {
@@ -195,6 +224,9 @@ public class TestOutcomeConverter implements Converter {
             writeResult(writer, step);
             writer.addAttribute(DURATION, Long.toString(step.getDuration()));
             writeScreenshotIfPresent(writer, step);
+            writeNetworkTrafficIfPresent(writer, step);
+            writeTimingsIfPresent(writer, step);
+            writePageTimingsIfPresent(writer, step);
             writeDescription(writer, step);
             writeErrorForFailingTest(writer, step);
             writer.endNode();
@@ -356,6 +388,65 @@ public class TestOutcomeConverter implements Converter {
         }
     }
 
+    private void writeNetworkTrafficIfPresent(final HierarchicalStreamWriter writer, final TestStep step) {
+        if (step.hasNetworkTraffic()) {
+            NetworkTraffic networkTraffic = step.getNetworkTraffic();
+            writer.startNode(NETWORK_TRAFFIC);
+            if (networkTraffic.getPageUrl() != null) {
+                writer.addAttribute(PAGE_URL, networkTraffic.getPageUrl());
+            }
+            writer.addAttribute(REQUESTS, Integer.toString(networkTraffic.getRequestCount()));
+            writer.addAttribute(BYTES, Long.toString(networkTraffic.getTotalBytes()));
+            writer.addAttribute(LOAD_TIME, Long.toString(networkTraffic.getLoadTime()));
+            for (NetworkTraffic.ResourceTiming resource : networkTraffic.getSlowestResources()) {
+                writer.startNode(RESOURCE);
+                writer.addAttribute(URL, resource.getUrl());
+                writer.addAttribute(TIME, Long.toString(resource.getTime()));
+                writer.addAttribute(BYTES, Long.toString(resource.getBytes()));
+                writer.endNode();
+            }
+            for (String violation : networkTraffic.getBudgetViolations()) {
+                writer.startNode(BUDGET_VIOLATION);
+                writer.setValue(violation);
+                writer.endNode();
+            }
+            writer.endNode();
+        }
+    }
+
+    private void writeTimingsIfPresent(final HierarchicalStreamWriter writer, final TestStep step) {
+        if (!step.getTimings().isEmpty()) {
+            writer.startNode(TIMINGS);
+            for (Map.Entry<TimingCategory, Long> timing : step.getTimings().entrySet()) {
+                writer.startNode(TIMING);
+                writer.addAttribute(CATEGORY, timing.getKey().name());
+                writer.addAttribute(DURATION, Long.toString(timing.getValue()));
+                writer.endNode();
+            }
+            writer.endNode();
+        }
+    }
+
+    private void writePageTimingsIfPresent(final HierarchicalStreamWriter writer, final TestStep step) {
+        if (!step.getPageTimings().isEmpty()) {
+            writer.startNode(PAGE_TIMINGS);
+            for (PageTiming pageTiming : step.getPageTimings()) {
+                writer.startNode(PAGE_TIMING);
+                writer.addAttribute(URL, pageTiming.getUrl());
+                writer.addAttribute(URL_PATTERN, pageTiming.getUrlPattern());
+                writer.addAttribute(REDIRECT, Long.toString(pageTiming.getRedirectTime()));
+                writer.addAttribute(DOMAIN_LOOKUP, Long.toString(pageTiming.getDomainLookupTime()));
+                writer.addAttribute(CONNECT, Long.toString(pageTiming.getConnectTime()));
+                writer.addAttribute(TIME_TO_FIRST_BYTE, Long.toString(pageTiming.getTimeToFirstByte()));
+                writer.addAttribute(DOM_INTERACTIVE, Long.toString(pageTiming.getDomInteractive()));
+                writer.addAttribute(DOM_CONTENT_LOADED, Long.toString(pageTiming.getDomContentLoaded()));
+                writer.addAttribute(PAGE_LOAD, Long.toString(pageTiming.getPageLoad()));
+                writer.endNode();
+            }
+            writer.endNode();
+        }
+    }
+
     private void writeResult(final HierarchicalStreamWriter writer, final TestStep step) {
         writer.addAttribute(RESULT_FIELD, step.getResult().toString());
     }
@@ -430,6 +521,12 @@ public class TestOutcomeConverter implements Converter {
                 readTags(reader, testOutcome);
             } else if (childNode.equals(EXAMPLES)) {
                 readExamples(reader, testOutcome);
+            } else if (childNode.equals(NETWORK_TRAFFIC)) {
+                testOutcome.getCurrentGroup().setNetworkTraffic(readNetworkTraffic(reader));
+            } else if (childNode.equals(TIMINGS)) {
+                readTimings(reader, testOutcome.getCurrentGroup());
+            } else if (childNode.equals(PAGE_TIMINGS)) {
+                readPageTimings(reader, testOutcome.getCurrentGroup());
             }
             reader.moveUp();
         }
@@ -634,9 +731,82 @@ public class TestOutcomeConverter implements Converter {
                 step.setDescription(reader.getValue());
             } else if (childNode.equals(SCREENSHOT_LIST_FIELD)) {
                 readScreenshots(reader, step);
+            } else if (childNode.equals(NETWORK_TRAFFIC)) {
+                step.setNetworkTraffic(readNetworkTraffic(reader));
+            } else if (childNode.equals(TIMINGS)) {
+                readTimings(reader, step);
+            } else if (childNode.equals(PAGE_TIMINGS)) {
+                readPageTimings(reader, step);
+            }
+            reader.moveUp();
+        }
+    }
+
+    private NetworkTraffic readNetworkTraffic(HierarchicalStreamReader reader) {
+        String pageUrl = reader.getAttribute(PAGE_URL);
+        int requestCount = (int) readLong(reader, REQUESTS);
+        long totalBytes = readLong(reader, BYTES);
+        long loadTime = readLong(reader, LOAD_TIME);
+        List<NetworkTraffic.ResourceTiming> slowestResources = Lists.newArrayList();
+        List<String> budgetViolations = Lists.newArrayList();
+        while (reader.hasMoreChildren()) {
+            reader.moveDown();
+            String childNode = reader.getNodeName();
+            if (childNode.equals(RESOURCE)) {
+                slowestResources.add(new NetworkTraffic.ResourceTiming(reader.getAttribute(URL),
+                                                                       readLong(reader, TIME),
+                                                                       readLong(reader, BYTES)));
+            } else if (childNode.equals(BUDGET_VIOLATION)) {
+                budgetViolations.add(reader.getValue());
             }
             reader.moveUp();
         }
+        return new NetworkTraffic(pageUrl, requestCount, totalBytes, loadTime, slowestResources, budgetViolations);
+    }
+
+    private void readTimings(HierarchicalStreamReader reader, TestStep step) {
+        while (reader.hasMoreChildren()) {
+            reader.moveDown();
+            if (reader.getNodeName().equals(TIMING)) {
+                String category = reader.getAttribute(CATEGORY);
+                if (isATimingCategory(category)) {
+                    step.recordTime(TimingCategory.valueOf(category), readLong(reader, DURATION));
+                }
+            }
+            reader.moveUp();
+        }
+    }
+
+    private void readPageTimings(HierarchicalStreamReader reader, TestStep step) {
+        while (reader.hasMoreChildren()) {
+            reader.moveDown();
+            if (reader.getNodeName().equals(PAGE_TIMING)) {
+                step.recordPageTiming(new PageTiming(reader.getAttribute(URL),
+                                                     reader.getAttribute(URL_PATTERN),
+                                                     readLong(reader, REDIRECT),
+                                                     readLong(reader, DOMAIN_LOOKUP),
+                                                     readLong(reader, CONNECT),
+                                                     readLong(reader, TIME_TO_FIRST_BYTE),
+                                                     readLong(reader, DOM_INTERACTIVE),
+                                                     readLong(reader, DOM_CONTENT_LOADED),
+                                                     readLong(reader, PAGE_LOAD)));
+            }
+            reader.moveUp();
+        }
+    }
+
+    private boolean isATimingCategory(String category) {
+        for (TimingCategory timingCategory : TimingCategory.values()) {
+            if (timingCategory.name().equals(category)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long readLong(HierarchicalStreamReader reader, String attribute) {
+        String value = reader.getAttribute(attribute);
+        return StringUtils.isNumeric(value) ? Long.parseLong(value) : 0;
     }
 
     private void readScreenshots(HierarchicalStreamReader reader, TestStep step) {
@@ -20,12 +20,15 @@ import java.io.FileFilter;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static ch.lambdaj.Lambda.convert;
 import static net.thucydides.core.requirements.RequirementsPath.pathElements;
@@ -44,7 +47,6 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     private final static String DEFAULT_RESOURCE_DIRECTORY = "src/test/resources";
     private static final String WORKING_DIR = "user.dir";
     private static final List<Requirement> NO_REQUIREMENTS = Lists.newArrayList();
-    private static final List<TestTag> NO_TEST_TAGS = Lists.newArrayList();
 
     private final String rootDirectoryPath;
     private final NarrativeReader narrativeReader;
@@ -53,6 +55,10 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
 //    @Transient
     private List<Requirement> requirements;
 
+    private Map<String, Requirement> requirementsByPath;
+    private Map<String, Requirement> requirementsByTag;
+    private final Map<String, Set<TestTag>> tagsByOutcomePath = new ConcurrentHashMap<String, Set<TestTag>>();
+
     public FileSystemRequirementsTagProvider() {
         this(getDefaultRootDirectoryPathFrom(Injectors.getInjector().getInstance(EnvironmentVariables.class)));
     }
@@ -113,6 +119,9 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
                     allRequirements.addAll(loadStoriesFrom(rootDirectory.listFiles(thatAreStories())));
                     Collections.sort(allRequirements);
                     requirements = allRequirements;
+                    if (level == 0) {
+                        narrativeReader.saveNarrativeCache();
+                    }
                 } else {
                     requirements = NO_REQUIREMENTS;
                 }
@@ -185,14 +194,27 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         return getClass().getClassLoader().getResources(root);
     }
 
+    /**
+     * Tags depend only on the test outcome path, so they are worked out once for each path.
+     */
     public Set<TestTag> getTagsFor(final TestOutcome testOutcome) {
-        Set<TestTag> tags = new HashSet<TestTag>();
-        if (testOutcome.getPath() != null) {
-            List<String> storyPathElements = stripRootFrom(pathElements(stripRootPathFrom(testOutcome.getPath())));
-            addStoryTagIfPresent(tags, storyPathElements);
-            storyPathElements = stripStorySuffixFrom(storyPathElements);
-            tags.addAll(getMatchingCapabilities(getRequirements(), storyPathElements));
+        if (testOutcome.getPath() == null) {
+            return new HashSet<TestTag>();
+        }
+        Set<TestTag> tags = tagsByOutcomePath.get(testOutcome.getPath());
+        if (tags == null) {
+            tags = tagsForPath(testOutcome.getPath());
+            tagsByOutcomePath.put(testOutcome.getPath(), tags);
         }
+        return new HashSet<TestTag>(tags);
+    }
+
+    private Set<TestTag> tagsForPath(String testOutcomePath) {
+        Set<TestTag> tags = new HashSet<TestTag>();
+        List<String> storyPathElements = stripRootFrom(pathElements(stripRootPathFrom(testOutcomePath)));
+        addStoryTagIfPresent(tags, storyPathElements);
+        storyPathElements = stripStorySuffixFrom(storyPathElements);
+        tags.addAll(getMatchingCapabilities(storyPathElements));
         return tags;
     }
 
@@ -225,7 +247,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         }
     }
 
-    private String last(List<String> list) {
+    private <T> T last(List<T> list) {
         if (list.isEmpty()) {
             return null;
         } else {
@@ -262,70 +284,87 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     public Optional<Requirement> getRequirementFor(TestTag testTag) {
-        for(Requirement requirement : getFlattenedRequirements()) {
-            if (requirement.getName().equalsIgnoreCase(testTag.getName()) && requirement.getType().equalsIgnoreCase(testTag.getType())) {
-                return Optional.of(requirement);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(getRequirementsByTag().get(tagKey(testTag.getName(), testTag.getType())));
     }
 
-    private List<Requirement> getFlattenedRequirements() {
-        List<Requirement> allRequirements = Lists.newArrayList();
-        for(Requirement requirement : getRequirements()) {
-            allRequirements.add(requirement);
-            allRequirements.addAll(childRequirementsOf(requirement));
+    private Optional<Requirement> lastRequirementFrom(List<String> storyPathElements) {
+        List<Requirement> matchingRequirements = requirementsMatchingPath(storyPathElements);
+        if (storyPathElements.isEmpty() || matchingRequirements.size() < storyPathElements.size()) {
+            return Optional.absent();
         }
-        return allRequirements;
+        return Optional.of(last(matchingRequirements));
     }
 
-    private Collection<Requirement> childRequirementsOf(Requirement requirement) {
-        List<Requirement> childRequirements = Lists.newArrayList();
-        for(Requirement childRequirement : requirement.getChildren()) {
-            childRequirements.add(childRequirement);
-            childRequirements.addAll(childRequirementsOf(childRequirement));
+    private List<TestTag> getMatchingCapabilities(List<String> storyPathElements) {
+        List<TestTag> matchingTags = new ArrayList<TestTag>();
+        for(Requirement requirement : requirementsMatchingPath(storyPathElements)) {
+            matchingTags.add(TestTag.withName(requirement.getName()).andType(requirement.getType()));
         }
-        return childRequirements;
+        return matchingTags;
     }
 
-    private Optional<Requirement> lastRequirementFrom(List<String> storyPathElements) {
-        if (storyPathElements.isEmpty()) {
-            return Optional.absent();
-        } else {
-            return lastRequirementMatchingPath(getRequirements(), storyPathElements);
+    /**
+     * The requirements matching each successive element of the path, stopping at the first element with no match.
+     */
+    private List<Requirement> requirementsMatchingPath(List<String> storyPathElements) {
+        List<Requirement> matchingRequirements = new ArrayList<Requirement>();
+        StringBuilder requirementPath = new StringBuilder();
+        for(String storyPathElement : storyPathElements) {
+            requirementPath.append("/").append(normalizedRequirementName(storyPathElement));
+            Requirement matchingRequirement = getRequirementsByPath().get(requirementPath.toString());
+            if (matchingRequirement == null) {
+                break;
+            }
+            matchingRequirements.add(matchingRequirement);
         }
+        return matchingRequirements;
     }
 
-    private Optional<Requirement> lastRequirementMatchingPath(List<Requirement> requirements, List<String> storyPathElements) {
-        if (storyPathElements.isEmpty()) {
-            return Optional.absent();
+    private synchronized Map<String, Requirement> getRequirementsByPath() {
+        if (requirementsByPath == null) {
+            Map<String, Requirement> index = new HashMap<String, Requirement>();
+            indexRequirementPaths(index, "", getRequirements());
+            requirementsByPath = index;
         }
-        Optional<Requirement> matchingRequirement = findMatchingRequirementIn(next(storyPathElements), requirements);
-        if (!matchingRequirement.isPresent()) {
-            return Optional.absent();
+        return requirementsByPath;
+    }
+
+    /**
+     * Where several requirements share a name at the same level, the first one wins, as it would in a linear search.
+     */
+    private void indexRequirementPaths(Map<String, Requirement> index, String parentPath, List<Requirement> requirements) {
+        for(Requirement requirement : requirements) {
+            String path = parentPath + "/" + requirement.getName();
+            if (!index.containsKey(path)) {
+                index.put(path, requirement);
+                indexRequirementPaths(index, path, requirement.getChildren());
+            }
         }
-        if (tail(storyPathElements).isEmpty()) {
-            return matchingRequirement;
+    }
+
+    private synchronized Map<String, Requirement> getRequirementsByTag() {
+        if (requirementsByTag == null) {
+            Map<String, Requirement> index = new HashMap<String, Requirement>();
+            indexRequirementTags(index, getRequirements());
+            requirementsByTag = index;
         }
-        List<Requirement> childRequrements = matchingRequirement.get().getChildren();
-        return lastRequirementMatchingPath(childRequrements, tail(storyPathElements));
+        return requirementsByTag;
     }
 
-    private List<TestTag> getMatchingCapabilities(List<Requirement> requirements, List<String> storyPathElements) {
-        if (storyPathElements.isEmpty()) {
-            return NO_TEST_TAGS;
-        } else {
-            Optional<Requirement> matchingRequirement = findMatchingRequirementIn(next(storyPathElements), requirements);
-            if (matchingRequirement.isPresent()) {
-                TestTag thisTag = TestTag.withName(matchingRequirement.get().getName()).andType(matchingRequirement.get().getType());
-                List<TestTag> remainingTags = getMatchingCapabilities(matchingRequirement.get().getChildren(), tail(storyPathElements));
-                return concat(thisTag, remainingTags);
-            } else {
-                return NO_TEST_TAGS;
+    private void indexRequirementTags(Map<String, Requirement> index, List<Requirement> requirements) {
+        for(Requirement requirement : requirements) {
+            String key = tagKey(requirement.getName(), requirement.getType());
+            if (!index.containsKey(key)) {
+                index.put(key, requirement);
             }
+            indexRequirementTags(index, requirement.getChildren());
         }
     }
 
+    private String tagKey(String name, String type) {
+        return (type + ":" + name).toLowerCase(Locale.ENGLISH);
+    }
+
     private List<String> stripRootFrom(List<String> storyPathElements) {
         return stripRootFromPath(rootDirectoryPath, storyPathElements);
     }
@@ -339,29 +378,8 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         }
     }
 
-    private List<TestTag> concat(TestTag thisTag, List<TestTag> remainingTags) {
-        List<TestTag> totalTags = new ArrayList<TestTag>();
-        totalTags.add(thisTag);
-        totalTags.addAll(remainingTags);
-        return totalTags;
-    }
-
-    private <T> T next(List<T> elements) {
-        return elements.get(0);
-    }
-
-    private <T> List<T> tail(List<T> elements) {
-        return elements.subList(1, elements.size());
-    }
-
-    private Optional<Requirement> findMatchingRequirementIn(String storyPathElement, List<Requirement> requirements) {
-        for (Requirement requirement : requirements) {
-            String normalizedStoryPathElement = Inflector.getInstance().humanize(Inflector.getInstance().underscore(storyPathElement));
-            if (requirement.getName().equals(normalizedStoryPathElement)) {
-                return Optional.of(requirement);
-            }
-        }
-        return Optional.absent();
+    private String normalizedRequirementName(String storyPathElement) {
+        return Inflector.getInstance().humanize(Inflector.getInstance().underscore(storyPathElement));
     }
 
     private List<Requirement> loadCapabilitiesFrom(File[] requirementDirectories) {
@@ -0,0 +1,210 @@
+package net.thucydides.core.requirements.model;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.webdriver.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the narratives read from narrative.txt and .story files, so that a file is only parsed again
+ * if its timestamp or size has changed. The cache is saved as JSON in the Thucydides output directory,
+ * so that it survives from one JVM to the next without being shared between projects.
+ */
+public class NarrativeCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NarrativeCache.class);
+
+    private static final String CACHE_FILE_NAME = "narrative-cache.json";
+
+    private static final Map<File, NarrativeCache> DEFAULT_CACHES = new HashMap<File, NarrativeCache>();
+
+    private final File cacheFile;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private Map<String, CachedNarrative> narratives;
+    private volatile boolean modified = false;
+
+    public NarrativeCache(File cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    /**
+     * The cache kept in the current output directory.
+     */
+    public static synchronized NarrativeCache getDefaultCache() {
+        File cacheFile = defaultCacheFile();
+        NarrativeCache cache = DEFAULT_CACHES.get(cacheFile);
+        if (cache == null) {
+            cache = new NarrativeCache(cacheFile);
+            DEFAULT_CACHES.put(cacheFile, cache);
+        }
+        return cache;
+    }
+
+    private static File defaultCacheFile() {
+        File outputDirectory = Injectors.getInjector().getInstance(Configuration.class).getOutputDirectory();
+        return new File(outputDirectory, CACHE_FILE_NAME).getAbsoluteFile();
+    }
+
+    /**
+     * The narrative previously read from this file, if the file has not changed since.
+     * The requirement type is not cached, as it depends on where the file is found in the requirements hierarchy.
+     */
+    public Optional<Narrative> narrativeFrom(File narrativeFile, String type) {
+        CachedNarrative cachedNarrative = getNarratives().get(narrativeFile.getAbsolutePath());
+        if (cachedNarrative != null && cachedNarrative.isUpToDateWith(narrativeFile)) {
+            return Optional.of(cachedNarrative.asNarrative(type));
+        }
+        return Optional.absent();
+    }
+
+    public void store(File narrativeFile, Narrative narrative) {
+        getNarratives().put(narrativeFile.getAbsolutePath(), new CachedNarrative(narrativeFile, narrative));
+        modified = true;
+    }
+
+    /**
+     * Narratives for files that no longer exist are dropped, and the cache is written to a temporary file of its own
+     * before being renamed, so that builds running in parallel never read a half-written cache.
+     */
+    public synchronized void saveIfModified() {
+        if (!modified || cacheFile == null) {
+            return;
+        }
+        removeDeletedNarratives();
+        File temporaryCacheFile = null;
+        try {
+            File cacheDirectory = cacheFile.getAbsoluteFile().getParentFile();
+            cacheDirectory.mkdirs();
+            temporaryCacheFile = File.createTempFile(cacheFile.getName(), ".tmp", cacheDirectory);
+            mapper.writeValue(temporaryCacheFile, new HashMap<String, CachedNarrative>(getNarratives()));
+            if (temporaryCacheFile.renameTo(cacheFile) || (cacheFile.delete() && temporaryCacheFile.renameTo(cacheFile))) {
+                modified = false;
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not save the narrative cache to {}: {}", cacheFile, e.getMessage());
+        } finally {
+            if (temporaryCacheFile != null && temporaryCacheFile.exists()) {
+                temporaryCacheFile.delete();
+            }
+        }
+    }
+
+    private void removeDeletedNarratives() {
+        Iterator<String> narrativeFiles = getNarratives().keySet().iterator();
+        while (narrativeFiles.hasNext()) {
+            if (!new File(narrativeFiles.next()).exists()) {
+                narrativeFiles.remove();
+            }
+        }
+    }
+
+    private synchronized Map<String, CachedNarrative> getNarratives() {
+        if (narratives == null) {
+            narratives = new ConcurrentHashMap<String, CachedNarrative>();
+            narratives.putAll(loadSavedNarratives());
+        }
+        return narratives;
+    }
+
+    private Map<String, CachedNarrative> loadSavedNarratives() {
+        if (cacheFile == null || !cacheFile.exists()) {
+            return new HashMap<String, CachedNarrative>();
+        }
+        try {
+            JavaType type = mapper.getTypeFactory().constructMapType(HashMap.class, String.class, CachedNarrative.class);
+            return mapper.readValue(cacheFile, type);
+        } catch (IOException e) {
+            LOGGER.debug("Ignoring unreadable narrative cache {}", cacheFile);
+            return new HashMap<String, CachedNarrative>();
+        }
+    }
+
+    public static class CachedNarrative {
+        private long lastModified;
+        private long length;
+        private String title;
+        private String cardNumber;
+        private List<String> versionNumbers = Lists.newArrayList();
+        private String text;
+
+        public CachedNarrative() {
+        }
+
+        CachedNarrative(File narrativeFile, Narrative narrative) {
+            this.lastModified = narrativeFile.lastModified();
+            this.length = narrativeFile.length();
+            this.title = narrative.getTitle().orNull();
+            this.cardNumber = narrative.getCardNumber().orNull();
+            this.versionNumbers = Lists.newArrayList(narrative.getVersionNumbers());
+            this.text = narrative.getText();
+        }
+
+        boolean isUpToDateWith(File narrativeFile) {
+            return narrativeFile.lastModified() == lastModified && narrativeFile.length() == length;
+        }
+
+        Narrative asNarrative(String type) {
+            return new Narrative(Optional.fromNullable(title), Optional.fromNullable(cardNumber), versionNumbers, type, text);
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public void setLastModified(long lastModified) {
+            this.lastModified = lastModified;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public void setLength(long length) {
+            this.length = length;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String getCardNumber() {
+            return cardNumber;
+        }
+
+        public void setCardNumber(String cardNumber) {
+            this.cardNumber = cardNumber;
+        }
+
+        public List<String> getVersionNumbers() {
+            return versionNumbers;
+        }
+
+        public void setVersionNumbers(List<String> versionNumbers) {
+            this.versionNumbers = versionNumbers;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
+}
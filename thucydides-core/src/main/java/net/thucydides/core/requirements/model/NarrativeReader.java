@@ -31,10 +31,16 @@ public class NarrativeReader {
 
     private final String rootDirectory;
     private final List<String> requirementTypes;
+    private final NarrativeCache narrativeCache;
 
     protected NarrativeReader(String rootDirectory, List<String> requirementTypes) {
+        this(rootDirectory, requirementTypes, NarrativeCache.getDefaultCache());
+    }
+
+    protected NarrativeReader(String rootDirectory, List<String> requirementTypes, NarrativeCache narrativeCache) {
         this.rootDirectory = rootDirectory;
         this.requirementTypes = ImmutableList.copyOf(requirementTypes);
+        this.narrativeCache = narrativeCache;
     }
 
     public static NarrativeReader forRootDirectory(String rootDirectory) {
@@ -42,7 +48,18 @@ public class NarrativeReader {
     }
 
     public NarrativeReader withRequirementTypes(List<String> requirementTypes) {
-        return new NarrativeReader(this.rootDirectory, requirementTypes);
+        return new NarrativeReader(this.rootDirectory, requirementTypes, narrativeCache);
+    }
+
+    public NarrativeReader withNarrativeCache(NarrativeCache narrativeCache) {
+        return new NarrativeReader(this.rootDirectory, requirementTypes, narrativeCache);
+    }
+
+    /**
+     * Save any narratives read since the cache was last saved.
+     */
+    public void saveNarrativeCache() {
+        narrativeCache.saveIfModified();
     }
 
     public Optional<Narrative> loadFrom(File directory) {
@@ -69,6 +86,18 @@ public class NarrativeReader {
     }
 
     private Optional<Narrative> narrativeLoadedFrom(File narrativeFile, String type) {
+        Optional<Narrative> cachedNarrative = narrativeCache.narrativeFrom(narrativeFile, type);
+        if (cachedNarrative.isPresent()) {
+            return cachedNarrative;
+        }
+        Optional<Narrative> narrative = parsedNarrativeFrom(narrativeFile, type);
+        if (narrative.isPresent()) {
+            narrativeCache.store(narrativeFile, narrative.get());
+        }
+        return narrative;
+    }
+
+    private Optional<Narrative> parsedNarrativeFrom(File narrativeFile, String type) {
         try {
             BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(narrativeFile), "UTF-8"));
             List<String> lines = readPreambleFrom(reader);
@@ -2,7 +2,9 @@ package net.thucydides.core.scheduling;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
+import net.thucydides.core.model.TimingCategory;
 import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.steps.StepTimer;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.support.ui.Clock;
@@ -50,6 +52,15 @@ public abstract class ThucydidesFluentWait<T> implements Wait<T> {
     }
 
     public <V> V until(Function<? super T, V> isTrue) {
+        StepTimer timer = StepTimer.start(TimingCategory.WAIT);
+        try {
+            return waitUntil(isTrue);
+        } finally {
+            timer.stop();
+        }
+    }
+
+    private <V> V waitUntil(Function<? super T, V> isTrue) {
         long end = getClock().laterBy(timeout.in(MILLISECONDS));
         RuntimeException lastException = null;
         while (true) {
@@ -6,6 +6,10 @@ import com.jhlabs.image.BoxBlurFilter;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.digest.Digest;
 import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.images.ScreenshotDimensions;
+import net.thucydides.core.images.SimpleImageInfo;
+import net.thucydides.core.model.TimingCategory;
+import net.thucydides.core.steps.StepTimer;
 import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.webdriver.ProvidedDriverConfiguration;
 import net.thucydides.core.webdriver.WebDriverFacade;
@@ -98,6 +102,7 @@ public class Photographer {
      */
     public Optional<File> takeScreenshot() {
         if (driverCanTakeSnapshots()) {
+            StepTimer timer = StepTimer.start(TimingCategory.SCREENSHOT);
             try {
                 File screenshotTempFile = null;
                 Object capturedScreenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
@@ -112,11 +117,14 @@ public class Photographer {
                 if (screenshotTempFile != null) {
                     String storedFilename = getDigestScreenshotNameFor(screenshotTempFile);
                     File savedScreenshot = targetScreenshot(storedFilename);
+                    recordDimensionsOf(screenshotTempFile, storedFilename);
                     screenshotProcessor.queueScreenshot(new QueuedScreenshot(screenshotTempFile, savedScreenshot));
                     return Optional.of(savedScreenshot);
                 }
             } catch (Throwable e) {
                 getLogger().warn("Failed to write screenshot (possibly an out of memory error): " + e.getMessage());
+            } finally {
+                timer.stop();
             }
         }
         return Optional.absent();
@@ -127,6 +135,26 @@ public class Photographer {
         return screenshotDigest.forScreenshot(screenshotTempFile);
     }
 
+    /**
+     * Note the size of the screenshot as it will be stored, so that the reports don't need to read it again.
+     * Screenshots are scaled to the configured resized width (if any) when they are saved.
+     */
+    private void recordDimensionsOf(File screenshotTempFile, String storedFilename) {
+        try {
+            SimpleImageInfo imageInfo = new SimpleImageInfo(screenshotTempFile);
+            int width = imageInfo.getWidth();
+            int height = imageInfo.getHeight();
+            int resizedWidth = environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.RESIZED_WIDTH, 0);
+            if (resizedWidth > 0 && width > 0 && width != resizedWidth) {
+                height = (int) (((double) resizedWidth / (double) width) * (double) height);
+                width = resizedWidth;
+            }
+            ScreenshotDimensions.in(targetDirectory).record(storedFilename, width, height);
+        } catch (IOException e) {
+            getLogger().debug("Could not read the screenshot dimensions: " + e.getMessage());
+        }
+    }
+
     protected File blur(File srcFile) throws IOException {
         BufferedImage srcImage = ImageIO.read(srcFile);
         BufferedImage destImage = deepCopy(srcImage);
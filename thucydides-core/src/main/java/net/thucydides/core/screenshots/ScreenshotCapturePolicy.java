@@ -0,0 +1,103 @@
+package net.thucydides.core.screenshots;
+
+import com.google.common.base.Optional;
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.pages.SystemClock;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.webdriver.javascript.JavascriptExecutorFacade;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Decides whether an optional screenshot is worth taking, before the browser is asked for one.
+ * Taking a screenshot means a round trip to the browser and transferring a PNG image, which is expensive on a
+ * remote grid, so optional screenshots can be limited to a number per test or to a minimum interval, and can be
+ * skipped when a cheap fingerprint of the current URL and page contents shows that nothing has changed since the
+ * last one. Screenshots for failures and explicitly requested screenshots are not subject to the policy.
+ */
+public class ScreenshotCapturePolicy {
+
+    private static final String PAGE_FINGERPRINT_SCRIPT =
+            "var s = document.location.href + (document.documentElement ? document.documentElement.innerHTML : '');"
+          + "var fields = document.querySelectorAll ? document.querySelectorAll('input,select,textarea') : [];"
+          + "for (var i = 0; i < fields.length; i++) { s += '|' + fields[i].value; }"
+          + "var h = 0; for (var j = 0; j < s.length; j++) { h = ((h << 5) - h + s.charCodeAt(j)) | 0; }"
+          + "return s.length + ':' + h;";
+
+    private final SystemClock clock;
+    private final boolean skipUnchangedPages;
+    private final int screenshotBudget;
+    private final long minimumInterval;
+
+    private int screenshotsTaken;
+    private long lastScreenshotTime;
+    private Optional<String> lastFingerprint = Optional.absent();
+    private Optional<String> currentFingerprint = Optional.absent();
+
+    public ScreenshotCapturePolicy(EnvironmentVariables environmentVariables, SystemClock clock) {
+        this.clock = clock;
+        this.skipUnchangedPages
+                = environmentVariables.getPropertyAsBoolean(ThucydidesSystemProperty.THUCYDIDES_SCREENSHOT_SKIP_UNCHANGED, false);
+        this.screenshotBudget
+                = environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.THUCYDIDES_SCREENSHOT_BUDGET, 0);
+        this.minimumInterval
+                = environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.THUCYDIDES_SCREENSHOT_MINIMUM_INTERVAL, 0);
+    }
+
+    /**
+     * Budgets and intervals apply to each test separately.
+     */
+    public void reset() {
+        screenshotsTaken = 0;
+        lastScreenshotTime = 0;
+        lastFingerprint = Optional.absent();
+        currentFingerprint = Optional.absent();
+    }
+
+    public boolean allowsOptionalScreenshotOf(final WebDriver driver) {
+        currentFingerprint = Optional.absent();
+        if (budgetIsSpent() || tooSoonAfterLastScreenshot()) {
+            return false;
+        }
+        if (skipUnchangedPages) {
+            currentFingerprint = fingerprintOf(driver);
+            return !(currentFingerprint.isPresent() && currentFingerprint.equals(lastFingerprint));
+        }
+        return true;
+    }
+
+    /**
+     * Keep track of a screenshot that was taken, whether or not it was optional.
+     */
+    public void screenshotTakenOf(final WebDriver driver, final boolean optional) {
+        if (optional) {
+            screenshotsTaken++;
+            lastScreenshotTime = (minimumInterval > 0) ? now() : 0;
+        }
+        if (skipUnchangedPages) {
+            lastFingerprint = (currentFingerprint.isPresent()) ? currentFingerprint : fingerprintOf(driver);
+        }
+        currentFingerprint = Optional.absent();
+    }
+
+    private boolean budgetIsSpent() {
+        return (screenshotBudget > 0) && (screenshotsTaken >= screenshotBudget);
+    }
+
+    private boolean tooSoonAfterLastScreenshot() {
+        return (minimumInterval > 0) && (screenshotsTaken > 0) && (now() - lastScreenshotTime < minimumInterval);
+    }
+
+    private long now() {
+        return clock.getCurrentTime().getMillis();
+    }
+
+    private Optional<String> fingerprintOf(final WebDriver driver) {
+        try {
+            Object fingerprint = new JavascriptExecutorFacade(driver).executeScript(PAGE_FINGERPRINT_SCRIPT);
+            return (fingerprint != null) ? Optional.of(fingerprint.toString()) : Optional.<String>absent();
+        } catch (WebDriverException e) {
+            return Optional.absent();
+        }
+    }
+}
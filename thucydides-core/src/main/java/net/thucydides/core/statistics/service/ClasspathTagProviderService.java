@@ -1,5 +1,6 @@
 package net.thucydides.core.statistics.service;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,16 +18,17 @@ public class ClasspathTagProviderService implements TagProviderService {
     }
 
     @Override
-    public List<TagProvider> getTagProviders() {
+    public synchronized List<TagProvider> getTagProviders() {
         if (tagProviders == null) {
-            tagProviders = Lists.newArrayList();
+            List<TagProvider> loadedTagProviders = Lists.newArrayList();
 
             ServiceLoader<TagProvider> tagProviderServiceLoader = ServiceLoader.load(TagProvider.class);
 
             for (TagProvider aServiceLoader : tagProviderServiceLoader) {
                 logger.debug("Using tag provider: {}", aServiceLoader.getClass());
-                tagProviders.add(aServiceLoader);
+                loadedTagProviders.add(aServiceLoader);
             }
+            tagProviders = ImmutableList.copyOf(loadedTagProviders);
         }
         return tagProviders;
     }
@@ -0,0 +1,344 @@
+package net.thucydides.core.steps;
+
+import net.thucydides.core.model.DataTable;
+import net.thucydides.core.model.Story;
+import net.thucydides.core.model.TestOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers step events to a custom listener on a background thread, so that the test thread does not wait
+ * for the listener to process them.
+ * Events are queued in a bounded buffer and delivered one at a time, in the order in which they happened.
+ * When the buffer is full, the test thread either waits for space (the default) or drops the event.
+ * Test outcomes are passed on as copies taken when the event happened, and the test thread waits for
+ * the listener to catch up at the end of each test suite.
+ * The delivery thread is started by the first event of a test suite, and stopped once the listener has caught up
+ * at the end of the suite, so test threads do not leave idle delivery threads behind.
+ */
+public class AsynchronousStepListener implements StepListener {
+
+    public enum OverflowPolicy {
+        BLOCK, DROP
+    }
+
+    private static final long FLUSH_TIMEOUT_IN_SECONDS = 60;
+
+    private static final Runnable STOP_DELIVERY = new Runnable() {
+        public void run() {
+        }
+    };
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsynchronousStepListener.class);
+
+    private final StepListener listener;
+    private final BlockingQueue<Runnable> events;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicInteger droppedEvents = new AtomicInteger();
+    private Thread deliveryThread;
+
+    public AsynchronousStepListener(final StepListener listener, final int bufferSize, final OverflowPolicy overflowPolicy) {
+        this.listener = listener;
+        this.events = new ArrayBlockingQueue<Runnable>(bufferSize);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    private synchronized void startDeliveryThreadIfStopped() {
+        if (deliveryThread == null) {
+            deliveryThread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    deliverEvents();
+                }
+            }, "Step events for " + listener.getClass().getSimpleName());
+            deliveryThread.setDaemon(true);
+            deliveryThread.start();
+        }
+    }
+
+    private void deliverEvents() {
+        while (true) {
+            Runnable event;
+            try {
+                event = events.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (event == STOP_DELIVERY) {
+                return;
+            }
+            try {
+                event.run();
+            } catch (Throwable e) {
+                // A failing listener must not stop the events that follow from being delivered
+                LOGGER.error("Step listener " + listener + " failed to process an event", e);
+            }
+        }
+    }
+
+    public StepListener getListener() {
+        return listener;
+    }
+
+    public synchronized boolean isDelivering() {
+        return deliveryThread != null;
+    }
+
+    /**
+     * Wait until the listener has processed every event published so far, then stop the delivery thread.
+     * The next event published starts a new one. If the listener is still busy after the flush timeout,
+     * the delivery thread is left running and goes on delivering the events that follow.
+     */
+    public synchronized void stop() {
+        if (deliveryThread == null) {
+            return;
+        }
+        flush();
+        boolean stopRequested = false;
+        try {
+            events.put(STOP_DELIVERY);
+            stopRequested = true;
+            deliveryThread.join(TimeUnit.SECONDS.toMillis(FLUSH_TIMEOUT_IN_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!stopRequested || events.remove(STOP_DELIVERY)) {
+            // The listener is still busy: keep its delivery thread, so that no second thread delivers events out of order
+            LOGGER.warn("Step listener {} is still processing events, so its delivery thread was not stopped", listener);
+            return;
+        }
+        deliveryThread = null;
+    }
+
+    /**
+     * Wait until the listener has processed every event published so far.
+     */
+    public void flush() {
+        if (!isDelivering()) {
+            return;
+        }
+        final CountDownLatch delivered = new CountDownLatch(1);
+        try {
+            events.put(new Runnable() {
+                @Override
+                public void run() {
+                    delivered.countDown();
+                }
+            });
+            if (!delivered.await(FLUSH_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warn("Step listener {} is still processing events after {} seconds", listener, FLUSH_TIMEOUT_IN_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int dropped = droppedEvents.getAndSet(0);
+        if (dropped > 0) {
+            LOGGER.warn("{} step events were dropped because step listener {} could not keep up", dropped, listener);
+        }
+    }
+
+    private void publish(final Runnable event) {
+        startDeliveryThreadIfStopped();
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!events.offer(event)) {
+                droppedEvents.incrementAndGet();
+            }
+        } else {
+            try {
+                events.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private TestOutcome snapshotOf(final TestOutcome testOutcome) {
+        return (testOutcome == null) ? null : testOutcome.copy();
+    }
+
+    public void testSuiteStarted(final Class<?> storyClass) {
+        publish(new Runnable() {
+            public void run() {
+                listener.testSuiteStarted(storyClass);
+            }
+        });
+    }
+
+    public void testSuiteStarted(final Story story) {
+        publish(new Runnable() {
+            public void run() {
+                listener.testSuiteStarted(story);
+            }
+        });
+    }
+
+    public void testSuiteFinished() {
+        publish(new Runnable() {
+            public void run() {
+                listener.testSuiteFinished();
+            }
+        });
+    }
+
+    public void testStarted(final String description) {
+        publish(new Runnable() {
+            public void run() {
+                listener.testStarted(description);
+            }
+        });
+    }
+
+    public void testFinished(final TestOutcome result) {
+        final TestOutcome snapshot = snapshotOf(result);
+        publish(new Runnable() {
+            public void run() {
+                listener.testFinished(snapshot);
+            }
+        });
+    }
+
+    public void testRetried() {
+        publish(new Runnable() {
+            public void run() {
+                listener.testRetried();
+            }
+        });
+    }
+
+    public void stepStarted(final ExecutedStepDescription description) {
+        publish(new Runnable() {
+            public void run() {
+                listener.stepStarted(description);
+            }
+        });
+    }
+
+    public void skippedStepStarted(final ExecutedStepDescription description) {
+        publish(new Runnable() {
+            public void run() {
+                listener.skippedStepStarted(description);
+            }
+        });
+    }
+
+    public void stepFailed(final StepFailure failure) {
+        publish(new Runnable() {
+            public void run() {
+                listener.stepFailed(failure);
+            }
+        });
+    }
+
+    public void lastStepFailed(final StepFailure failure) {
+        publish(new Runnable() {
+            public void run() {
+                listener.lastStepFailed(failure);
+            }
+        });
+    }
+
+    public void stepIgnored() {
+        publish(new Runnable() {
+            public void run() {
+                listener.stepIgnored();
+            }
+        });
+    }
+
+    public void stepPending() {
+        publish(new Runnable() {
+            public void run() {
+                listener.stepPending();
+            }
+        });
+    }
+
+    public void stepPending(final String message) {
+        publish(new Runnable() {
+            public void run() {
+                listener.stepPending(message);
+            }
+        });
+    }
+
+    public void stepFinished() {
+        publish(new Runnable() {
+            public void run() {
+                listener.stepFinished();
+            }
+        });
+    }
+
+    public void testFailed(final TestOutcome testOutcome, final Throwable cause) {
+        final TestOutcome snapshot = snapshotOf(testOutcome);
+        publish(new Runnable() {
+            public void run() {
+                listener.testFailed(snapshot, cause);
+            }
+        });
+    }
+
+    public void testIgnored() {
+        publish(new Runnable() {
+            public void run() {
+                listener.testIgnored();
+            }
+        });
+    }
+
+    public void notifyScreenChange() {
+        publish(new Runnable() {
+            public void run() {
+                listener.notifyScreenChange();
+            }
+        });
+    }
+
+    public void useExamplesFrom(final DataTable table) {
+        final DataTable snapshot = (table == null) ? null : table.copy();
+        publish(new Runnable() {
+            public void run() {
+                listener.useExamplesFrom(snapshot);
+            }
+        });
+    }
+
+    public void exampleStarted(final Map<String, String> data) {
+        final Map<String, String> snapshot = Collections.unmodifiableMap(new LinkedHashMap<String, String>(data));
+        publish(new Runnable() {
+            public void run() {
+                listener.exampleStarted(snapshot);
+            }
+        });
+    }
+
+    public void exampleFinished() {
+        publish(new Runnable() {
+            public void run() {
+                listener.exampleFinished();
+            }
+        });
+    }
+
+    public void assumptionViolated(final String message) {
+        publish(new Runnable() {
+            public void run() {
+                listener.assumptionViolated(message);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "AsynchronousStepListener{" + listener + '}';
+    }
+}
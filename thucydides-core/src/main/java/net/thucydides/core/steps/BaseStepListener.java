@@ -10,6 +10,7 @@ import net.thucydides.core.annotations.TestAnnotations;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.model.DataTable;
 import net.thucydides.core.model.FailureAnalysis;
+import net.thucydides.core.model.PageTiming;
 import net.thucydides.core.model.ScreenshotPermission;
 import net.thucydides.core.model.Story;
 import net.thucydides.core.model.TakeScreenshots;
@@ -17,13 +18,16 @@ import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestResult;
 import net.thucydides.core.model.TestStep;
 import net.thucydides.core.model.TestTag;
+import net.thucydides.core.model.TimingCategory;
 import net.thucydides.core.pages.Pages;
 import net.thucydides.core.pages.SystemClock;
 import net.thucydides.core.screenshots.Photographer;
 import net.thucydides.core.screenshots.ScreenshotAndHtmlSource;
 import net.thucydides.core.screenshots.ScreenshotBlurCheck;
+import net.thucydides.core.screenshots.ScreenshotCapturePolicy;
 import net.thucydides.core.screenshots.ScreenshotException;
 import net.thucydides.core.screenshots.ScreenshotProcessor;
+import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.webdriver.Configuration;
 import net.thucydides.core.webdriver.WebDriverFacade;
 import net.thucydides.core.webdriver.WebdriverManager;
@@ -102,6 +106,8 @@ public class BaseStepListener implements StepListener, StepPublisher {
 
     ScreenshotProcessor screenshotProcessor;
 
+    private ScreenshotCapturePolicy capturePolicy;
+
     private boolean inFluentStepSequence;
 
     private List<String> storywideIssues;
@@ -141,6 +147,7 @@ public class BaseStepListener implements StepListener, StepPublisher {
         this.clock = injector.getInstance(SystemClock.class);
         this.configuration = injector.getInstance(Configuration.class);
         this.screenshotProcessor = injector.getInstance(ScreenshotProcessor.class);
+        this.capturePolicy = new ScreenshotCapturePolicy(injector.getInstance(EnvironmentVariables.class), clock);
     }
 
     /**
@@ -213,6 +220,28 @@ public class BaseStepListener implements StepListener, StepPublisher {
         return testOutcomes.get(testOutcomes.size() - 1);
     }
 
+    /**
+     * The step being recorded in the current test, or the step that has just finished, if there is one.
+     */
+    Optional<TestStep> getLatestStep() {
+        if (testOutcomes.isEmpty() || getCurrentTestOutcome().getTestSteps().isEmpty()) {
+            return Optional.absent();
+        }
+        return Optional.of(getCurrentTestOutcome().getCurrentStep());
+    }
+
+    void recordTimeForCurrentStep(TimingCategory category, long milliseconds) {
+        if (currentStepExists()) {
+            getCurrentStep().recordTime(category, milliseconds);
+        }
+    }
+
+    void recordPageTimingForCurrentStep(PageTiming pageTiming) {
+        if (currentStepExists()) {
+            getCurrentStep().recordPageTiming(pageTiming);
+        }
+    }
+
     protected SystemClock getClock() {
         return clock;
     }
@@ -268,6 +297,7 @@ public class BaseStepListener implements StepListener, StepPublisher {
      */
     public void testStarted(final String testMethod) {
         testOutcomes.add(TestOutcome.forTestInStory(testMethod, testSuite, testedStory));
+        capturePolicy.reset();
         updateSessionIdIfKnown();
         setAnnotatedResult(testMethod);
     }
@@ -529,17 +559,23 @@ public class BaseStepListener implements StepListener, StepPublisher {
 
     private void takeEndOfStepScreenshotFor(final TestResult result) {
         if (shouldTakeEndOfStepScreenshotFor(result)) {
-            take(OPTIONAL_SCREENSHOT);
+            take(OPTIONAL_SCREENSHOT, result);
         }
     }
 
     private void take(final ScreenshotType screenshotType) {
-        if (currentStepExists() && browserIsOpen()) {
+        take(screenshotType, SUCCESS);
+    }
+
+    private void take(final ScreenshotType screenshotType, final TestResult result) {
+        boolean optional = isOptional(screenshotType, result);
+        if (currentStepExists() && browserIsOpen() && capturePolicyAllows(optional)) {
             try {
                 String stepDescription = getCurrentTestOutcome().getCurrentStep().getDescription();
                 String testName = getCurrentTestOutcome().getTitle();
                 Optional<ScreenshotAndHtmlSource> screenshotAndHtmlSource = grabScreenshotFor(testName + ":" + stepDescription);
                 if (screenshotAndHtmlSource.isPresent()) {
+                    capturePolicy.screenshotTakenOf(driver, optional);
                     takeScreenshotIfRequired(screenshotType, screenshotAndHtmlSource.get());
                 }
                 removeDuplicatedInitalScreenshotsIfPresent();
@@ -549,6 +585,17 @@ public class BaseStepListener implements StepListener, StepPublisher {
         }
     }
 
+    /**
+     * Screenshots of failures and screenshots that were explicitly requested are always taken.
+     */
+    private boolean isOptional(final ScreenshotType screenshotType, final TestResult result) {
+        return (screenshotType == OPTIONAL_SCREENSHOT) && (result != FAILURE);
+    }
+
+    private boolean capturePolicyAllows(final boolean optional) {
+        return !optional || capturePolicy.allowsOptionalScreenshotOf(driver);
+    }
+
     private void removeDuplicatedInitalScreenshotsIfPresent() {
         if (currentStepHasMoreThanOneScreenshot() && getPreviousStep().isPresent() && getPreviousStep().get().hasScreenshots()) {
             ScreenshotAndHtmlSource lastScreenshotOfPreviousStep = lastScreenshotOf(getPreviousStep().get());
@@ -1,15 +1,22 @@
 package net.thucydides.core.steps;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
 import com.google.inject.Inject;
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.annotations.AsynchronousListener;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.model.DataTable;
+import net.thucydides.core.model.PageTiming;
 import net.thucydides.core.model.Story;
 import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestStep;
 import net.thucydides.core.model.TestTag;
+import net.thucydides.core.model.TimingCategory;
 import net.thucydides.core.screenshots.ScreenshotProcessor;
+import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.webdriver.ThucydidesWebDriverSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,22 +45,31 @@ import java.util.Stack;
  */
 public class StepEventBus {
 
-    private static ThreadLocal<StepEventBus> stepEventBusThreadLocal = new ThreadLocal<StepEventBus>();
+    private static final ThreadLocal<StepEventBus> stepEventBusThreadLocal = new ThreadLocal<StepEventBus>();
     private static final String CORE_THUCYDIDES_PACKAGE = "net.thucydides.core";
     private static final Logger LOGGER = LoggerFactory.getLogger(StepEventBus.class);
+    private static final int DEFAULT_ASYNCHRONOUS_BUFFER_SIZE = 1024;
 
     /**
      * The event bus used to inform listening classes about when tests and test steps start and finish.
-     * There is a separate event bus for each thread.
+     * There is a separate event bus for each thread, so no locking is needed to find it.
      */
-    public static synchronized StepEventBus getEventBus() {
-        if (stepEventBusThreadLocal.get() == null) {
-            stepEventBusThreadLocal.set(Injectors.getInjector().getInstance(StepEventBus.class));
+    public static StepEventBus getEventBus() {
+        StepEventBus eventBus = stepEventBusThreadLocal.get();
+        if (eventBus == null) {
+            eventBus = Injectors.getInjector().getInstance(StepEventBus.class);
+            stepEventBusThreadLocal.set(eventBus);
         }
-        return stepEventBusThreadLocal.get();
+        return eventBus;
     }
 
     private List<StepListener> registeredListeners = new ArrayList<StepListener>();
+
+    /**
+     * The registered and custom listeners that every event is sent to.
+     * Rebuilt only when a listener is registered or dropped, rather than for each event.
+     */
+    private List<StepListener> allListeners;
     /**
      * A reference to the base step listener, if registered.
      */
@@ -89,6 +105,7 @@ public class StepEventBus {
     public StepEventBus registerListener(final StepListener listener) {
         if (!registeredListeners.contains(listener)) {
             registeredListeners.add(listener);
+            allListeners = null;
             if (BaseStepListener.class.isAssignableFrom(listener.getClass())) {
                 baseStepListener = (BaseStepListener) listener;
                 baseStepListener.setEventBus(this);
@@ -135,9 +152,13 @@ public class StepEventBus {
     }
 
     protected List<StepListener> getAllListeners() {
-        List<StepListener> allListeners = Lists.newArrayList(registeredListeners);
-        allListeners.addAll(getCustomListeners());
-        return ImmutableList.copyOf(allListeners);
+        if (allListeners == null) {
+            allListeners = ImmutableList.<StepListener>builder()
+                                        .addAll(registeredListeners)
+                                        .addAll(getCustomListeners())
+                                        .build();
+        }
+        return allListeners;
     }
 
     private Set<StepListener> getCustomListeners() {
@@ -151,7 +172,7 @@ public class StepEventBus {
                     StepListener listener = (StepListener) listenerImplementations.next();
                     if (!isACore(listener)) {
                         LOGGER.info("Registering custom listener " + listener);
-                        customListeners.add(listener);
+                        customListeners.add(withDeliveryModeFor(listener));
                     }
                 } catch (ServiceConfigurationError e) {
                     LOGGER.error("Could not instantiate listener ", e);
@@ -162,6 +183,40 @@ public class StepEventBus {
         return customListeners;
     }
 
+    private StepListener withDeliveryModeFor(final StepListener listener) {
+        EnvironmentVariables environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
+        if (!isAsynchronous(listener, environmentVariables)) {
+            return listener;
+        }
+        int bufferSize = environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.THUCYDIDES_ASYNCHRONOUS_LISTENER_BUFFER,
+                                                                   DEFAULT_ASYNCHRONOUS_BUFFER_SIZE);
+        String overflow = environmentVariables.getProperty(ThucydidesSystemProperty.THUCYDIDES_ASYNCHRONOUS_LISTENER_OVERFLOW, "block");
+        AsynchronousStepListener.OverflowPolicy overflowPolicy = "drop".equalsIgnoreCase(overflow.trim()) ?
+                AsynchronousStepListener.OverflowPolicy.DROP : AsynchronousStepListener.OverflowPolicy.BLOCK;
+        return new AsynchronousStepListener(listener, bufferSize, overflowPolicy);
+    }
+
+    private boolean isAsynchronous(final StepListener listener, final EnvironmentVariables environmentVariables) {
+        if (listener.getClass().isAnnotationPresent(AsynchronousListener.class)) {
+            return true;
+        }
+        String asynchronousListeners = environmentVariables.getProperty(ThucydidesSystemProperty.THUCYDIDES_ASYNCHRONOUS_LISTENERS, "");
+        for (String listenerName : Splitter.on(",").trimResults().omitEmptyStrings().split(asynchronousListeners)) {
+            if (listenerName.equals(listener.getClass().getName()) || listenerName.equals(listener.getClass().getSimpleName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void stopAsynchronousListeners() {
+        for (StepListener stepListener : getAllListeners()) {
+            if (stepListener instanceof AsynchronousStepListener) {
+                ((AsynchronousStepListener) stepListener).stop();
+            }
+        }
+    }
+
     private boolean isACore(final StepListener listener) {
         return listener.getClass().getPackage().getName().startsWith(CORE_THUCYDIDES_PACKAGE);
     }
@@ -356,10 +411,12 @@ public class StepEventBus {
 
     public void dropListener(final StepListener stepListener) {
         registeredListeners.remove(stepListener);
+        allListeners = null;
     }
 
     public void dropAllListeners() {
         registeredListeners.clear();
+        allListeners = null;
     }
 
     public boolean webdriverCallsAreSuspended() {
@@ -422,6 +479,7 @@ public class StepEventBus {
         for (StepListener stepListener : getAllListeners()) {
             stepListener.testSuiteFinished();
         }
+        stopAsynchronousListeners();
         if (!isUniqueSession()) {
             ThucydidesWebDriverSupport.closeAllDrivers();
         }
@@ -432,6 +490,36 @@ public class StepEventBus {
         getBaseStepListener().updateCurrentStepTitle(stepTitle);
     }
 
+    /**
+     * The step currently being recorded, or the step that has just finished.
+     * Custom listeners can use this to add extra information to a step when they are told that it has finished.
+     */
+    public Optional<TestStep> getLatestStep() {
+        if (baseStepListener == null) {
+            return Optional.absent();
+        }
+        return baseStepListener.getLatestStep();
+    }
+
+    /**
+     * Add some time spent on a given activity to the step that is currently running, if there is one.
+     * This is normally done using a StepTimer.
+     */
+    public void recordTime(TimingCategory category, long milliseconds) {
+        if (baseStepListener != null) {
+            baseStepListener.recordTimeForCurrentStep(category, milliseconds);
+        }
+    }
+
+    /**
+     * Record the browser's timings for a page that was opened during the step that is currently running.
+     */
+    public void recordPageTiming(PageTiming pageTiming) {
+        if (baseStepListener != null) {
+            baseStepListener.recordPageTimingForCurrentStep(pageTiming);
+        }
+    }
+
     public void addIssuesToCurrentStory(List<String> issues) {
         getBaseStepListener().addIssuesToCurrentStory(issues);
     }
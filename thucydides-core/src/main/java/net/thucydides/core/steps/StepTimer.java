@@ -0,0 +1,51 @@
+package net.thucydides.core.steps;
+
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.model.TimingCategory;
+import net.thucydides.core.pages.SystemClock;
+
+/**
+ * Measures the time spent on one kind of activity (a wait, a page load, a screenshot...) during the current step,
+ * and adds it to the step's timing breakdown when the timer is stopped.
+ * Timers can be nested (a wait will typically call browser commands), in which case only the outermost timer
+ * is recorded, so the same time is never counted twice.
+ * Timers should always be stopped in a finally block.
+ */
+public class StepTimer {
+
+    private static final ThreadLocal<int[]> RUNNING_TIMERS = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[1];
+        }
+    };
+
+    private final TimingCategory category;
+    private final SystemClock clock;
+    private final long startTime;
+    private final boolean outermost;
+
+    private StepTimer(TimingCategory category, SystemClock clock) {
+        int[] runningTimers = RUNNING_TIMERS.get();
+        this.outermost = (runningTimers[0] == 0);
+        runningTimers[0]++;
+        this.category = category;
+        this.clock = clock;
+        this.startTime = clock.getCurrentTime().getMillis();
+    }
+
+    public static StepTimer start(TimingCategory category) {
+        return start(category, Injectors.getInjector().getInstance(SystemClock.class));
+    }
+
+    public static StepTimer start(TimingCategory category, SystemClock clock) {
+        return new StepTimer(category, clock);
+    }
+
+    public void stop() {
+        RUNNING_TIMERS.get()[0]--;
+        if (outermost) {
+            StepEventBus.getEventBus().recordTime(category, clock.getCurrentTime().getMillis() - startTime);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package net.thucydides.core.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,6 +23,18 @@ public class Inflector {
 
     protected static final Inflector INSTANCE = new Inflector();
 
+    /**
+     * Reports inflect the same few tag, story and requirement names over and over again,
+     * so the results of the most common transformations are kept.
+     */
+    private static final int MAXIMUM_CACHED_WORDS = 10000;
+
+    private static final Pattern TRAILING_ID = Pattern.compile("_id$");
+    private static final Pattern UNDERSCORES = Pattern.compile("_+");
+    private static final Pattern ACRONYM_FOLLOWED_BY_WORD = Pattern.compile("([A-Z]+)([A-Z][a-z])");
+    private static final Pattern LOWERCASE_FOLLOWED_BY_UPPERCASE = Pattern.compile("([a-z\\d])([A-Z])");
+    private static final Pattern FIRST_LETTER_OF_WORD = Pattern.compile("\\b([a-z])");
+
     public static Inflector getInstance() {
         return INSTANCE;
     }
@@ -65,10 +82,36 @@ public class Inflector {
      */
     private final Set<String> uncountables = new HashSet<String>();
 
+    private final Cache<String, String> pluralForms = newWordCache();
+    private final Cache<String, String> singularForms = newWordCache();
+    private final Cache<String, String> humanizedForms = newWordCache();
+    private final Cache<String, String> underscoredForms = newWordCache();
+    private final Cache<String, String> titleCaseForms = newWordCache();
+
     public Inflector() {
         initialize();
     }
 
+    private static Cache<String, String> newWordCache() {
+        return CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_WORDS).build();
+    }
+
+    private String cached(Cache<String, String> cache, String word, Callable<String> transformation) {
+        try {
+            return cache.get(word, transformation);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not inflect " + word, e.getCause());
+        }
+    }
+
+    private void clearCachedWords() {
+        pluralForms.invalidateAll();
+        singularForms.invalidateAll();
+        humanizedForms.invalidateAll();
+        underscoredForms.invalidateAll();
+        titleCaseForms.invalidateAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     // Usage functions
     // ------------------------------------------------------------------------------------------------
@@ -98,10 +141,18 @@ public class Inflector {
      */
     public String pluralize( Object word ) {
         if (word == null) return null;
-        String wordStr = word.toString().trim();
+        final String wordStr = word.toString().trim();
         if (wordStr.length() == 0) return wordStr;
+        return cached(pluralForms, wordStr, new Callable<String>() {
+            public String call() {
+                return applyRules(plurals, wordStr);
+            }
+        });
+    }
+
+    private String applyRules( LinkedList<Rule> rules, String wordStr ) {
         if (isUncountable(wordStr)) return wordStr;
-        for (Rule rule : this.plurals) {
+        for (Rule rule : rules) {
             String result = rule.apply(wordStr);
             if (result != null) return result;
         }
@@ -142,14 +193,13 @@ public class Inflector {
      */
     public String singularize( Object word ) {
         if (word == null) return null;
-        String wordStr = word.toString().trim();
+        final String wordStr = word.toString().trim();
         if (wordStr.length() == 0) return wordStr;
-        if (isUncountable(wordStr)) return wordStr;
-        for (Rule rule : this.singulars) {
-            String result = rule.apply(wordStr);
-            if (result != null) return result;
-        }
-        return wordStr;
+        return cached(singularForms, wordStr, new Callable<String>() {
+            public String call() {
+                return applyRules(singulars, wordStr);
+            }
+        });
     }
 
     /**
@@ -184,23 +234,39 @@ public class Inflector {
      * @return the humanized string
      * @see #titleCase(String, String[])
      */
-    public String humanize( String lowerCaseAndUnderscoredWords,
-                            String... removableTokens ) {
+    public String humanize( final String lowerCaseAndUnderscoredWords,
+                            final String... removableTokens ) {
         if (lowerCaseAndUnderscoredWords == null) return null;
+        if (hasNo(removableTokens)) {
+            return cached(humanizedForms, lowerCaseAndUnderscoredWords, new Callable<String>() {
+                public String call() {
+                    return humanized(lowerCaseAndUnderscoredWords, removableTokens);
+                }
+            });
+        }
+        return humanized(lowerCaseAndUnderscoredWords, removableTokens);
+    }
+
+    private String humanized( String lowerCaseAndUnderscoredWords,
+                              String... removableTokens ) {
         String result = lowerCaseAndUnderscoredWords.trim();
         if (result.length() == 0) return "";
         // Remove a trailing "_id" token
-        result = result.replaceAll("_id$", "");
+        result = TRAILING_ID.matcher(result).replaceAll("");
         // Remove all of the tokens that should be removed
         if (removableTokens != null) {
             for (String removableToken : removableTokens) {
                 result = result.replaceAll(removableToken, "");
             }
         }
-        result = result.replaceAll("_+", " "); // replace all adjacent underscores with a single space
+        result = UNDERSCORES.matcher(result).replaceAll(" "); // replace all adjacent underscores with a single space
         return capitalize(result);
     }
 
+    private boolean hasNo( Object[] optionalArguments ) {
+        return (optionalArguments == null) || (optionalArguments.length == 0);
+    }
+
     /**
      * Makes an underscored form from the expression in the string (the reverse of the {@link #camelCase(String, boolean, char[])
      * camelCase} method. Also changes any characters that match the supplied delimiters into underscore.
@@ -222,13 +288,25 @@ public class Inflector {
      * @param delimiterChars optional characters that are used to delimit word boundaries (beyond capitalization)
      * @return a lower-cased version of the input, with separate words delimited by the underscore character.
      */
-    public String underscore( String camelCaseWord,
-                              char... delimiterChars ) {
+    public String underscore( final String camelCaseWord,
+                              final char... delimiterChars ) {
         if (camelCaseWord == null) return null;
+        if ((delimiterChars == null) || (delimiterChars.length == 0)) {
+            return cached(underscoredForms, camelCaseWord, new Callable<String>() {
+                public String call() {
+                    return underscored(camelCaseWord, delimiterChars);
+                }
+            });
+        }
+        return underscored(camelCaseWord, delimiterChars);
+    }
+
+    private String underscored( String camelCaseWord,
+                                char... delimiterChars ) {
         String result = camelCaseWord.trim();
         if (result.length() == 0) return "";
-        result = result.replaceAll("([A-Z]+)([A-Z][a-z])", "$1_$2");
-        result = result.replaceAll("([a-z\\d])([A-Z])", "$1_$2");
+        result = ACRONYM_FOLLOWED_BY_WORD.matcher(result).replaceAll("$1_$2");
+        result = LOWERCASE_FOLLOWED_BY_UPPERCASE.matcher(result).replaceAll("$1_$2");
         result = result.replace('-', '_');
         if (delimiterChars != null) {
             for (char delimiterChar : delimiterChars) {
@@ -257,10 +335,22 @@ public class Inflector {
      * @param removableTokens optional array of tokens that are to be removed
      * @return the title-case version of the supplied words
      */
-    public String titleCase( String words,
-                             String... removableTokens ) {
+    public String titleCase( final String words,
+                             final String... removableTokens ) {
+        if ((words != null) && hasNo(removableTokens)) {
+            return cached(titleCaseForms, words, new Callable<String>() {
+                public String call() {
+                    return titleCased(words, removableTokens);
+                }
+            });
+        }
+        return titleCased(words, removableTokens);
+    }
+
+    private String titleCased( String words,
+                               String... removableTokens ) {
         String result = humanize(words, removableTokens);
-        result = replaceAllWithUppercase(result, "\\b([a-z])", 1); // change first char of each word to uppercase
+        result = replaceAllWithUppercase(result, FIRST_LETTER_OF_WORD, 1); // change first char of each word to uppercase
         return result;
     }
 
@@ -284,12 +374,14 @@ public class Inflector {
                               String replacement ) {
         final Rule pluralizeRule = new Rule(rule, replacement);
         this.plurals.addFirst(pluralizeRule);
+        clearCachedWords();
     }
 
     public void addSingularize( String rule,
                                 String replacement ) {
         final Rule singularizeRule = new Rule(rule, replacement);
         this.singulars.addFirst(singularizeRule);
+        clearCachedWords();
     }
 
     public void addIrregular( String singular,
@@ -304,6 +396,7 @@ public class Inflector {
         for (String word : words) {
             uncountables.add(word.trim().toLowerCase());
         }
+        clearCachedWords();
     }
 
     /**
@@ -320,8 +413,13 @@ public class Inflector {
     protected static String replaceAllWithUppercase( String input,
                                                      String regex,
                                                      int groupNumberToUppercase ) {
-        Pattern underscoreAndDotPattern = Pattern.compile(regex);
-        Matcher matcher = underscoreAndDotPattern.matcher(input);
+        return replaceAllWithUppercase(input, Pattern.compile(regex), groupNumberToUppercase);
+    }
+
+    protected static String replaceAllWithUppercase( String input,
+                                                     Pattern pattern,
+                                                     int groupNumberToUppercase ) {
+        Matcher matcher = pattern.matcher(input);
         StringBuffer sb = new StringBuffer();
         while (matcher.find()) {
             matcher.appendReplacement(sb, matcher.group(groupNumberToUppercase).toUpperCase());
@@ -1,9 +1,13 @@
 package net.thucydides.core.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.lang3.CharUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Utility class to convert test case and method names into human-readable form.
@@ -13,8 +17,32 @@ import java.util.Locale;
  */
 public final class NameConverter {
 
+    /**
+     * Test, step and tag names are converted again every time they appear in a report,
+     * so the most recent conversions are kept.
+     */
+    private static final int MAXIMUM_CACHED_NAMES = 10000;
+
+    private static final Cache<String, String> HUMANIZED_NAMES = newNameCache();
+    private static final Cache<String, String> SPLIT_NAMES = newNameCache();
+    private static final Cache<String, String> UNDERSCORED_NAMES = newNameCache();
+
+    private static final char[] CHARACTERS_TO_UNDERSCORE = {' ', '<', '>', '\'', ',', ':', '/', '"', '='};
+
     private NameConverter() {}
 
+    private static Cache<String, String> newNameCache() {
+        return CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_NAMES).build();
+    }
+
+    private static String cached(Cache<String, String> cache, String name, Callable<String> conversion) {
+        try {
+            return cache.get(name, conversion);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not convert " + name, e.getCause());
+        }
+    }
+
     /**
      * Converts a class or method name into a human-readable sentence.
      */
@@ -22,13 +50,20 @@ public final class NameConverter {
         if ((name == null) || (name.trim().length() == 0)) {
             return "";
         }
+        return cached(HUMANIZED_NAMES, name, new Callable<String>() {
+            public String call() {
+                return humanized(name);
+            }
+        });
+    }
 
+    private static String humanized(final String name) {
         if (name.contains(" ") && !thereAreParametersIn(name)) {
             return name;
         } else if (thereAreParametersIn(name)){
             return humanizeNameWithParameters(name);
         } else {
-            String noUnderscores = name.replaceAll("_", " ");
+            String noUnderscores = name.replace('_', ' ');
             String splitCamelCase = splitCamelCase(noUnderscores);
             return StringUtils.capitalize(splitCamelCase);
         }
@@ -50,7 +85,15 @@ public final class NameConverter {
      * Inserts spaces between words in a CamelCase name.
      */
     public static String splitCamelCase(final String name) {
-        StringBuffer splitWords = new StringBuffer();
+        return cached(SPLIT_NAMES, name, new Callable<String>() {
+            public String call() {
+                return splitCamelCaseWordsIn(name);
+            }
+        });
+    }
+
+    private static String splitCamelCaseWordsIn(final String name) {
+        StringBuilder splitWords = new StringBuilder();
 
         // AbcDef
         boolean inWord = false;
@@ -142,19 +185,22 @@ public final class NameConverter {
      */
     public static String underscore(final String name) {
         if (name != null) {
-            return name.replaceAll(" ", "_")
-                    .replaceAll("<","_")
-                    .replaceAll(">","_")
-                    .replaceAll("'","_")
-                    .replaceAll(",","_")
-                    .replaceAll(":","_")
-                    .replaceAll("/","_")
-                    .replaceAll("\"","_")
-                    .replaceAll("=","_")
-                        .toLowerCase(Locale.getDefault()).trim();
+            return cached(UNDERSCORED_NAMES, name, new Callable<String>() {
+                public String call() {
+                    return underscored(name);
+                }
+            });
         } else {
             return "";
         }
     }
 
+    private static String underscored(final String name) {
+        String result = name;
+        for (char character : CHARACTERS_TO_UNDERSCORE) {
+            result = result.replace(character, '_');
+        }
+        return result.toLowerCase(Locale.getDefault()).trim();
+    }
+
 }
@@ -1,7 +1,12 @@
 package net.thucydides.core.webdriver;
 
 import com.gargoylesoftware.htmlunit.ScriptException;
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.model.TimingCategory;
 import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.steps.StepTimer;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.webdriver.javascript.NavigationTimingCollector;
 import net.thucydides.core.webdriver.stubs.NavigationStub;
 import net.thucydides.core.webdriver.stubs.OptionsStub;
 import net.thucydides.core.webdriver.stubs.TargetLocatorStub;
@@ -37,6 +42,8 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
 
     protected WebDriver proxiedWebDriver;
 
+    private NavigationTimingCollector navigationTimingCollector;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverFacade.class);
 
     public WebDriverFacade(final Class<? extends WebDriver> driverClass,
@@ -116,15 +123,26 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
             return;
         }
         openIgnoringHtmlUnitScriptErrors(url);
+        getNavigationTimingCollector().recordPageTimingFor(this);
+    }
+
+    private NavigationTimingCollector getNavigationTimingCollector() {
+        if (navigationTimingCollector == null) {
+            navigationTimingCollector = new NavigationTimingCollector(Injectors.getInjector().getInstance(EnvironmentVariables.class));
+        }
+        return navigationTimingCollector;
     }
 
     private void openIgnoringHtmlUnitScriptErrors(final String url) {
+        StepTimer timer = StepTimer.start(TimingCategory.PAGE_LOAD);
         try {
             getProxiedDriver().get(url);
         } catch (WebDriverException e) {
             if (!htmlunitScriptError(e)) {
                 throw e;
             }
+        } finally {
+            timer.stop();
         }
     }
 
@@ -158,7 +176,12 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
             return Collections.emptyList();
         }
 
-        return getProxiedDriver().findElements(by);
+        StepTimer timer = StepTimer.start(TimingCategory.BROWSER);
+        try {
+            return getProxiedDriver().findElements(by);
+        } finally {
+            timer.stop();
+        }
     }
 
     public WebElement findElement(final By by) {
@@ -166,7 +189,12 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
             throw new ElementNotVisibleException("No element found for " + by.toString() + " (a previous step has failed)");
         }
 
-        return getProxiedDriver().findElement(by);
+        StepTimer timer = StepTimer.start(TimingCategory.BROWSER);
+        try {
+            return getProxiedDriver().findElement(by);
+        } finally {
+            timer.stop();
+        }
     }
 
     public String getPageSource() {
@@ -277,10 +305,20 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
     }
 
     public Object executeScript(String script, Object... parameters) {
-        return ((JavascriptExecutor) getProxiedDriver()).executeScript(script, parameters);
+        StepTimer timer = StepTimer.start(TimingCategory.BROWSER);
+        try {
+            return ((JavascriptExecutor) getProxiedDriver()).executeScript(script, parameters);
+        } finally {
+            timer.stop();
+        }
     }
 
     public Object executeAsyncScript(String script, Object... parameters) {
-        return ((JavascriptExecutor) getProxiedDriver()).executeAsyncScript(script, parameters);
+        StepTimer timer = StepTimer.start(TimingCategory.BROWSER);
+        try {
+            return ((JavascriptExecutor) getProxiedDriver()).executeAsyncScript(script, parameters);
+        } finally {
+            timer.stop();
+        }
     }
 }
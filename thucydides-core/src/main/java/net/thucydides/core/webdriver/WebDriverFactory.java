@@ -1,5 +1,6 @@
 package net.thucydides.core.webdriver;
 
+import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Lists;
@@ -15,6 +16,7 @@ import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.util.NameConverter;
 import net.thucydides.core.webdriver.chrome.OptionsSplitter;
 import net.thucydides.core.webdriver.firefox.FirefoxProfileEnhancer;
+import net.thucydides.core.webdriver.firefox.FirefoxProfileTemplates;
 import net.thucydides.core.webdriver.phantomjs.PhantomJSCapabilityEnhancer;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
@@ -121,7 +123,7 @@ public class WebDriverFactory {
         this.proxyCreator = proxyCreator;
     }
 
-    protected ProfilesIni getAllProfiles() {
+    protected synchronized ProfilesIni getAllProfiles() {
         if (allProfiles == null) {
             allProfiles = new ProfilesIni();
         }
@@ -151,14 +153,14 @@ public class WebDriverFactory {
     }
 
     /**
-     * This method is synchronized because multiple webdriver instances can be created in parallel.
-     * However, they may use common system resources such as ports, so may potentially interfere
-     * with each other.
+     * Several webdriver instances can be created in parallel from different threads.
+     * The few pieces of shared state involved (such as the Firefox profiles) are guarded individually,
+     * so that one slow browser launch does not hold up the others.
      *
      * @param driverClass
      * @return
      */
-    protected synchronized WebDriver newWebdriverInstance(final Class<? extends WebDriver> driverClass) {
+    protected WebDriver newWebdriverInstance(final Class<? extends WebDriver> driverClass) {
         try {
             WebDriver driver;
             if (isARemoteDriver(driverClass) || shouldUseARemoteDriver() || saucelabsUrlIsDefined()) {
@@ -397,7 +399,7 @@ public class WebDriverFactory {
 
             case FIREFOX:
                 capabilities = DesiredCapabilities.firefox();
-                capabilities.setCapability("firefox_profile",buildFirefoxProfile());
+                capabilities.setCapability("firefox_profile", firefoxProfileCapability());
                 break;
 
             case HTMLUNIT:
@@ -482,9 +484,8 @@ public class WebDriverFactory {
     }
 
     private WebDriver firefoxDriver() throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
-        FirefoxProfile profile = buildFirefoxProfile();
         DesiredCapabilities capabilities = DesiredCapabilities.firefox();
-        capabilities.setCapability(FirefoxDriver.PROFILE, profile);
+        capabilities.setCapability(FirefoxDriver.PROFILE, firefoxProfileCapability());
         return webdriverInstanceFactory.newFirefoxDriver(enhancedCapabilities(capabilities));
     }
 
@@ -645,6 +646,34 @@ public class WebDriverFactory {
         return new FirefoxProfile(profileDirectory);
     }
 
+    /**
+     * The Firefox profile to send to the driver. Profiles built from the standard configuration are encoded once
+     * and reused for every browser; a profile provided through Thucydides.useFirefoxProfile() is used as it is.
+     */
+    private Object firefoxProfileCapability() {
+        if (Thucydides.getFirefoxProfile() != null) {
+            return buildFirefoxProfile();
+        }
+        return FirefoxProfileTemplates.profileCapabilityFor(firefoxProfileConfigurationKey(),
+                new FirefoxProfileTemplates.ProfileBuilder() {
+                    public FirefoxProfile buildProfile() {
+                        return buildFirefoxProfile();
+                    }
+                });
+    }
+
+    private String firefoxProfileConfigurationKey() {
+        return Joiner.on("|").useForNull("").join(getClass().getName(),
+                ThucydidesSystemProperty.FIREFOX_PROFILE.from(environmentVariables),
+                shouldEnableNativeEvents(),
+                getProxyUrlFromEnvironmentVariables(),
+                getProxyPortFromEnvironmentVariables(),
+                firefoxProfileEnhancer.shouldActivateFirebugs(),
+                refuseUntrustedCertificates(),
+                environmentVariables.getProperty(ThucydidesSystemProperty.SECURITY_ENABLE_JAVA),
+                environmentVariables.getProperty(ThucydidesSystemProperty.FIREFOX_PREFERENCES));
+    }
+
     protected FirefoxProfile buildFirefoxProfile() {
         String profileName = ThucydidesSystemProperty.FIREFOX_PROFILE.from(environmentVariables);
         FilePathParser parser = new FilePathParser(environmentVariables);
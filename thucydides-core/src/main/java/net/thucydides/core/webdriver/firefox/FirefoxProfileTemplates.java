@@ -0,0 +1,62 @@
+package net.thucydides.core.webdriver.firefox;
+
+import org.openqa.selenium.firefox.FirefoxProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the encoded form of each Firefox profile built during a test run, keyed by the configuration used to build it.
+ * Building a profile (and in particular adding extensions) and zipping it up for the driver is slow, and the result
+ * is the same every time for a given configuration, so it only needs to be done once per JVM.
+ * The encoded profile can be passed straight to local or remote Firefox drivers as the "firefox_profile" capability.
+ */
+public class FirefoxProfileTemplates {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FirefoxProfileTemplates.class);
+
+    private static final ConcurrentMap<String, String> ENCODED_PROFILES = new ConcurrentHashMap<String, String>();
+
+    public interface ProfileBuilder {
+        FirefoxProfile buildProfile();
+    }
+
+    private FirefoxProfileTemplates() {}
+
+    /**
+     * The value to use for the Firefox profile capability: the encoded profile for this configuration if one can be built,
+     * or a newly-built profile otherwise.
+     */
+    public static Object profileCapabilityFor(String configurationKey, ProfileBuilder profileBuilder) {
+        String encodedProfile = ENCODED_PROFILES.get(configurationKey);
+        if (encodedProfile != null) {
+            return encodedProfile;
+        }
+        FirefoxProfile profile = profileBuilder.buildProfile();
+        encodedProfile = encoded(profile);
+        if (encodedProfile == null) {
+            return profile;
+        }
+        String existingProfile = ENCODED_PROFILES.putIfAbsent(configurationKey, encodedProfile);
+        return (existingProfile != null) ? existingProfile : encodedProfile;
+    }
+
+    public static void clear() {
+        ENCODED_PROFILES.clear();
+    }
+
+    private static String encoded(FirefoxProfile profile) {
+        try {
+            return profile.toJson();
+        } catch (IOException e) {
+            LOGGER.debug("Could not encode the Firefox profile, so it will be built for each browser: {}", e.getMessage());
+            return null;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not encode the Firefox profile, so it will be built for each browser: {}", e.getMessage());
+            return null;
+        }
+    }
+}
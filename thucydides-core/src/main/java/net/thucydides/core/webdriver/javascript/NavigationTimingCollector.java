@@ -0,0 +1,121 @@
+package net.thucydides.core.webdriver.javascript;
+
+import com.google.common.base.Optional;
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.model.PageTiming;
+import net.thucydides.core.pages.PageUrls;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Reads the Navigation Timing figures for the page that was just loaded and records them against the current step.
+ * The figures are fetched in a single script call, using the Navigation Timing Level 2 entries where the browser
+ * supports them and the older window.performance.timing object otherwise.
+ * Page objects can say which URL template they were opening, so that visits to the same page with different
+ * parameters are grouped together; otherwise the URL pattern is guessed from the URL itself.
+ */
+public class NavigationTimingCollector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NavigationTimingCollector.class);
+
+    private static final String NAVIGATION_TIMING_SCRIPT =
+            "var p = window.performance; if (!p) { return null; }"
+          + "var n = (p.getEntriesByType) ? p.getEntriesByType('navigation')[0] : null;"
+          + "if (n) { return [document.location.href, n.redirectEnd - n.redirectStart,"
+          + "  n.domainLookupEnd - n.domainLookupStart, n.connectEnd - n.connectStart,"
+          + "  n.responseStart, n.domInteractive, n.domContentLoadedEventEnd, n.loadEventEnd]; }"
+          + "var t = p.timing; if (!t) { return null; } var s = t.navigationStart;"
+          + "return [document.location.href, t.redirectEnd - t.redirectStart,"
+          + "  t.domainLookupEnd - t.domainLookupStart, t.connectEnd - t.connectStart,"
+          + "  t.responseStart - s, t.domInteractive - s, t.domContentLoadedEventEnd - s, t.loadEventEnd - s];";
+
+    private static final int FIELD_COUNT = 8;
+
+    private static final ThreadLocal<String> EXPECTED_URL_PATTERN = new ThreadLocal<String>();
+
+    private final EnvironmentVariables environmentVariables;
+
+    public NavigationTimingCollector(EnvironmentVariables environmentVariables) {
+        this.environmentVariables = environmentVariables;
+    }
+
+    /**
+     * Record the URL template of the next page to be opened in this thread.
+     */
+    public static void expectPageMatching(final String urlPattern) {
+        EXPECTED_URL_PATTERN.set(urlPattern);
+    }
+
+    /**
+     * Forget the URL template recorded for this thread, once the page has been opened (or failed to open).
+     */
+    public static void clearExpectedPage() {
+        EXPECTED_URL_PATTERN.remove();
+    }
+
+    public boolean isEnabled() {
+        return environmentVariables.getPropertyAsBoolean(ThucydidesSystemProperty.THUCYDIDES_RECORD_NAVIGATION_TIMING, false);
+    }
+
+    /**
+     * Record the timings of the page currently displayed in the browser against the current step.
+     */
+    public void recordPageTimingFor(final WebDriver driver) {
+        String expectedUrlPattern = EXPECTED_URL_PATTERN.get();
+        EXPECTED_URL_PATTERN.remove();
+        if (!isEnabled()) {
+            return;
+        }
+        Optional<PageTiming> pageTiming = collectFrom(driver, expectedUrlPattern);
+        if (pageTiming.isPresent()) {
+            StepEventBus.getEventBus().recordPageTiming(pageTiming.get());
+        }
+    }
+
+    public Optional<PageTiming> collectFrom(final WebDriver driver, final String expectedUrlPattern) {
+        try {
+            Object timings = new JavascriptExecutorFacade(driver).executeScript(NAVIGATION_TIMING_SCRIPT);
+            return pageTimingFrom(timings, expectedUrlPattern);
+        } catch (WebDriverException e) {
+            LOGGER.warn("Could not read the navigation timings for this page: " + e.getMessage());
+            return Optional.absent();
+        }
+    }
+
+    static Optional<PageTiming> pageTimingFrom(final Object timings, final String expectedUrlPattern) {
+        if (!(timings instanceof List) || ((List) timings).size() < FIELD_COUNT) {
+            return Optional.absent();
+        }
+        List values = (List) timings;
+        String url = String.valueOf(values.get(0));
+        if (url.startsWith("about:") || url.startsWith("data:")) {
+            return Optional.absent();
+        }
+        String urlPattern = (expectedUrlPattern != null) ? expectedUrlPattern : PageUrls.urlPatternFor(url);
+        return Optional.of(new PageTiming(url, urlPattern,
+                                          millisecondsIn(values.get(1)),
+                                          millisecondsIn(values.get(2)),
+                                          millisecondsIn(values.get(3)),
+                                          millisecondsIn(values.get(4)),
+                                          millisecondsIn(values.get(5)),
+                                          millisecondsIn(values.get(6)),
+                                          millisecondsIn(values.get(7))));
+    }
+
+    /**
+     * Timings for events that have not happened yet (e.g. a page that is still loading) come back as negative
+     * offsets from the start of the navigation, so they are recorded as zero.
+     */
+    private static long millisecondsIn(final Object value) {
+        if (value instanceof Number) {
+            return Math.max(0, Math.round(((Number) value).doubleValue()));
+        }
+        return 0;
+    }
+}
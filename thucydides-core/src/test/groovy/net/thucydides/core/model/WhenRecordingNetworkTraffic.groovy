@@ -0,0 +1,87 @@
+package net.thucydides.core.model
+
+import com.google.common.io.Files
+import net.thucydides.core.reports.TestOutcomes
+import net.thucydides.core.reports.html.PageLoadCosts
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter
+import spock.lang.Specification
+
+import static net.thucydides.core.model.NetworkTraffic.ResourceTiming
+
+class WhenRecordingNetworkTraffic extends Specification {
+
+    def homePage = new NetworkTraffic("http://localhost/home", 10, 20000, 1200,
+                                      [new ResourceTiming("http://localhost/app.js", 800, 15000),
+                                       new ResourceTiming("http://localhost/home", 300, 5000)])
+    def searchPage = new NetworkTraffic("http://localhost/search", 4, 3000, 200,
+                                        [new ResourceTiming("http://localhost/search", 150, 3000)])
+
+    def "should combine the traffic of several steps"() {
+        when:
+            def traffic = homePage.plus(searchPage)
+        then:
+            traffic.pageUrl == "http://localhost/home"
+            traffic.requestCount == 14
+            traffic.totalBytes == 23000
+            traffic.loadTime == 1400
+            traffic.slowestResources.collect { it.time } == [800, 300, 150]
+    }
+
+    def "should only keep the slowest resources"() {
+        given:
+            def resources = (1..10).collect { new ResourceTiming("http://localhost/${it}.png", it * 10, 100) }
+        when:
+            def traffic = new NetworkTraffic("http://localhost", 10, 1000, 100, resources)
+        then:
+            traffic.slowestResources.collect { it.time } == [100, 90, 80, 70, 60]
+    }
+
+    def "should total the network traffic of the steps in a test outcome"() {
+        given:
+            def outcome = outcomeVisiting(homePage, searchPage)
+        expect:
+            outcome.hasNetworkTraffic()
+            outcome.networkTraffic.requestCount == 14
+    }
+
+    def "should rank the pages visited by their average load time"() {
+        given:
+            def outcomes = TestOutcomes.of([outcomeVisiting(searchPage, homePage), outcomeVisiting(homePage)])
+        when:
+            def rankedPages = PageLoadCosts.in(outcomes).rankedPages
+        then:
+            rankedPages.collect { it.page } == ["http://localhost/home", "http://localhost/search"]
+            rankedPages[0].visits == 2
+            rankedPages[0].averageLoadTime == 1200
+    }
+
+    def "should store the network traffic and budget violations in the XML reports"() {
+        given:
+            def outputDirectory = Files.createTempDir()
+            def reporter = new XMLTestOutcomeReporter()
+            reporter.outputDirectory = outputDirectory
+            def outcome = outcomeVisiting(homePage.withBudgetViolations(["Made 10 requests (budget: 5)"]))
+        when:
+            def xmlReport = reporter.generateReportFor(outcome, TestOutcomes.of([outcome]))
+            def reloadedStep = reporter.loadReportFrom(xmlReport).get().testSteps[0]
+        then:
+            reloadedStep.networkTraffic.pageUrl == "http://localhost/home"
+            reloadedStep.networkTraffic.requestCount == 10
+            reloadedStep.networkTraffic.totalBytes == 20000
+            reloadedStep.networkTraffic.loadTime == 1200
+            reloadedStep.networkTraffic.slowestResources.collect { it.url } == ["http://localhost/app.js", "http://localhost/home"]
+            reloadedStep.networkTraffic.budgetViolations == ["Made 10 requests (budget: 5)"]
+        cleanup:
+            outputDirectory.deleteDir()
+    }
+
+    def outcomeVisiting(NetworkTraffic... pages) {
+        def outcome = new TestOutcome("a_test")
+        pages.each { traffic ->
+            def step = TestStep.forStepCalled("visit ${traffic.pageUrl}").withResult(TestResult.SUCCESS)
+            step.networkTraffic = traffic
+            outcome.recordStep(step)
+        }
+        return outcome
+    }
+}
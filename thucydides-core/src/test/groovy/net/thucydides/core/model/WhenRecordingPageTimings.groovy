@@ -0,0 +1,108 @@
+package net.thucydides.core.model
+
+import com.google.common.io.Files
+import net.thucydides.core.pages.PageUrls
+import net.thucydides.core.reports.TestOutcomes
+import net.thucydides.core.reports.history.TestHistory
+import net.thucydides.core.reports.html.PagePerformance
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter
+import net.thucydides.core.util.MockEnvironmentVariables
+import net.thucydides.core.webdriver.javascript.NavigationTimingCollector
+import spock.lang.Specification
+
+class WhenRecordingPageTimings extends Specification {
+
+    def "should group URLs with different parameters under the same pattern"() {
+        expect:
+            PageUrls.urlPatternFor(url) == pattern
+        where:
+            url                                          | pattern
+            "http://localhost/home"                      | "http://localhost/home"
+            "http://localhost/orders/123"                | "http://localhost/orders/{id}"
+            "http://localhost/orders/123/items/4?page=2" | "http://localhost/orders/{id}/items/{id}"
+            "http://localhost/search?q=thucydides#top"   | "http://localhost/search"
+    }
+
+    def "should read the timings returned by the browser"() {
+        when:
+            def pageTiming = NavigationTimingCollector.pageTimingFrom(["http://localhost/orders/1", 0, 5, 10, 120.6, 300, 350, -1], null).get()
+        then:
+            pageTiming.urlPattern == "http://localhost/orders/{id}"
+            pageTiming.timeToFirstByte == 121
+            pageTiming.domContentLoaded == 350
+            pageTiming.pageLoad == 0
+    }
+
+    def "should prefer the URL template of the page object that was opened"() {
+        when:
+            def pageTiming = NavigationTimingCollector.pageTimingFrom(["http://localhost/search?q=a", 0, 0, 0, 10, 20, 30, 40],
+                                                                      "http://localhost/search?q={1}").get()
+        then:
+            pageTiming.urlPattern == "http://localhost/search?q={1}"
+    }
+
+    def "should ignore blank pages and browsers that do not support navigation timing"() {
+        expect:
+            !NavigationTimingCollector.pageTimingFrom(timings, null).isPresent()
+        where:
+            timings << [null, "unsupported", ["about:blank", 0, 0, 0, 0, 0, 0, 0]]
+    }
+
+    def "should summarise the page load times of each page with percentiles"() {
+        given:
+            def outcomes = TestOutcomes.of([outcomeVisiting("http://localhost/home", (1..10).collect { it * 100 }),
+                                            outcomeVisiting("http://localhost/search", [50, 60])])
+        when:
+            def pages = PagePerformance.in(outcomes).pages
+        then:
+            pages.collect { it.urlPattern } == ["http://localhost/home", "http://localhost/search"]
+            pages[0].visits == 10
+            pages[0].medianPageLoad == 500
+            pages[0].getPageLoadPercentile(90) == 900
+            pages[0].getPageLoadPercentile(95) == 1000
+    }
+
+    def "should show how the median page load time changes across builds"() {
+        given:
+            def historyDirectory = Files.createTempDir()
+            def history = new TestHistory("project", new MockEnvironmentVariables(), historyDirectory)
+        when:
+            history.updatePagePerformanceHistory(["http://localhost/home": 800L])
+            Thread.sleep(5)
+            history.updatePagePerformanceHistory(["http://localhost/home": 600L, "http://localhost/search": 100L])
+        then:
+            PagePerformance.trendFor("http://localhost/home", history.pagePerformanceHistory) == [800L, 600L]
+            PagePerformance.trendFor("http://localhost/search", history.pagePerformanceHistory) == [100L]
+        cleanup:
+            historyDirectory.deleteDir()
+    }
+
+    def "should store the page timings in the XML reports"() {
+        given:
+            def outputDirectory = Files.createTempDir()
+            def reporter = new XMLTestOutcomeReporter()
+            reporter.outputDirectory = outputDirectory
+            def outcome = outcomeVisiting("http://localhost/home", [1200])
+        when:
+            def xmlReport = reporter.generateReportFor(outcome, TestOutcomes.of([outcome]))
+            def reloadedTiming = reporter.loadReportFrom(xmlReport).get().testSteps[0].pageTimings[0]
+        then:
+            reloadedTiming.url == "http://localhost/home"
+            reloadedTiming.urlPattern == "http://localhost/home"
+            reloadedTiming.timeToFirstByte == 100
+            reloadedTiming.domContentLoaded == 800
+            reloadedTiming.pageLoad == 1200
+        cleanup:
+            outputDirectory.deleteDir()
+    }
+
+    def outcomeVisiting(String url, List<Integer> pageLoadTimes) {
+        def outcome = new TestOutcome("a_test")
+        pageLoadTimes.each { pageLoad ->
+            def step = TestStep.forStepCalled("open ${url}").withResult(TestResult.SUCCESS)
+            step.recordPageTiming(new PageTiming(url, PageUrls.urlPatternFor(url), 0, 0, 0, 100, 700, 800, pageLoad))
+            outcome.recordStep(step)
+        }
+        return outcome
+    }
+}
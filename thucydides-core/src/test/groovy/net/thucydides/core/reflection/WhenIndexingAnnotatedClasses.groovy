@@ -0,0 +1,103 @@
+package net.thucydides.core.reflection
+
+import com.github.goldin.spock.extensions.tempdir.TempDir
+import net.thucydides.core.reflection.sampleclasses.SomeTestClass
+import org.junit.runner.RunWith
+import spock.lang.Specification
+
+class WhenIndexingAnnotatedClasses extends Specification {
+
+    @TempDir File temporaryDirectory
+
+    def classLoader = Thread.currentThread().contextClassLoader
+
+    def "should read the class annotations from the class file"() {
+        given:
+            def classFile = classLoader.getResourceAsStream("net/thucydides/core/reflection/sampleclasses/SomeTestClass.class")
+        when:
+            def summary = ClassFileSummary.readFrom(classFile)
+        then:
+            summary.className == SomeTestClass.name
+            summary.isAnnotatedWith(RunWith)
+    }
+
+    def "should find annotated classes without loading them"() {
+        given:
+            def index = new AnnotationIndex(new File(temporaryDirectory, "index.ser"))
+        when:
+            def classes = index.classesAnnotatedWith(RunWith, "net.thucydides.core.reflection.sampleclasses", classLoader)
+        then:
+            classes == [SomeTestClass.name]
+    }
+
+    def "should not load or initialise the classes it indexes"() {
+        given:
+            def index = new AnnotationIndex(new File(temporaryDirectory, "index.ser"))
+            def loadedClasses = []
+            def recordingClassLoader = new ClassLoader(classLoader) {
+                @Override
+                protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                    loadedClasses << name
+                    return super.loadClass(name, resolve)
+                }
+            }
+        when:
+            def classes = index.classesAnnotatedWith(RunWith, "net.thucydides.core.reflection.uninitialisedclasses",
+                                                     recordingClassLoader)
+        then:
+            classes == ["net.thucydides.core.reflection.uninitialisedclasses.TestClassThatFailsToInitialise"]
+            !loadedClasses.any { it.startsWith("net.thucydides.core.reflection.uninitialisedclasses") }
+    }
+
+    def "should reuse a previously saved index"() {
+        given:
+            def indexFile = new File(temporaryDirectory, "index.ser")
+            new AnnotationIndex(indexFile).classesAnnotatedWith(RunWith, "net.thucydides.core.reflection.sampleclasses", classLoader)
+        when:
+            def classes = new AnnotationIndex(indexFile).classesAnnotatedWith(RunWith, "net.thucydides.core.reflection.sampleclasses", classLoader)
+        then:
+            indexFile.exists()
+            classes == [SomeTestClass.name]
+    }
+
+    def "should find annotated classes in a dependency"() {
+        given:
+            def index = new AnnotationIndex(new File(temporaryDirectory, "index.ser"))
+        when:
+            def classes = index.classesAnnotatedWith(RunWith, "net.thucydides.sampletests", classLoader)
+        then:
+            classes == ["net.thucydides.sampletests.SomeTest"]
+    }
+
+    def "should only keep the index in memory unless an index file is configured"() {
+        expect:
+            AnnotationIndex.defaultIndexFile() == null
+    }
+
+    def "should save the index without leaving temporary files behind"() {
+        given:
+            def indexDirectory = new File(temporaryDirectory, "index")
+            def index = new AnnotationIndex(new File(indexDirectory, "index.ser"))
+        when:
+            index.classesAnnotatedWith(RunWith, "net.thucydides.core.reflection.sampleclasses", classLoader)
+        then:
+            indexDirectory.list() as List == ["index.ser"]
+    }
+
+    def "should drop the classes that no longer exist when the index is saved"() {
+        given:
+            def indexFile = new File(temporaryDirectory, "index.ser")
+            def classDirectory = new File(temporaryDirectory, "classes/net/thucydides/core/reflection/sampleclasses")
+            classDirectory.mkdirs()
+            def copiedClassFile = new File(classDirectory, "SomeTestClass.class")
+            copiedClassFile.bytes = classLoader.getResourceAsStream("net/thucydides/core/reflection/sampleclasses/SomeTestClass.class").bytes
+            def copiedClassLoader = new URLClassLoader([new File(temporaryDirectory, "classes").toURI().toURL()] as URL[], (ClassLoader) null)
+            new AnnotationIndex(indexFile).classesAnnotatedWith(RunWith, "net.thucydides.core.reflection.sampleclasses", copiedClassLoader)
+        when:
+            copiedClassFile.delete()
+            def index = new AnnotationIndex(indexFile)
+            index.classesAnnotatedWith(RunWith, "net.thucydides.core.reflection.sampleclasses", classLoader)
+        then:
+            !index.locations.containsKey(copiedClassFile.absolutePath)
+    }
+}
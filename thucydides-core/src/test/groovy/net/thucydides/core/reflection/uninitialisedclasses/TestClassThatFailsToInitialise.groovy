@@ -0,0 +1,16 @@
+package net.thucydides.core.reflection.uninitialisedclasses
+
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+
+/**
+ * Fails as soon as it is initialised, to show that the annotation index finds it without loading it.
+ */
+@RunWith(Parameterized)
+class TestClassThatFailsToInitialise {
+    static {
+        if (true) {
+            throw new IllegalStateException("This class should not be initialised")
+        }
+    }
+}
@@ -41,4 +41,30 @@ class WhenManagingTestResultTags extends Specification {
             testOutcomes.firstClassTagTypes == ['color','flavor']
     }
 
-}
\ No newline at end of file
+    def "should only work out the tags of a test outcome once"() {
+        when:
+            def tags = testOutcomes.tests[0].tags
+        then:
+            testOutcomes.tests[0].tags.is(tags)
+    }
+
+    def "should share a single instance of equal tags"() {
+        expect:
+            TestTag.withName("chocolate").andType("flavor").is(TestTag.withName("chocolate").andType("flavor"))
+    }
+
+    def "should resolve the tags of all the test outcomes in parallel"() {
+        given:
+            def tagsResolvedOneAtATime = new TestOutcomesBuilder().defaultResults.tests.collect { it.tags }
+            def storyTag = TestTag.withName("purchase new widget").andType("story")
+        when:
+            new TestOutcomeTagResolver(4).resolveTagsFor(testOutcomes.tests)
+            def resolvedTags = testOutcomes.tests.collect { it.tags }
+        then:
+            resolvedTags == tagsResolvedOneAtATime
+            resolvedTags.every { it.contains(storyTag) }
+        and: "later calls should return the tags that were resolved"
+            [testOutcomes.tests, resolvedTags].transpose().every { outcome, tags -> outcome.tags.is(tags) }
+    }
+
+}
@@ -57,4 +57,43 @@ class WhenConvertingXUnitResultsToThucydidesReports extends Specification {
             generatedHtmlFiles().size() == 4
     }
 
-}
\ No newline at end of file
+    def "should only generate the requested report formats"() {
+        given:
+            def xunitFileDirectory = fileInClasspathCalled("/xunit-sample-output")
+            def xunitReporter = new TestOutcomeAdaptorReporter()
+            xunitReporter.setOutputDirectory(temporaryDirectory);
+            xunitReporter.setFormats("xml")
+        and:
+            xunitReporter.registerAdaptor(new DefaultXUnitAdaptor())
+        when:
+            xunitReporter.generateReportsFrom(xunitFileDirectory)
+        then:
+            generatedXmlFiles().size() == 3
+            generatedHtmlFiles().size() == 0
+    }
+
+    def "should generate the same reports using a single thread"() {
+        given:
+            def xunitFileDirectory = fileInClasspathCalled("/xunit-sample-output")
+            def xunitReporter = new TestOutcomeAdaptorReporter()
+            xunitReporter.setOutputDirectory(temporaryDirectory);
+            xunitReporter.setThreadCount(1)
+        and:
+            xunitReporter.registerAdaptor(new DefaultXUnitAdaptor())
+        when:
+            xunitReporter.generateReportsFrom(xunitFileDirectory)
+        then:
+            generatedXmlFiles().size() == 3
+            generatedHtmlFiles().size() == 3
+    }
+
+    def "should reject unknown report formats"() {
+        given:
+            def xunitReporter = new TestOutcomeAdaptorReporter()
+        when:
+            xunitReporter.setFormats("xml,pdf")
+        then:
+            thrown(IllegalArgumentException)
+    }
+
+}
@@ -0,0 +1,79 @@
+package net.thucydides.core.reports.adaptors.xunit
+
+import net.thucydides.core.reports.adaptors.xunit.model.TestCase
+import net.thucydides.core.reports.adaptors.xunit.model.TestSuite
+import spock.lang.Specification
+
+import static net.thucydides.core.util.TestResources.fileInClasspathCalled
+
+/**
+ * Large xUnit files are read with a StAX parser, one test case at a time.
+ */
+class WhenStreamingAnXUnitFile extends Specification {
+
+    def "should load an xUnit file as a TestSuite"() {
+        given:
+            def xunitFileSource = fileInClasspathCalled("/xunit/singleTestCase.xml")
+            def xunitLoader = new StreamingXUnitLoader()
+        when:
+            TestSuite testSuite = xunitLoader.loadFrom(xunitFileSource)[0]
+        then:
+            testSuite.name == "aTestSuite"
+            testSuite.testCases.size() == 1
+            testSuite.testCases[0].classname == "SomeTestClass"
+            testSuite.testCases[0].name == "should_do_something"
+            testSuite.testCases[0].time == 1.0
+    }
+
+    def "should notify the handler of each test case as it is read"() {
+        given:
+            def xunitFileSource = fileInClasspathCalled("/xunit/multipleTestCases.xml")
+            def xunitLoader = new StreamingXUnitLoader()
+            def loadedTestCases = []
+            def finishedSuites = []
+            def handler = [testSuiteStarted : { TestSuite suite -> },
+                           testCaseLoaded : { TestSuite suite, TestCase testCase -> loadedTestCases << testCase },
+                           testSuiteFinished : { TestSuite suite -> finishedSuites << suite.name }] as XUnitStreamHandler
+        when:
+            xunitLoader.streamFrom(xunitFileSource, handler)
+        then:
+            loadedTestCases.size() == 2
+            finishedSuites == ["aTestSuite"]
+    }
+
+    def "should read failures, errors and skipped tests"() {
+        given:
+            def xunitLoader = new StreamingXUnitLoader()
+        when:
+            def failingTestCase = xunitLoader.loadFrom(fileInClasspathCalled("/xunit/failingTestCase.xml"))[0].testCases[0]
+            def errorTestCase = xunitLoader.loadFrom(fileInClasspathCalled("/xunit/errorTestCase.xml"))[0].testCases[0]
+            def skippedTestCase = xunitLoader.loadFrom(fileInClasspathCalled("/xunit/skippedTestCase.xml"))[0].testCases[0]
+        then:
+            failingTestCase.failure.get().message == "Something went wrong"
+            failingTestCase.failure.get().errorOutput == "All broken"
+        and:
+            errorTestCase.error.get().message == "Something exploded"
+            errorTestCase.error.get().type == "error"
+        and:
+            skippedTestCase.skipped.get().type == "UndefinedStep"
+    }
+
+    def "should throw CouldNotReadXUnitFileException if file has no test suites"() {
+        given:
+            def xunitFileSource = fileInClasspathCalled("/xunit/badlyFormedTestCase.xml")
+            def xunitLoader = new StreamingXUnitLoader()
+        when:
+            xunitLoader.loadFrom(xunitFileSource)
+        then:
+            thrown(CouldNotReadXUnitFileException)
+    }
+
+    def "should throw CouldNotReadXUnitFileException if file can't be found"() {
+        given:
+            def xunitLoader = new StreamingXUnitLoader()
+        when:
+            xunitLoader.loadFrom(new File("does-not-exist.xml"))
+        then:
+            thrown(CouldNotReadXUnitFileException)
+    }
+}
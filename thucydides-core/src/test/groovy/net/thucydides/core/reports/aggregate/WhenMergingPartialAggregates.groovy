@@ -0,0 +1,86 @@
+package net.thucydides.core.reports.aggregate
+
+import com.google.common.io.Files
+import net.thucydides.core.model.TestResult
+import net.thucydides.core.model.TestTag
+import net.thucydides.core.reports.TestOutcomes
+import net.thucydides.core.reports.TestOutcomesBuilder
+import spock.lang.Specification
+
+class WhenMergingPartialAggregates extends Specification {
+
+    def firstShard = new TestOutcomesBuilder().defaultResults
+    def secondShard = new TestOutcomesBuilder().defaultResults
+    def allOutcomes = TestOutcomes.of(firstShard.outcomes + secondShard.outcomes)
+
+    def "should summarise the outcomes of several shards as if they had been run together"() {
+        when:
+            def merged = PartialAggregate.merge([PartialAggregate.from("node-1", firstShard),
+                                                 PartialAggregate.from("node-2", secondShard)])
+        then:
+            merged.shards == ["node-1", "node-2"]
+            merged.total == allOutcomes.total
+            merged.totalTestScenarios == allOutcomes.totalTestScenarios
+            merged.stepCount == allOutcomes.stepCount
+            merged.duration == allOutcomes.duration
+            merged.result == allOutcomes.result
+            TestResult.values().every { merged.totalTests.withResult(it) == allOutcomes.totalTests.withResult(it) }
+            merged.outcomes.size() == 24
+            merged.outcomes.collect { it.shard }.unique() == ["node-1", "node-2"]
+    }
+
+    def "should count the tests for each tag and requirement"() {
+        given:
+            def storyTag = TestTag.withName("purchase new widget").andType("story")
+        when:
+            def merged = PartialAggregate.merge([PartialAggregate.from("node-1", firstShard),
+                                                 PartialAggregate.from("node-2", secondShard)])
+        then:
+            merged.tagTypes == ["feature", "story"]
+            merged.getTagsOfType("story") == ["purchase new widget"]
+            merged.withTag(storyTag).total == allOutcomes.withTag(storyTag).total
+            merged.withTag(storyTag).withFailureOrError() == allOutcomes.withTag(storyTag).totalTests.withFailureOrError()
+            merged.requirementCounts.keySet() == ["feature:widget feature", "story:purchase new widget"] as Set
+    }
+
+    def "should merge the partial aggregates written by each shard"() {
+        given:
+            def shardResults = Files.createTempDir()
+            PartialAggregates.writePartialAggregateTo(new File(shardResults, "node-1"), PartialAggregate.from("node-1", firstShard))
+            PartialAggregates.writePartialAggregateTo(new File(shardResults, "node-2"), PartialAggregate.from("node-2", secondShard))
+        when:
+            def merged = PartialAggregates.mergeFrom(shardResults)
+        then:
+            merged.shards == ["node-1", "node-2"]
+            merged.total == allOutcomes.total
+            merged.totalTests.withResult(TestResult.FAILURE) == allOutcomes.totalTests.withResult(TestResult.FAILURE)
+        cleanup:
+            shardResults.deleteDir()
+    }
+
+    def "should read back the merged aggregate written by the merge step"() {
+        given:
+            def summaryDirectory = Files.createTempDir()
+            def merged = PartialAggregate.merge([PartialAggregate.from("node-1", firstShard),
+                                                 PartialAggregate.from("node-2", secondShard)])
+            PartialAggregates.writeMergedAggregateTo(summaryDirectory, merged)
+        when:
+            def summary = PartialAggregates.readMergedAggregateFrom(summaryDirectory)
+        then:
+            summary.present
+            summary.get().shards == ["node-1", "node-2"]
+            summary.get().total == allOutcomes.total
+            summary.get().result == allOutcomes.result
+        cleanup:
+            summaryDirectory.deleteDir()
+    }
+
+    def "should not find a merged aggregate in a directory where the merge step has not run"() {
+        given:
+            def emptyDirectory = Files.createTempDir()
+        expect:
+            !PartialAggregates.readMergedAggregateFrom(emptyDirectory).present
+        cleanup:
+            emptyDirectory.deleteDir()
+    }
+}
@@ -70,6 +70,23 @@ class WhenSavingTestOutcomesInCSVForm extends Specification {
             linesIn(csvResults)[1][1] == "Другой приемлемый" || linesIn(csvResults)[1][1] == "Применимый тестовый запуск" || linesIn(csvResults)[1][1] == "Третий приемлемый"
     }
 
+    def "should write the same rows as individual reports when writing several views at once"() {
+        given: "a set of test results"
+            def testOutcomes = TestOutcomes.of(loader.loadFrom(directoryInClasspathCalled("/tagged-test-outcomes")))
+        and: "a few different views of these results"
+            def csvReports = new MultiViewCSVReporter(temporaryDirectory, environmentVariables, 1)
+            csvReports.addView(testOutcomes, "all.csv")
+            csvReports.addView(testOutcomes.passingTests, "passing.csv")
+            csvReports.addView(TestOutcomes.withNoResults(), "none.csv")
+        when: "we store all of the views"
+            csvReports.generateReports()
+        then: "each view should contain the same rows as a single report would"
+            def csvReporter = new CSVReporter(temporaryDirectory, environmentVariables)
+            linesIn(new File(temporaryDirectory, "all.csv")) == linesIn(csvReporter.generateReportFor(testOutcomes, "expected-all.csv"))
+            linesIn(new File(temporaryDirectory, "passing.csv")) == linesIn(csvReporter.generateReportFor(testOutcomes.passingTests, "expected-passing.csv"))
+            linesIn(new File(temporaryDirectory, "none.csv")).size() == 1
+    }
+
     def linesIn(File csvResults) {
         def reader = new CSVReader(new java.io.InputStreamReader(new java.io.FileInputStream(csvResults), "windows-1251"))
         reader.readAll()
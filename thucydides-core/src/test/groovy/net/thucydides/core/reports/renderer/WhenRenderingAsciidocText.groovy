@@ -1,7 +1,11 @@
 package net.thucydides.core.reports.renderer
 
+import net.thucydides.core.util.MockEnvironmentVariables
 import spock.lang.Specification
 
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
 class WhenRenderingAsciidocText extends Specification {
 
     def "should render asciidoc as HTML"() {
@@ -12,4 +16,23 @@ class WhenRenderingAsciidocText extends Specification {
         then:
             renderedText == "some <strong>bold</strong> text"
     }
+
+    def "should render text from several threads using a pool of renderers"() {
+        given:
+            def environmentVariables = new MockEnvironmentVariables()
+            environmentVariables.setProperty("thucydides.asciidoc.renderers", "2")
+            def markupRenderer = new AsciidocMarkupRenderer(environmentVariables)
+            markupRenderer.warmUp()
+            def executor = Executors.newFixedThreadPool(4)
+        when:
+            def renderedTexts = (1..8).collect { number ->
+                executor.submit({ markupRenderer.render("text number *${number % 4}*") } as Callable)
+            }.collect { it.get() }
+        then:
+            renderedTexts[0] == "text number <strong>1</strong>"
+            renderedTexts[4] == "text number <strong>1</strong>"
+            renderedTexts.toSet().size() == 4
+        cleanup:
+            executor.shutdown()
+    }
 }
@@ -0,0 +1,88 @@
+package net.thucydides.core.requirements
+
+import com.github.goldin.spock.extensions.tempdir.TempDir
+import com.google.common.base.Optional
+import net.thucydides.core.requirements.model.Narrative
+import net.thucydides.core.requirements.model.NarrativeCache
+import spock.lang.Specification
+
+class WhenCachingNarratives extends Specification {
+
+    @TempDir File temporaryDirectory
+
+    def narrative = new Narrative(Optional.of("Grow apples"), Optional.of("#123"), ["1.0"], "capability", "In order to make apple pies")
+
+    def "should return a cached narrative with the requested type"() {
+        given:
+            def narrativeFile = new File(temporaryDirectory, "narrative.txt")
+            narrativeFile.text = "Grow apples"
+            def cache = new NarrativeCache(new File(temporaryDirectory, "cache.json"))
+        when:
+            cache.store(narrativeFile, narrative)
+            def cachedNarrative = cache.narrativeFrom(narrativeFile, "feature")
+        then:
+            cachedNarrative.present
+            cachedNarrative.get().title.get() == "Grow apples"
+            cachedNarrative.get().cardNumber.get() == "#123"
+            cachedNarrative.get().versionNumbers == ["1.0"]
+            cachedNarrative.get().type == "feature"
+    }
+
+    def "should ignore cached narratives for files that have changed"() {
+        given:
+            def narrativeFile = new File(temporaryDirectory, "narrative.txt")
+            narrativeFile.text = "Grow apples"
+            def cache = new NarrativeCache(new File(temporaryDirectory, "cache.json"))
+            cache.store(narrativeFile, narrative)
+        when:
+            narrativeFile.text = "Grow lots and lots of apples"
+        then:
+            !cache.narrativeFrom(narrativeFile, "capability").present
+    }
+
+    def "should reload saved narratives in a new cache"() {
+        given:
+            def narrativeFile = new File(temporaryDirectory, "narrative.txt")
+            narrativeFile.text = "Grow apples"
+            def cacheFile = new File(temporaryDirectory, "cache.json")
+            def cache = new NarrativeCache(cacheFile)
+            cache.store(narrativeFile, narrative)
+        when:
+            cache.saveIfModified()
+            def reloadedNarrative = new NarrativeCache(cacheFile).narrativeFrom(narrativeFile, "capability")
+        then:
+            reloadedNarrative.present
+            reloadedNarrative.get().text == "In order to make apple pies"
+    }
+
+    def "should save the cache without leaving temporary files behind"() {
+        given:
+            def narrativeFile = new File(temporaryDirectory, "narrative.txt")
+            narrativeFile.text = "Grow apples"
+            def cacheDirectory = new File(temporaryDirectory, "cache")
+            def cache = new NarrativeCache(new File(cacheDirectory, "cache.json"))
+            cache.store(narrativeFile, narrative)
+        when:
+            cache.saveIfModified()
+        then:
+            cacheDirectory.list() as List == ["cache.json"]
+    }
+
+    def "should drop the narratives of files that no longer exist when the cache is saved"() {
+        given:
+            def narrativeFile = new File(temporaryDirectory, "narrative.txt")
+            narrativeFile.text = "Grow apples"
+            def deletedNarrativeFile = new File(temporaryDirectory, "deleted-narrative.txt")
+            deletedNarrativeFile.text = "Grow pears"
+            def cacheFile = new File(temporaryDirectory, "cache.json")
+            def cache = new NarrativeCache(cacheFile)
+            cache.store(narrativeFile, narrative)
+            cache.store(deletedNarrativeFile, narrative)
+        when:
+            deletedNarrativeFile.delete()
+            cache.saveIfModified()
+        then:
+            !cacheFile.text.contains("deleted-narrative.txt")
+            cacheFile.text.contains("narrative.txt")
+    }
+}
@@ -0,0 +1,88 @@
+package net.thucydides.core.screenshots
+
+import net.thucydides.core.pages.SystemClock
+import net.thucydides.core.util.MockEnvironmentVariables
+import org.joda.time.DateTime
+import org.openqa.selenium.JavascriptExecutor
+import org.openqa.selenium.WebDriver
+import spock.lang.Specification
+
+class WhenApplyingAScreenshotCapturePolicy extends Specification {
+
+    interface JavascriptEnabledDriver extends WebDriver, JavascriptExecutor {}
+
+    def environmentVariables = new MockEnvironmentVariables()
+    def currentTime = 0L
+    def clock = Stub(SystemClock) {
+        getCurrentTime() >> { new DateTime(currentTime) }
+    }
+    def driver = Mock(JavascriptEnabledDriver)
+
+    def "should allow every screenshot by default"() {
+        given:
+            def policy = new ScreenshotCapturePolicy(environmentVariables, clock)
+        when:
+            def allowed = (1..10).collect { takeOptionalScreenshotIfAllowedBy(policy) }
+        then:
+            allowed.every { it }
+            0 * driver.executeScript(_)
+    }
+
+    def "should stop taking optional screenshots once the budget for a test is spent"() {
+        given:
+            environmentVariables.setProperty("thucydides.screenshot.budget", "3")
+            def policy = new ScreenshotCapturePolicy(environmentVariables, clock)
+        when:
+            def allowed = (1..5).collect { takeOptionalScreenshotIfAllowedBy(policy) }
+        then:
+            allowed == [true, true, true, false, false]
+        when:
+            policy.reset()
+        then:
+            policy.allowsOptionalScreenshotOf(driver)
+    }
+
+    def "should not count mandatory screenshots towards the budget"() {
+        given:
+            environmentVariables.setProperty("thucydides.screenshot.budget", "1")
+            def policy = new ScreenshotCapturePolicy(environmentVariables, clock)
+        when:
+            policy.screenshotTakenOf(driver, false)
+        then:
+            policy.allowsOptionalScreenshotOf(driver)
+    }
+
+    def "should leave a minimum interval between optional screenshots"() {
+        given:
+            environmentVariables.setProperty("thucydides.screenshot.minimum.interval", "500")
+            def policy = new ScreenshotCapturePolicy(environmentVariables, clock)
+        when:
+            takeOptionalScreenshotIfAllowedBy(policy)
+            currentTime = 200
+        then:
+            !policy.allowsOptionalScreenshotOf(driver)
+        when:
+            currentTime = 600
+        then:
+            policy.allowsOptionalScreenshotOf(driver)
+    }
+
+    def "should skip screenshots when the page has not changed"() {
+        given:
+            environmentVariables.setProperty("thucydides.screenshot.skip.unchanged", "true")
+            def policy = new ScreenshotCapturePolicy(environmentVariables, clock)
+            driver.executeScript(_) >>> ["100:1", "100:1", "120:7"]
+        when:
+            def allowed = (1..3).collect { takeOptionalScreenshotIfAllowedBy(policy) }
+        then:
+            allowed == [true, false, true]
+    }
+
+    def takeOptionalScreenshotIfAllowedBy(ScreenshotCapturePolicy policy) {
+        if (policy.allowsOptionalScreenshotOf(driver)) {
+            policy.screenshotTakenOf(driver, true)
+            return true
+        }
+        return false
+    }
+}
@@ -0,0 +1,96 @@
+package net.thucydides.core.steps
+
+import com.google.common.io.Files
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.model.TestResult
+import net.thucydides.core.model.TestStep
+import net.thucydides.core.model.TimingCategory
+import net.thucydides.core.pages.SystemClock
+import net.thucydides.core.reports.TestOutcomes
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter
+import org.joda.time.DateTime
+import spock.lang.Specification
+
+import static net.thucydides.core.model.TimingCategory.*
+
+class WhenBreakingDownStepTimes extends Specification {
+
+    def outputDirectory = Files.createTempDir()
+    def listener = new BaseStepListener(outputDirectory)
+
+    def setup() {
+        StepEventBus.eventBus.registerListener(listener)
+    }
+
+    def cleanup() {
+        StepEventBus.eventBus.dropAllListeners()
+        outputDirectory.deleteDir()
+    }
+
+    def "should record timed activities against the current step"() {
+        given:
+            StepEventBus.eventBus.testStarted("a_test")
+            StepEventBus.eventBus.stepStarted(ExecutedStepDescription.withTitle("a step"))
+        when:
+            StepEventBus.eventBus.recordTime(WAIT, 120)
+            StepEventBus.eventBus.recordTime(WAIT, 30)
+            StepEventBus.eventBus.recordTime(SCREENSHOT, 50)
+            StepEventBus.eventBus.stepFinished()
+        then:
+            def step = listener.testOutcomes[0].testSteps[0]
+            step.getTimeSpentOn(WAIT) == 150
+            step.getTimeSpentOn(SCREENSHOT) == 50
+            step.getTimeSpentOn(PAGE_LOAD) == 0
+    }
+
+    def "should only count the outermost of nested timers"() {
+        given:
+            StepEventBus.eventBus.testStarted("a_test")
+            StepEventBus.eventBus.stepStarted(ExecutedStepDescription.withTitle("a step"))
+        and:
+            def clock = Stub(SystemClock) {
+                getCurrentTime() >>> [new DateTime(1000), new DateTime(1005), new DateTime(1015)]
+            }
+        when:
+            def waitTimer = StepTimer.start(WAIT, clock)
+            def browserTimer = StepTimer.start(BROWSER, clock)
+            browserTimer.stop()
+            waitTimer.stop()
+            StepEventBus.eventBus.stepFinished()
+        then:
+            def step = listener.testOutcomes[0].testSteps[0]
+            step.getTimeSpentOn(WAIT) == 15
+            step.getTimeSpentOn(BROWSER) == 0
+    }
+
+    def "should total the time spent on each activity in a test"() {
+        given:
+            def outcome = new TestOutcome("a_test")
+            outcome.recordStep(stepTaking(1000, [(WAIT): 400L, (SCREENSHOT): 100L]))
+            outcome.recordStep(stepTaking(1000, [(WAIT): 400L]))
+        expect:
+            outcome.getTimeSpentOn(WAIT) == 800
+            outcome.getPercentageOfTimeSpentOn("WAIT") == 40.0
+            outcome.testSteps[0].untimedDuration == 500
+    }
+
+    def "should store the timing breakdown in the XML reports"() {
+        given:
+            def reporter = new XMLTestOutcomeReporter()
+            reporter.outputDirectory = outputDirectory
+            def outcome = new TestOutcome("a_test")
+            outcome.recordStep(stepTaking(1000, [(PAGE_LOAD): 600L, (BROWSER): 150L]))
+        when:
+            def xmlReport = reporter.generateReportFor(outcome, TestOutcomes.of([outcome]))
+            def reloadedStep = reporter.loadReportFrom(xmlReport).get().testSteps[0]
+        then:
+            reloadedStep.timings == [(PAGE_LOAD): 600L, (BROWSER): 150L]
+    }
+
+    def stepTaking(long duration, Map<TimingCategory, Long> timings) {
+        def step = TestStep.forStepCalled("a step").withResult(TestResult.SUCCESS)
+        step.duration = duration
+        timings.each { category, time -> step.recordTime(category, time) }
+        return step
+    }
+}
@@ -0,0 +1,202 @@
+package net.thucydides.core.steps
+
+import net.thucydides.core.model.DataTable
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.model.TestStep
+import net.thucydides.core.screenshots.ScreenshotProcessor
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+
+import static net.thucydides.core.steps.AsynchronousStepListener.OverflowPolicy.BLOCK
+import static net.thucydides.core.model.TestResult.FAILURE
+import static net.thucydides.core.model.TestResult.SUCCESS
+import static net.thucydides.core.steps.AsynchronousStepListener.OverflowPolicy.DROP
+
+class WhenDeliveringStepEventsAsynchronously extends Specification {
+
+    def receivedEvents = Collections.synchronizedList([])
+
+    def recordingListener = Stub(StepListener) {
+        testStarted(_) >> { String name -> receivedEvents << "started ${name}" }
+        stepStarted(_) >> { ExecutedStepDescription description -> receivedEvents << "step ${description.title}" }
+        stepFinished() >> { receivedEvents << "step finished" }
+        testFinished(_) >> { TestOutcome outcome -> receivedEvents << "finished ${outcome.methodName}" }
+    }
+
+    def "should deliver events to the listener in the order they happened"() {
+        given:
+            def listener = new AsynchronousStepListener(recordingListener, 16, BLOCK)
+        when:
+            listener.testStarted("a_test")
+            listener.stepStarted(ExecutedStepDescription.withTitle("a step"))
+            listener.stepFinished()
+            listener.testFinished(new TestOutcome("a_test"))
+            listener.flush()
+        then:
+            receivedEvents == ["started a_test", "step a step", "step finished", "finished a_test"]
+    }
+
+    def "should not make the test thread wait while the listener is busy"() {
+        given:
+            def listenerCanProceed = new CountDownLatch(1)
+            def slowListener = Stub(StepListener) {
+                testStarted(_) >> { listenerCanProceed.await() }
+            }
+            def listener = new AsynchronousStepListener(slowListener, 16, BLOCK)
+        when:
+            listener.testStarted("a_test")
+            listener.stepFinished()
+        then:
+            notThrown(Exception)
+        cleanup:
+            listenerCanProceed.countDown()
+            listener.flush()
+    }
+
+    def "should drop events that do not fit in the buffer when configured to"() {
+        given:
+            def listenerCanProceed = new CountDownLatch(1)
+            def slowListener = Mock(StepListener) {
+                testStarted(_) >> { listenerCanProceed.await() }
+            }
+            def listener = new AsynchronousStepListener(slowListener, 2, DROP)
+        when:
+            listener.testStarted("a_test")
+            Thread.sleep(100)
+            10.times { listener.stepFinished() }
+            listenerCanProceed.countDown()
+            listener.flush()
+        then:
+            2 * slowListener.stepFinished()
+    }
+
+    def "should keep delivering events after the listener fails"() {
+        given:
+            def failingListener = Stub(StepListener) {
+                stepStarted(_) >> { throw new IllegalStateException("Dashboard unavailable") }
+                stepFinished() >> { receivedEvents << "step finished" }
+            }
+            def listener = new AsynchronousStepListener(failingListener, 16, BLOCK)
+        when:
+            listener.stepStarted(ExecutedStepDescription.withTitle("a step"))
+            listener.stepFinished()
+            listener.flush()
+        then:
+            receivedEvents == ["step finished"]
+    }
+
+    def "should pass on the test outcome as it was when the test finished"() {
+        given:
+            def listenerCanProceed = new CountDownLatch(1)
+            def deliveredOutcome = null
+            def slowListener = Stub(StepListener) {
+                testFinished(_) >> { TestOutcome outcome -> listenerCanProceed.await(); deliveredOutcome = outcome }
+            }
+            def listener = new AsynchronousStepListener(slowListener, 16, BLOCK)
+        and:
+            def outcome = new TestOutcome("a_test")
+            def step = new TestStep("a step")
+            step.setResult(SUCCESS)
+            step.addChildStep(new TestStep("a nested step"))
+            outcome.recordStep(step)
+            outcome.useExamplesFrom(DataTable.withHeaders(["name"]).andRows([["Joe"]]).build())
+            outcome.dataTable.row(0).hasResult(SUCCESS)
+        when:
+            listener.testFinished(outcome)
+            step.setDescription("a modified step")
+            step.setResult(FAILURE)
+            step.addChildStep(new TestStep("another nested step"))
+            outcome.recordStep(new TestStep("another step"))
+            outcome.dataTable.row(0).hasResult(FAILURE)
+            listenerCanProceed.countDown()
+            listener.flush()
+        then:
+            deliveredOutcome.testSteps.collect { it.description } == ["a step"]
+            deliveredOutcome.testSteps[0].result == SUCCESS
+            deliveredOutcome.testSteps[0].children.collect { it.description } == ["a nested step"]
+            deliveredOutcome.dataTable.rows[0].result == SUCCESS
+    }
+
+    def "should pass on the session and versions of the test outcome"() {
+        given:
+            def deliveredOutcome = null
+            def outcomeListener = Stub(StepListener) {
+                testFinished(_) >> { TestOutcome outcome -> deliveredOutcome = outcome }
+            }
+            def listener = new AsynchronousStepListener(outcomeListener, 16, BLOCK)
+        and:
+            def outcome = new TestOutcome("a_test")
+            outcome.sessionId = "a-session"
+            outcome.addVersion("Release 1")
+        when:
+            listener.testFinished(outcome)
+            outcome.addVersion("Release 2")
+            listener.flush()
+        then:
+            deliveredOutcome.sessionId == "a-session"
+            deliveredOutcome.versions == ["Release 1"]
+    }
+
+    def "should pass on the example table as it was when the examples were declared"() {
+        given:
+            def listenerCanProceed = new CountDownLatch(1)
+            def deliveredTable = null
+            def slowListener = Stub(StepListener) {
+                useExamplesFrom(_) >> { DataTable table -> listenerCanProceed.await(); deliveredTable = table }
+            }
+            def listener = new AsynchronousStepListener(slowListener, 16, BLOCK)
+            def table = DataTable.withHeaders(["name"]).andRows([["Joe"]]).build()
+        when:
+            listener.useExamplesFrom(table)
+            table.addRow([name: "Jane"])
+            table.row(0).hasResult(FAILURE)
+            listenerCanProceed.countDown()
+            listener.flush()
+        then:
+            deliveredTable.rows.size() == 1
+            deliveredTable.rows[0].result != FAILURE
+    }
+
+    def "should only run a delivery thread while there are events to deliver"() {
+        given:
+            def listener = new AsynchronousStepListener(recordingListener, 16, BLOCK)
+        expect:
+            !listener.delivering
+        when:
+            listener.testStarted("a_test")
+        then:
+            listener.delivering
+        when:
+            listener.stop()
+        then:
+            !listener.delivering
+            receivedEvents == ["started a_test"]
+    }
+
+    def "should start delivering again when events are published after the listener was stopped"() {
+        given:
+            def listener = new AsynchronousStepListener(recordingListener, 16, BLOCK)
+        when:
+            listener.testStarted("a_test")
+            listener.stop()
+            listener.testStarted("another_test")
+            listener.stop()
+        then:
+            receivedEvents == ["started a_test", "started another_test"]
+    }
+
+    def "should stop the delivery threads at the end of the test suite"() {
+        given:
+            def eventBus = new StepEventBus(Mock(ScreenshotProcessor))
+            eventBus.uniqueSession = true
+            def listener = new AsynchronousStepListener(recordingListener, 16, BLOCK)
+            eventBus.registerListener(listener)
+        when:
+            eventBus.testStarted("a_test")
+            eventBus.testSuiteFinished()
+        then:
+            !listener.delivering
+            receivedEvents.contains("started a_test")
+    }
+}
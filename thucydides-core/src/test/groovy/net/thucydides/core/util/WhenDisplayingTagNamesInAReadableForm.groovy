@@ -96,4 +96,34 @@ class WhenDisplayingTagNamesInAReadableForm extends Specification {
             'AnotherTest'       | 'Another test'
             'AN_ENUM_NAME'      | 'An enum name'
     }
+
+    def "should use new inflection rules for words that have already been inflected"() {
+        given:
+            def inflector = new Inflector()
+        and:
+            def pluralBeforeTheNewRule = inflector.pluralize("cactus")
+        when:
+            inflector.addIrregular("cactus", "cacti")
+        then:
+            pluralBeforeTheNewRule == "cactus"
+            inflector.pluralize("cactus") == "cacti"
+    }
+
+    def "should give the same results when the same names are transformed again"() {
+        when:
+            def firstResult = transformation(name)
+            def laterResult = transformation(name)
+        then:
+            firstResult == expectedResult
+            laterResult == expectedResult
+        where:
+            name                      | transformation                           | expectedResult
+            'story'                   | { Inflector.instance.pluralize(it) }     | 'stories'
+            'stories'                 | { Inflector.instance.singularize(it) }   | 'story'
+            'employee_salary'         | { Inflector.instance.humanize(it) }      | 'Employee salary'
+            'x-men: the last stand'   | { Inflector.instance.titleCase(it) }     | 'X-Men: The Last Stand'
+            'AnotherWord'             | { Inflector.instance.underscore(it) }    | 'another_word'
+            'aTestClassName'          | { NameConverter.humanize(it) }           | 'A test class name'
+            'MyTestCaseWithoutAStory' | { NameConverter.humanize(it) }           | 'My test case without a story'
+    }
 }
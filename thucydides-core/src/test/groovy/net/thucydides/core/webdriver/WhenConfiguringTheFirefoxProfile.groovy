@@ -2,6 +2,7 @@ package net.thucydides.core.webdriver
 
 import net.thucydides.core.Thucydides
 import net.thucydides.core.util.MockEnvironmentVariables
+import net.thucydides.core.webdriver.firefox.FirefoxProfileTemplates
 import org.openqa.selenium.firefox.FirefoxProfile
 import spock.lang.Specification
 
@@ -108,4 +109,22 @@ class WhenConfiguringTheFirefoxProfile extends Specification {
 
     }
 
-}
\ No newline at end of file
+    def "should only build a firefox profile once for a given configuration"() {
+        given: "a profile template cache"
+            FirefoxProfileTemplates.clear()
+            def profilesBuilt = 0
+            def builder = { profilesBuilt++; new FirefoxProfile() } as FirefoxProfileTemplates.ProfileBuilder
+        when: "we ask for the profile several times with the same configuration"
+            def firstProfile = FirefoxProfileTemplates.profileCapabilityFor("some-configuration", builder)
+            def secondProfile = FirefoxProfileTemplates.profileCapabilityFor("some-configuration", builder)
+        then: "the profile is only built and encoded once"
+            profilesBuilt == 1
+            firstProfile instanceof String
+            secondProfile.is(firstProfile)
+        when: "the configuration changes"
+            FirefoxProfileTemplates.profileCapabilityFor("another-configuration", builder)
+        then: "a new profile is built"
+            profilesBuilt == 2
+    }
+
+}
@@ -0,0 +1,128 @@
+package net.thucydides.core.batches;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestStepFactory;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class WhenRerunningFailedTestsFirst {
+
+    static class SomeTestCase {}
+
+    static class AnotherTestCase {}
+
+    static class NewTestCase {}
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    MockEnvironmentVariables environmentVariables;
+
+    File outputDirectory;
+
+    @Before
+    public void recordThePreviousRun() throws IOException {
+        environmentVariables = new MockEnvironmentVariables();
+        outputDirectory = temporaryFolder.newFolder("thucydides");
+
+        TestOutcome passingTest = TestOutcome.forTest("passing_test", SomeTestCase.class);
+        passingTest.recordStep(TestStepFactory.createNewTestStep("step 1", TestResult.SUCCESS));
+        TestOutcome failingTest = TestOutcome.forTest("failing_test", SomeTestCase.class);
+        failingTest.recordStep(TestStepFactory.createNewTestStep("step 1", TestResult.FAILURE));
+        TestOutcome anotherPassingTest = TestOutcome.forTest("passing_test", AnotherTestCase.class);
+        anotherPassingTest.recordStep(TestStepFactory.createNewTestStep("step 1", TestResult.SUCCESS));
+
+        List<TestOutcome> previousOutcomes = Arrays.asList(passingTest, failingTest, anotherPassingTest);
+        XMLTestOutcomeReporter reporter = new XMLTestOutcomeReporter();
+        reporter.setOutputDirectory(outputDirectory);
+        for (TestOutcome outcome : previousOutcomes) {
+            reporter.generateReportFor(outcome, TestOutcomes.of(previousOutcomes));
+        }
+    }
+
+    @Test
+    public void by_default_every_test_should_run_in_the_usual_order() {
+        FailureFeedback failureFeedback = new FailureFeedback(environmentVariables, outputDirectory);
+
+        assertThat(failureFeedback.runFailedTestsFirst(), is(false));
+        assertThat(failureFeedback.shouldRun(AnotherTestCase.class), is(true));
+        assertThat(failureFeedback.shouldRun(SomeTestCase.class, "passing_test"), is(true));
+    }
+
+    @Test
+    public void tests_that_failed_in_the_previous_run_should_be_identified() {
+        environmentVariables.setProperty("thucydides.rerun.failed.tests.first", "true");
+
+        FailureFeedback failureFeedback = new FailureFeedback(environmentVariables, outputDirectory);
+
+        assertThat(failureFeedback.runFailedTestsFirst(), is(true));
+        assertThat(failureFeedback.previouslyFailed(SomeTestCase.class, "failing_test"), is(true));
+        assertThat(failureFeedback.previouslyFailed(SomeTestCase.class, "passing_test"), is(false));
+        assertThat(failureFeedback.shouldRun(SomeTestCase.class, "passing_test"), is(true));
+    }
+
+    @Test
+    public void only_tests_that_failed_or_did_not_run_should_be_rerun_in_failed_tests_only_mode() {
+        environmentVariables.setProperty("thucydides.rerun.failed.tests.only", "true");
+
+        FailureFeedback failureFeedback = new FailureFeedback(environmentVariables, outputDirectory);
+
+        assertThat(failureFeedback.shouldRun(SomeTestCase.class), is(true));
+        assertThat(failureFeedback.shouldRun(SomeTestCase.class, "failing_test"), is(true));
+        assertThat(failureFeedback.shouldRun(SomeTestCase.class, "passing_test"), is(false));
+        assertThat(failureFeedback.shouldRun(SomeTestCase.class, "new_test"), is(true));
+        assertThat(failureFeedback.shouldRun(AnotherTestCase.class), is(false));
+        assertThat(failureFeedback.shouldRun(NewTestCase.class), is(true));
+    }
+
+    @Test
+    public void previous_outcomes_can_be_read_from_another_directory() throws IOException {
+        environmentVariables.setProperty("thucydides.rerun.failed.tests.only", "true");
+        environmentVariables.setProperty("thucydides.rerun.outcomes.directory", outputDirectory.getAbsolutePath());
+
+        FailureFeedback failureFeedback = new FailureFeedback(environmentVariables, temporaryFolder.newFolder("empty"));
+
+        assertThat(failureFeedback.shouldRun(SomeTestCase.class, "passing_test"), is(false));
+    }
+
+    @Test
+    public void every_test_should_run_if_there_are_no_previous_outcomes() throws IOException {
+        environmentVariables.setProperty("thucydides.rerun.failed.tests.only", "true");
+
+        FailureFeedback failureFeedback = new FailureFeedback(environmentVariables, temporaryFolder.newFolder("empty"));
+
+        assertThat(failureFeedback.runFailedTestsFirst(), is(false));
+        assertThat(failureFeedback.shouldRun(AnotherTestCase.class), is(true));
+        assertThat(failureFeedback.shouldRun(SomeTestCase.class, "passing_test"), is(true));
+    }
+
+    @Test
+    public void the_remaining_tests_should_be_skipped_once_the_failure_threshold_is_reached() {
+        environmentVariables.setProperty("thucydides.fail.fast.threshold", "2");
+
+        FailureFeedback failureFeedback = new FailureFeedback(environmentVariables, outputDirectory);
+
+        failureFeedback.recordFailure();
+        assertThat(failureFeedback.failureThresholdReached(), is(false));
+        assertThat(failureFeedback.shouldRun(NewTestCase.class), is(true));
+
+        failureFeedback.recordFailure();
+        assertThat(failureFeedback.failureThresholdReached(), is(true));
+        assertThat(failureFeedback.shouldRun(NewTestCase.class), is(false));
+        assertThat(failureFeedback.shouldRun(SomeTestCase.class, "failing_test"), is(false));
+    }
+}
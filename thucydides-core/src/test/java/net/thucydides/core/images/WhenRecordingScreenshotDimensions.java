@@ -0,0 +1,57 @@
+package net.thucydides.core.images;
+
+import net.thucydides.core.util.ExtendedTemporaryFolder;
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.awt.Dimension;
+import java.io.File;
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class WhenRecordingScreenshotDimensions {
+
+    @Rule
+    public ExtendedTemporaryFolder temporaryFolder = new ExtendedTemporaryFolder();
+
+    private File screenshotDirectory;
+
+    @Before
+    public void setupScreenshotDirectory() throws IOException {
+        screenshotDirectory = temporaryFolder.newFolder("screenshots");
+    }
+
+    @Test
+    public void should_read_the_dimensions_of_an_unrecorded_screenshot_from_the_file() throws IOException {
+        File screenshotFile = new File(screenshotDirectory, "google_page_1.png");
+        FileUtils.copyURLToFile(getClass().getResource("/screenshots/google_page_1.png"), screenshotFile);
+
+        Dimension dimension = new ScreenshotDimensions(screenshotDirectory).of(screenshotFile);
+
+        assertThat(dimension, is(new Dimension(1200, 788)));
+    }
+
+    @Test
+    public void should_use_the_recorded_dimensions_of_a_screenshot() throws IOException {
+        new ScreenshotDimensions(screenshotDirectory).record("screenshot.png", 1000, 600);
+
+        Dimension dimension = new ScreenshotDimensions(screenshotDirectory).of(new File(screenshotDirectory, "screenshot.png"));
+
+        assertThat(dimension, is(new Dimension(1000, 600)));
+    }
+
+    @Test
+    public void should_use_the_most_recently_recorded_dimensions() throws IOException {
+        ScreenshotDimensions screenshotDimensions = new ScreenshotDimensions(screenshotDirectory);
+        screenshotDimensions.record("screenshot.png", 1000, 600);
+        screenshotDimensions.record("screenshot.png", 1000, 800);
+
+        Dimension dimension = new ScreenshotDimensions(screenshotDirectory).recordedFor("screenshot.png").get();
+
+        assertThat(dimension, is(new Dimension(1000, 800)));
+    }
+}
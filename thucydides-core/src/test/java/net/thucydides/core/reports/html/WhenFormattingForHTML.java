@@ -112,6 +112,26 @@ public class WhenFormattingForHTML {
         assertThat(formattedValue, is("A big story (<a target=\"_blank\" href=\"http://my.issue.tracker/MYPROJECT/browse/MY_PROJECT_123\">#MY_PROJECT_123</a>,<a target=\"_blank\" href=\"http://my.issue.tracker/MYPROJECT/browse/MY_PROJECT_456\">#MY_PROJECT_456</a>)"));
     }
 
+    @Test
+    public void should_link_issue_numbers_that_start_with_another_issue_number() {
+        when(issueTracking.getShortenedIssueTrackerUrl()).thenReturn("http://my.issue.tracker/MY-PROJECT/browse/ISSUE-{0}");
+        Formatter formatter = new Formatter(issueTracking);
+
+        String formattedValue = formatter.addLinks("Issues #12 and #123");
+
+        assertThat(formattedValue, is("Issues <a target=\"_blank\" href=\"http://my.issue.tracker/MY-PROJECT/browse/ISSUE-12\">#12</a> and <a target=\"_blank\" href=\"http://my.issue.tracker/MY-PROJECT/browse/ISSUE-123\">#123</a>"));
+    }
+
+    @Test
+    public void should_link_full_issue_numbers_after_a_hash_if_no_shortened_url_is_provided() {
+        when(issueTracking.getIssueTrackerUrl()).thenReturn("http://my.issue.tracker/MY-PROJECT/browse/{0}");
+        Formatter formatter = new Formatter(issueTracking);
+
+        String formattedValue = formatter.addLinks("Fixes #MYPROJECT-2 but not #3");
+
+        assertThat(formattedValue, is("Fixes #<a target=\"_blank\" href=\"http://my.issue.tracker/MY-PROJECT/browse/MYPROJECT-2\">MYPROJECT-2</a> but not #3"));
+    }
+
 
 
     @Test
@@ -288,6 +308,37 @@ public class WhenFormattingForHTML {
         assertThat(formattedValue, is("Given a person named &lt;name&gt;<br>and aged &lt;age&gt;"));
     }
 
+    @Test
+    public void should_only_escape_table_fields() {
+        Formatter formatter = new Formatter(issueTracking);
+
+        List<String> fields = ImmutableList.of("name");
+        String formattedValue = formatter.formatWithFields("Given <<name>> and <nickname>", fields);
+
+        assertThat(formattedValue, is("Given <&lt;name&gt;> and <nickname>"));
+    }
+
+    @Test
+    public void should_remove_trim_macros_from_formatted_fields() {
+        Formatter formatter = new Formatter(issueTracking);
+
+        List<String> fields = ImmutableList.of("name");
+        String formattedValue = formatter.formatWithFields("Given a person named <name>{trim=false}  \r\n\nwho is happy\r\n", fields);
+
+        assertThat(formattedValue, is("Given a person named &lt;name&gt;who is happy<br>"));
+    }
+
+    @Test
+    public void should_not_confuse_a_field_containing_a_comma_with_several_fields() {
+        Formatter formatter = new Formatter(issueTracking);
+
+        String withOneField = formatter.formatWithFields("Given <a, b> and <a>", ImmutableList.of("a, b"));
+        String withTwoFields = formatter.formatWithFields("Given <a, b> and <a>", ImmutableList.of("a", "b"));
+
+        assertThat(withOneField, is("Given &lt;a, b&gt; and <a>"));
+        assertThat(withTwoFields, is("Given <a, b> and &lt;a&gt;"));
+    }
+
     @Test
     public void formatter_should_round_doubles_to_a_given_precision() {
         NumericalFormatter formatter = new NumericalFormatter();
@@ -0,0 +1,66 @@
+package net.thucydides.core.steps;
+
+import net.thucydides.core.guice.Injectors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Times how long parallel test threads take to look up their event bus, the Guice injector and the listeners
+ * to notify, which happens for every step, wait and element lookup.
+ * Run it with the number of threads as an argument (32 by default); it is not part of the test suite.
+ */
+public class StepEventBusContentionBenchmark {
+
+    private static final int DEFAULT_THREADS = 32;
+    private static final int LOOKUPS_PER_THREAD = 1000000;
+
+    public static void main(String[] args) throws Exception {
+        int threads = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_THREADS;
+
+        timeLookups(threads);
+        long elapsed = timeLookups(threads);
+
+        long lookups = (long) threads * LOOKUPS_PER_THREAD;
+        System.out.println(threads + " threads, " + lookups + " lookups in " + (elapsed / 1000000) + " ms");
+        System.out.println((elapsed / lookups) + " ns per lookup");
+    }
+
+    private static long timeLookups(int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    StepEventBus.getEventBus().registerListener(new ConsoleStepListener());
+                    startSignal.await();
+                    int checksum = 0;
+                    for (int lookup = 0; lookup < LOOKUPS_PER_THREAD; lookup++) {
+                        checksum += StepEventBus.getEventBus().getAllListeners().size();
+                        checksum += (Injectors.getInjector() != null) ? 1 : 0;
+                    }
+                    return checksum;
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        startSignal.countDown();
+        int checksum = 0;
+        for (Future<Integer> result : results) {
+            checksum += result.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        if (checksum == 42) {
+            System.out.println();
+        }
+        return elapsed;
+    }
+}
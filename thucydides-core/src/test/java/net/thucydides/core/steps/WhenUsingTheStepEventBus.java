@@ -28,6 +28,8 @@ import java.io.IOException;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 public class WhenUsingTheStepEventBus {
@@ -225,6 +227,27 @@ public class WhenUsingTheStepEventBus {
         StepEventBus.getEventBus().dropAllListeners();
     }
 
+    @Test
+    public void should_notify_listeners_registered_after_the_first_event() {
+        StepEventBus.getEventBus().testSuiteStarted(SampleTestScenario.class);
+        StepListener lateListener = mock(StepListener.class);
+
+        StepEventBus.getEventBus().registerListener(lateListener);
+        StepEventBus.getEventBus().testStarted("some_test");
+
+        verify(lateListener).testStarted("some_test");
+    }
+
+    @Test
+    public void should_stop_notifying_listeners_once_they_are_dropped() {
+        StepEventBus.getEventBus().testSuiteStarted(SampleTestScenario.class);
+
+        StepEventBus.getEventBus().dropListener(listener);
+        StepEventBus.getEventBus().testStarted("some_test");
+
+        verify(listener, never()).testStarted("some_test");
+    }
+
     @Test
     public void should_execute_steps_transparently() {
         SimpleTestScenarioSteps steps = factory.getStepLibraryFor(SimpleTestScenarioSteps.class);
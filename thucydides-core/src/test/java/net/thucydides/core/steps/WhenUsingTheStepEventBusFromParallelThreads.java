@@ -0,0 +1,112 @@
+package net.thucydides.core.steps;
+
+import com.google.inject.Injector;
+import net.thucydides.core.guice.Injectors;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class WhenUsingTheStepEventBusFromParallelThreads {
+
+    private static final int THREADS = 32;
+    private static final int EVENTS_PER_THREAD = 1000;
+
+    static class ThreadResult {
+        String testName;
+        StepEventBus eventBus;
+        StepListener listener;
+        List<StepListener> listeners;
+        Injector injector;
+    }
+
+    @Test
+    public void each_test_thread_should_get_its_own_event_bus_and_listeners() throws Exception {
+        List<ThreadResult> results = runInParallelThreads();
+
+        Set<StepEventBus> eventBuses = Collections.newSetFromMap(new IdentityHashMap<StepEventBus, Boolean>());
+        for (ThreadResult result : results) {
+            eventBuses.add(result.eventBus);
+        }
+        assertThat(eventBuses.size(), is(THREADS));
+    }
+
+    @Test
+    public void each_event_bus_should_only_notify_the_listeners_registered_in_its_thread() throws Exception {
+        List<ThreadResult> results = runInParallelThreads();
+
+        for (ThreadResult result : results) {
+            assertThat(result.listeners.contains(result.listener), is(true));
+            for (ThreadResult otherResult : results) {
+                if (otherResult != result) {
+                    assertThat(result.listeners.contains(otherResult.listener), is(false));
+                }
+            }
+            verify(result.listener, times(EVENTS_PER_THREAD)).testStarted(anyString());
+            verify(result.listener, times(EVENTS_PER_THREAD)).testStarted(result.testName);
+        }
+    }
+
+    @Test
+    public void every_test_thread_should_share_the_same_injector() throws Exception {
+        List<ThreadResult> results = runInParallelThreads();
+
+        Injector injector = Injectors.getInjector();
+        for (ThreadResult result : results) {
+            assertThat(result.injector, is(sameInstance(injector)));
+        }
+    }
+
+    private List<ThreadResult> runInParallelThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<ThreadResult>> futureResults = new ArrayList<Future<ThreadResult>>();
+        for (int i = 0; i < THREADS; i++) {
+            final String testName = "test_" + i;
+            futureResults.add(executor.submit(new Callable<ThreadResult>() {
+                @Override
+                public ThreadResult call() throws Exception {
+                    ThreadResult result = new ThreadResult();
+                    result.testName = testName;
+                    result.listener = mock(StepListener.class);
+                    startSignal.await();
+                    StepEventBus.getEventBus().registerListener(result.listener);
+                    for (int event = 0; event < EVENTS_PER_THREAD; event++) {
+                        StepEventBus.getEventBus().testStarted(testName);
+                        result.injector = Injectors.getInjector();
+                    }
+                    result.eventBus = StepEventBus.getEventBus();
+                    result.listeners = new ArrayList<StepListener>(result.eventBus.getAllListeners());
+                    result.eventBus.dropListener(result.listener);
+                    return result;
+                }
+            }));
+        }
+        startSignal.countDown();
+        List<ThreadResult> results = new ArrayList<ThreadResult>();
+        try {
+            for (Future<ThreadResult> futureResult : futureResults) {
+                results.add(futureResult.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return results;
+    }
+}
@@ -0,0 +1,71 @@
+package net.thucydides.core.util;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.reports.TestOutcomeLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Times the Inflector and NameConverter transformations used by the report templates,
+ * over the tag, story and test names found in a directory of test outcomes.
+ * Run it with the directory as an argument (target/thucydides by default); it is not part of the test suite.
+ */
+public class InflectionBenchmark {
+
+    private static final int ITERATIONS = 200;
+
+    public static void main(String[] args) throws IOException {
+        File outcomeDirectory = new File(args.length > 0 ? args[0] : "target/thucydides");
+        List<String> vocabulary = vocabularyFrom(new TestOutcomeLoader().loadFrom(outcomeDirectory));
+        System.out.println("Vocabulary of " + vocabulary.size() + " distinct names from " + outcomeDirectory);
+
+        long firstPass = timeOf(vocabulary, 1);
+        long laterPasses = timeOf(vocabulary, ITERATIONS);
+
+        int operations = vocabulary.size() * 6;
+        System.out.println("First pass:   " + (firstPass / Math.max(1, operations)) + " ns per transformation");
+        System.out.println("Later passes: " + (laterPasses / Math.max(1, operations * ITERATIONS)) + " ns per transformation");
+    }
+
+    private static List<String> vocabularyFrom(List<TestOutcome> testOutcomes) {
+        Set<String> names = Sets.newHashSet();
+        for (TestOutcome testOutcome : testOutcomes) {
+            names.add(testOutcome.getMethodName());
+            names.add(testOutcome.getTitle());
+            names.add(testOutcome.getStoryTitle());
+            for (TestTag tag : testOutcome.getTags()) {
+                names.add(tag.getName());
+                names.add(tag.getType());
+            }
+        }
+        names.remove(null);
+        return Lists.newArrayList(names);
+    }
+
+    private static long timeOf(List<String> vocabulary, int iterations) {
+        Inflector inflector = Inflector.getInstance();
+        int checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (String name : vocabulary) {
+                checksum += inflector.pluralize(name).length();
+                checksum += inflector.humanize(name).length();
+                checksum += inflector.titleCase(name).length();
+                checksum += inflector.underscore(name).length();
+                checksum += NameConverter.humanize(name).length();
+                checksum += NameConverter.underscore(name).length();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (checksum == 42) {
+            System.out.println();
+        }
+        return elapsed;
+    }
+}
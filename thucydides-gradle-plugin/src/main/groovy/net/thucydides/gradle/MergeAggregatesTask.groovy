@@ -0,0 +1,41 @@
+package net.thucydides.gradle
+
+import net.thucydides.core.reports.aggregate.PartialAggregates
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.FileCollection
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.OutputFile
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * Merges the partial aggregates found in the source directory, or any of its subdirectories,
+ * into a summary of the whole test run. The summary is declared as the output of the task so later tasks
+ * can use it as an input, and read it with PartialAggregates.readMergedAggregateFrom().
+ */
+class MergeAggregatesTask extends DefaultTask {
+
+    File sourceDirectory
+
+    File outputDirectory
+
+    @InputFiles
+    FileCollection getPartialAggregates() {
+        project.fileTree(getSourceDirectory()) {
+            include "**/${PartialAggregates.PARTIAL_AGGREGATE_FILE}"
+        }
+    }
+
+    @OutputFile
+    File getSummaryFile() {
+        new File(getOutputDirectory(), PartialAggregates.MERGED_AGGREGATE_FILE)
+    }
+
+    @TaskAction
+    void mergeAggregates() {
+        logger.lifecycle "Merging the Thucydides partial aggregates in ${getSourceDirectory()}"
+        def mergedAggregate = PartialAggregates.mergeFrom(getSourceDirectory())
+        PartialAggregates.writeMergedAggregateTo(getOutputDirectory(), mergedAggregate)
+        logger.lifecycle "${mergedAggregate.total} tests from ${mergedAggregate.shards.size()} shards: " +
+                         "overall result ${mergedAggregate.result}"
+    }
+}
@@ -0,0 +1,50 @@
+package net.thucydides.gradle
+
+import net.thucydides.core.reports.TestOutcomeLoader
+import net.thucydides.core.reports.aggregate.PartialAggregate
+import net.thucydides.core.reports.aggregate.PartialAggregates
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.FileCollection
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.OutputFile
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * Summarizes the test outcomes of one shard of a test run in a partial aggregate,
+ * to be merged with the partial aggregates of the other shards by the mergeAggregates task.
+ * The shard is named after the test outcome directory unless a shard name is given.
+ */
+class PartialAggregateTask extends DefaultTask {
+
+    File sourceDirectory
+
+    File outputDirectory
+
+    String shard
+
+    @InputFiles
+    FileCollection getTestOutcomes() {
+        project.fileTree(getSourceDirectory()) {
+            include '*.xml', '*.json'
+            exclude PartialAggregates.PARTIAL_AGGREGATE_FILE, PartialAggregates.MERGED_AGGREGATE_FILE
+        }
+    }
+
+    @Input
+    String getShardName() {
+        getShard() ?: getSourceDirectory().name
+    }
+
+    @OutputFile
+    File getPartialAggregateFile() {
+        new File(getOutputDirectory(), PartialAggregates.PARTIAL_AGGREGATE_FILE)
+    }
+
+    @TaskAction
+    void writePartialAggregate() {
+        logger.lifecycle "Writing the Thucydides partial aggregate for ${getShardName()} to directory ${getOutputDirectory()}"
+        def partialAggregate = PartialAggregate.from(getShardName(), TestOutcomeLoader.testOutcomesIn(getSourceDirectory()))
+        PartialAggregates.writePartialAggregateTo(getOutputDirectory(), partialAggregate)
+    }
+}
@@ -0,0 +1,108 @@
+package net.thucydides.gradle
+
+import net.thucydides.core.ThucydidesSystemProperty
+import net.thucydides.core.guice.Injectors
+import net.thucydides.core.reports.aggregate.PartialAggregates
+import net.thucydides.core.reports.html.HtmlAggregateStoryReporter
+import net.thucydides.core.util.EnvironmentVariables
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.FileCollection
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputDirectory
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.Optional
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * Generates the aggregate Thucydides reports from the test outcomes of a project.
+ * The test outcomes, the requirements and the Thucydides properties are declared as inputs and the report
+ * directory as an output, so Gradle skips the task when none of them has changed since the reports were generated.
+ * Aggregate tasks of different projects run at the same time when the build runs with --parallel;
+ * the issue tracker settings are shared by the whole build, so they should be the same for these projects.
+ * The requirements directory can only be passed to the requirements providers through the Thucydides properties
+ * shared by the whole build, so it is set just for the time it takes to generate the reports. Aggregate tasks
+ * take turns to generate their reports, so that no task sees the requirements directory of another.
+ */
+class ThucydidesAggregateTask extends DefaultTask {
+
+    File sourceDirectory
+
+    File outputDirectory
+
+    @Optional @InputDirectory
+    File requirementsDirectory
+
+    @Optional @Input
+    String projectKey
+
+    @Optional @Input
+    String issueTrackerUrl
+
+    @Optional @Input
+    String jiraUrl
+
+    @Optional @Input
+    String jiraProject
+
+    /**
+     * The test outcomes, without the reports generated from them when the reports are written to the same directory.
+     */
+    @InputFiles
+    FileCollection getTestOutcomes() {
+        project.fileTree(getSourceDirectory()) {
+            include '*.xml', '*.json'
+            exclude PartialAggregates.PARTIAL_AGGREGATE_FILE, PartialAggregates.MERGED_AGGREGATE_FILE
+        }
+    }
+
+    @OutputDirectory
+    File getReportDirectory() {
+        getOutputDirectory()
+    }
+
+    /**
+     * Thucydides properties can change the content of the reports, for example by hiding embedded tables.
+     */
+    @Input
+    Map<String, String> getThucydidesProperties() {
+        new TreeMap<String, String>(System.properties.findAll { key, value -> key.toString().startsWith("thucydides.") })
+    }
+
+    @TaskAction
+    void generateReports() {
+        logger.lifecycle "Generating Thucydides Reports to directory ${getOutputDirectory()}"
+        def environmentVariables = Injectors.injector.getInstance(EnvironmentVariables)
+        synchronized (environmentVariables) {
+            if (getRequirementsDirectory() != null) {
+                generateReportsUsingRequirementsIn(getRequirementsDirectory(), environmentVariables)
+            } else {
+                generateReportsFromTestOutcomes()
+            }
+        }
+    }
+
+    private void generateReportsUsingRequirementsIn(File requirementsDirectory, EnvironmentVariables environmentVariables) {
+        def requirementsDirectoryProperty = ThucydidesSystemProperty.REQUIREMENTS_DIRECTORY.propertyName
+        def previousRequirementsDirectory = environmentVariables.getProperty(requirementsDirectoryProperty)
+        environmentVariables.setProperty(requirementsDirectoryProperty, requirementsDirectory.absolutePath)
+        try {
+            generateReportsFromTestOutcomes()
+        } finally {
+            if (previousRequirementsDirectory != null) {
+                environmentVariables.setProperty(requirementsDirectoryProperty, previousRequirementsDirectory)
+            } else {
+                environmentVariables.clearProperty(requirementsDirectoryProperty)
+            }
+        }
+    }
+
+    private void generateReportsFromTestOutcomes() {
+        def reporter = new HtmlAggregateStoryReporter(getProjectKey())
+        reporter.outputDirectory = getOutputDirectory()
+        reporter.issueTrackerUrl = getIssueTrackerUrl()
+        reporter.jiraUrl = getJiraUrl()
+        reporter.jiraProject = getJiraProject()
+        reporter.generateReportsForTestResultsFrom(getSourceDirectory())
+    }
+}
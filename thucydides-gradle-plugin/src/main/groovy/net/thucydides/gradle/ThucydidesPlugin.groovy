@@ -1,15 +1,28 @@
+package net.thucydides.gradle
+
+import org.gradle.api.Plugin
+import org.gradle.api.Project
+
 class ThucydidesPlugin implements Plugin<Project> {
     void apply(Project project) {
         project.extensions.create("thucydides", ThucydidesPluginExtension)
-        project.task('aggregate') << {
-            println "Generating Thucydides Reports to directory $project.thucydides.outputDirectory"
-            def reporter = new HtmlAggregateStoryReporter(project.thucydides.projectKey)
-            reporter.outputDirectory = project.thucydides.outputDirectory
-            reporter.issueTrackerUrl = project.thucydides.issueTrackerUrl
-            reporter.jiraUrl = project.thucydides.jiraUrl
-            reporter.jiraProject = project.thucydides.jiraProject
-            reporter.generateReportsForTestResultsFrom(project.thucydides.sourceDirectory)
+        def aggregate = project.task('aggregate', type: ThucydidesAggregateTask)
+        aggregate.conventionMapping.map('sourceDirectory') { project.file(project.thucydides.sourceDirectory) }
+        aggregate.conventionMapping.map('outputDirectory') { project.file(project.thucydides.outputDirectory) }
+        aggregate.conventionMapping.map('requirementsDirectory') {
+            project.thucydides.requirementsDirectory ? project.file(project.thucydides.requirementsDirectory) : null
         }
+        aggregate.conventionMapping.map('projectKey') { project.thucydides.projectKey }
+        aggregate.conventionMapping.map('issueTrackerUrl') { project.thucydides.issueTrackerUrl }
+        aggregate.conventionMapping.map('jiraUrl') { project.thucydides.jiraUrl }
+        aggregate.conventionMapping.map('jiraProject') { project.thucydides.jiraProject }
+        def partialAggregate = project.task('partialAggregate', type: PartialAggregateTask)
+        partialAggregate.conventionMapping.map('sourceDirectory') { project.file(project.thucydides.sourceDirectory) }
+        partialAggregate.conventionMapping.map('outputDirectory') { project.file(project.thucydides.outputDirectory) }
+        partialAggregate.conventionMapping.map('shard') { project.thucydides.shard }
+        def mergeAggregates = project.task('mergeAggregates', type: MergeAggregatesTask)
+        mergeAggregates.conventionMapping.map('sourceDirectory') { project.file(project.thucydides.sourceDirectory) }
+        mergeAggregates.conventionMapping.map('outputDirectory') { project.file(project.thucydides.outputDirectory) }
     }
 }
 class ThucydidesPluginExtension {
@@ -19,4 +32,6 @@ class ThucydidesPluginExtension {
     def String jiraUrl
     def String jiraProject
     def String sourceDirectory = outputDirectory
+    def String requirementsDirectory
+    def String shard
 }
\ No newline at end of file
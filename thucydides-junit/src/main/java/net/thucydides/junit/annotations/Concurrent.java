@@ -7,6 +7,8 @@ import java.lang.annotation.Target;
 
 /**
  * Indicates that data-driven tests can and should be run in parallel.
+ * On a test case run with the ThucydidesRunner, the test methods are run in parallel instead,
+ * each thread using its own browser.
  * You can optionally indicate the number of threads to use. If not specified,
  * a sensible value based on the number of processors will be used.
  *
@@ -0,0 +1,54 @@
+package net.thucydides.junit.runners;
+
+import net.thucydides.junit.annotations.Concurrent;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Reads the @Concurrent annotation of a test class, and works out how many threads it asks for.
+ */
+class ConcurrentAnnotations {
+
+    private static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
+
+    private final Class<?> testClass;
+
+    private ConcurrentAnnotations(final Class<?> testClass) {
+        this.testClass = testClass;
+    }
+
+    public static ConcurrentAnnotations forClass(final Class<?> testClass) {
+        return new ConcurrentAnnotations(testClass);
+    }
+
+    public boolean isConcurrent() {
+        return (testClass.getAnnotation(Concurrent.class) != null);
+    }
+
+    /**
+     * The thread count can be an absolute number ("4") or a multiple of the available processors ("2x").
+     * If not specified, twice the number of available processors is used.
+     */
+    public int getThreadCount() {
+        Concurrent concurrent = testClass.getAnnotation(Concurrent.class);
+        String threadValue = concurrent.threads();
+        int threads = (AVAILABLE_PROCESSORS * 2);
+        if (StringUtils.isNotEmpty(threadValue)) {
+            if (StringUtils.isNumeric(threadValue)) {
+                threads = Integer.valueOf(threadValue);
+            } else if (threadValue.endsWith("x")) {
+                threads = getRelativeThreadCount(threadValue);
+            }
+
+        }
+        return threads;
+    }
+
+    private int getRelativeThreadCount(final String threadValue) {
+        try {
+            String threadCount = threadValue.substring(0, threadValue.length() - 1);
+            return Integer.valueOf(threadCount) * AVAILABLE_PROCESSORS;
+        } catch (NumberFormatException cause) {
+            throw new IllegalArgumentException("Illegal thread value: " + threadValue, cause);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package net.thucydides.junit.runners;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of how long each data set of a parameterized test took to run, from one run to the next,
+ * so that the longest data sets can be started first.
+ * Durations are stored in the output directory, in a properties file named after the test class.
+ */
+class DataSetDurations {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSetDurations.class);
+
+    static final String DURATIONS_FILE_SUFFIX = ".durations.properties";
+
+    private final File durationsFile;
+    private final Map<String, Long> previousDurations;
+    private final Map<String, Long> recordedDurations = new ConcurrentHashMap<String, Long>();
+
+    private DataSetDurations(final File durationsFile) {
+        this.durationsFile = durationsFile;
+        this.previousDurations = loadFrom(durationsFile);
+    }
+
+    public static DataSetDurations forTestClass(final Class<?> testClass, final File outputDirectory) {
+        return new DataSetDurations(new File(outputDirectory, testClass.getName() + DURATIONS_FILE_SUFFIX));
+    }
+
+    /**
+     * @return How long the data set took the last time it was run. Data sets that have never been run
+     * are expected to take as long as the average data set, or 0 if there are no previous durations at all.
+     */
+    public long expectedDurationOf(final String dataSet) {
+        if (previousDurations.containsKey(dataSet)) {
+            return previousDurations.get(dataSet);
+        }
+        return averagePreviousDuration();
+    }
+
+    private long averagePreviousDuration() {
+        if (previousDurations.isEmpty()) {
+            return 0;
+        }
+        long totalDuration = 0;
+        for (Long duration : previousDurations.values()) {
+            totalDuration += duration;
+        }
+        return totalDuration / previousDurations.size();
+    }
+
+    public void record(final String dataSet, final long duration) {
+        if (duration > 0) {
+            recordedDurations.put(dataSet, duration);
+        }
+    }
+
+    /**
+     * Store the durations recorded in this run, keeping the previous durations of any data sets that did not run.
+     */
+    public void save() {
+        if (recordedDurations.isEmpty()) {
+            return;
+        }
+        Properties durations = new Properties();
+        for (Map.Entry<String, Long> duration : previousDurations.entrySet()) {
+            durations.setProperty(duration.getKey(), Long.toString(duration.getValue()));
+        }
+        for (Map.Entry<String, Long> duration : recordedDurations.entrySet()) {
+            durations.setProperty(duration.getKey(), Long.toString(duration.getValue()));
+        }
+        OutputStream out = null;
+        try {
+            durationsFile.getParentFile().mkdirs();
+            out = new FileOutputStream(durationsFile);
+            durations.store(out, "Data set durations in milliseconds");
+        } catch (IOException e) {
+            LOGGER.warn("Could not save the data set durations to " + durationsFile, e);
+        } finally {
+            IOUtils.closeQuietly(out);
+        }
+    }
+
+    private static Map<String, Long> loadFrom(final File durationsFile) {
+        Map<String, Long> durations = new ConcurrentHashMap<String, Long>();
+        if (!durationsFile.exists()) {
+            return durations;
+        }
+        Properties storedDurations = new Properties();
+        InputStream in = null;
+        try {
+            in = new FileInputStream(durationsFile);
+            storedDurations.load(in);
+            for (String dataSet : storedDurations.stringPropertyNames()) {
+                durations.put(dataSet, Long.valueOf(storedDurations.getProperty(dataSet)));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the data set durations from " + durationsFile, e);
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Ignoring invalid data set durations in " + durationsFile, e);
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+        return durations;
+    }
+}
@@ -82,6 +82,14 @@ class TestClassRunnerForParameters extends ThucydidesRunner {
         return childrenInvoker(notifier);
     }
 
+    /**
+     * With @Concurrent, the parameterized runner runs the data sets in parallel rather than the test methods.
+     */
+    @Override
+    protected boolean runTestMethodsConcurrently() {
+        return false;
+    }
+
     @Override
     protected void generateReports() {
         //do not generate reports at example level
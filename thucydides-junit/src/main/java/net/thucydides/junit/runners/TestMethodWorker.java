@@ -0,0 +1,82 @@
+package net.thucydides.junit.runners;
+
+import com.google.inject.Injector;
+import net.thucydides.core.batches.BatchManager;
+import net.thucydides.core.webdriver.Configuration;
+import net.thucydides.core.webdriver.WebdriverManager;
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.Statement;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Runs a subset of the test methods of a test case, in the thread of its own.
+ * The worker sets up its own event bus, step listener, pages and step factory, and uses the driver of the thread
+ * it runs in, so several workers can run the methods of the same test case side by side.
+ * The class-level fixtures and the reports are left to the runner that started the workers.
+ * Workers share the driver manager, configuration, batch manager and injector of that runner.
+ */
+class TestMethodWorker extends ThucydidesRunner {
+
+    TestMethodWorker(final Class<?> klass,
+                     final WebdriverManager webdriverManager,
+                     final Configuration configuration,
+                     final BatchManager batchManager,
+                     final Injector injector,
+                     final Collection<String> testMethodNames) throws InitializationError {
+        super(klass, webdriverManager, configuration, batchManager, injector);
+        try {
+            filter(new TestMethodFilter(testMethodNames));
+        } catch (NoTestsRemainException noTestsRemain) {
+            throw new InitializationError(noTestsRemain);
+        }
+    }
+
+    /**
+     * The parent runner has already checked that this test case belongs to the current batch.
+     */
+    @Override
+    public void run(final RunNotifier notifier) {
+        runTestMethodsUsing(notifier);
+    }
+
+    @Override
+    protected Statement classBlock(final RunNotifier notifier) {
+        return childrenInvoker(notifier);
+    }
+
+    @Override
+    protected boolean runTestMethodsConcurrently() {
+        return false;
+    }
+
+    @Override
+    protected void generateReports() {
+        // reports are generated by the parent runner, once all of the workers are done
+    }
+
+    private static class TestMethodFilter extends Filter {
+
+        private final Set<String> testMethodNames;
+
+        private TestMethodFilter(final Collection<String> testMethodNames) {
+            this.testMethodNames = new HashSet<String>(testMethodNames);
+        }
+
+        @Override
+        public boolean shouldRun(final Description description) {
+            return testMethodNames.contains(description.getMethodName());
+        }
+
+        @Override
+        public String describe() {
+            return "test methods " + testMethodNames;
+        }
+    }
+}
@@ -1,15 +1,16 @@
 package net.thucydides.junit.runners;
 
 import net.thucydides.core.batches.BatchManager;
+import net.thucydides.core.batches.FailureFeedback;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.model.DataTable;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.reports.AcceptanceTestReporter;
 import net.thucydides.core.reports.ReportService;
 import net.thucydides.core.webdriver.Configuration;
+import net.thucydides.core.webdriver.ThucydidesWebdriverManager;
 import net.thucydides.core.webdriver.WebDriverFactory;
-import net.thucydides.junit.annotations.Concurrent;
-import org.apache.commons.lang3.StringUtils;
+import net.thucydides.core.webdriver.WebdriverManager;
 import org.junit.runner.Runner;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.Suite;
@@ -18,7 +19,10 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Run a Thucydides test suite using a set of data.
@@ -27,12 +31,13 @@ import java.util.List;
  */
 public class ThucydidesParameterizedRunner extends Suite {
 
-    private static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
-
     private final List<Runner> runners = new ArrayList<Runner>();
 
     private final Configuration configuration;
     private ReportService reportService;
+    private DataSetDurations dataSetDurations;
+    private final FailureFeedback failureFeedback;
+    private final Set<Runner> previouslyFailedDataSets = new HashSet<Runner>();
     private final ParameterizedTestsOutcomeAggregator parameterizedTestsOutcomeAggregator = ParameterizedTestsOutcomeAggregator.from(this);
 
     /**
@@ -45,9 +50,10 @@ public class ThucydidesParameterizedRunner extends Suite {
                                          ) throws Throwable {
         super(klass, Collections.<Runner>emptyList());
         this.configuration = configuration;
+        this.failureFeedback = Injectors.getInjector().getInstance(FailureFeedback.class);
 
         if (runTestsInParallelFor(klass)) {
-            scheduleParallelTestRunsFor(klass);
+            scheduleParallelTestRunsFor(klass, webDriverFactory);
         }
 
         DataDrivenAnnotations testClassAnnotations = getTestAnnotations();
@@ -58,36 +64,24 @@ public class ThucydidesParameterizedRunner extends Suite {
         }
     }
 
-    private void scheduleParallelTestRunsFor(final Class<?> klass) {
-        setScheduler(new ParameterizedRunnerScheduler(klass, getThreadCountFor(klass)));
+    /**
+     * Each worker thread keeps its browser from one data set to the next, and closes it once it has run out of work.
+     */
+    private void scheduleParallelTestRunsFor(final Class<?> klass, final WebDriverFactory webDriverFactory) {
+        final WebdriverManager webdriverManager = new ThucydidesWebdriverManager(webDriverFactory, configuration);
+        setScheduler(new WorkStealingRunnerScheduler(klass, getThreadCountFor(klass), new Runnable() {
+            public void run() {
+                webdriverManager.closeAllCurrentDrivers();
+            }
+        }));
     }
 
     protected boolean runTestsInParallelFor(final Class<?> klass) {
-        return (klass.getAnnotation(Concurrent.class) != null);
+        return ConcurrentAnnotations.forClass(klass).isConcurrent();
     }
 
     protected int getThreadCountFor(final Class<?> klass) {
-        Concurrent concurrent = klass.getAnnotation(Concurrent.class);
-        String threadValue = concurrent.threads();
-        int threads = (AVAILABLE_PROCESSORS * 2);
-        if (StringUtils.isNotEmpty(threadValue)) {
-            if (StringUtils.isNumeric(threadValue)) {
-                threads = Integer.valueOf(threadValue);
-            } else if (threadValue.endsWith("x")) {
-                threads = getRelativeThreadCount(threadValue);
-            }
-
-        }
-        return threads;
-    }
-
-    private int getRelativeThreadCount(final String threadValue) {
-        try {
-            String threadCount = threadValue.substring(0, threadValue.length() - 1);
-            return Integer.valueOf(threadCount) * AVAILABLE_PROCESSORS;
-        } catch (NumberFormatException cause) {
-            throw new IllegalArgumentException("Illegal thread value: " + threadValue, cause);
-        }
+        return ConcurrentAnnotations.forClass(klass).getThreadCount();
     }
 
     private void buildTestRunnersForEachDataSetUsing(final WebDriverFactory webDriverFactory, 
@@ -102,7 +96,7 @@ public class ThucydidesParameterizedRunner extends Suite {
                                                                        parametersTable,
                                                                        i);
             runner.useQualifier(from(parametersTable.getRows().get(i).getValues()));
-            runners.add(runner);
+            addRunner(runner, parametersTable.getRows().get(i).getValues());
         }
     }
 
@@ -121,10 +115,27 @@ public class ThucydidesParameterizedRunner extends Suite {
                                                                                  parametersTable,
                                                                                  i);
             runner.useQualifier(getQualifierFor(testCase));
-            runners.add(runner);
+            addRunner(runner, parametersTable.getRows().get(i).getValues());
         }
     }
 
+    /**
+     * When only the tests that failed last time are rerun, data sets that passed in the previous run are left out.
+     */
+    private void addRunner(final ThucydidesRunner runner, final List<?> rowValues) {
+        Class<?> testClass = getTestClass().getJavaClass();
+        if (!failureFeedback.shouldRunWithData(testClass, rowValues)) {
+            return;
+        }
+        if (failureFeedback.runFailedTestsFirst() && failureFeedback.previouslyFailedWithData(testClass, rowValues)) {
+            previouslyFailedDataSets.add(runner);
+        }
+        if (runTestsInParallelFor(testClass)) {
+            runner.keepDriversOpenAfterRun();
+        }
+        runners.add(runner);
+    }
+
     private String getQualifierFor(final Object testCase) {
         return QualifierFinder.forTestCase(testCase).getQualifier();
     }
@@ -155,9 +166,62 @@ public class ThucydidesParameterizedRunner extends Suite {
         		Injectors.getInjector().getInstance(BatchManager.class));
     }
 
+    /**
+     * Data sets run in parallel are started longest first, going by how long they took in the previous run.
+     * Data sets that failed in the previous run come first if the failed tests are to be rerun first.
+     */
     @Override
     protected List<Runner> getChildren() {
-        return runners;
+        List<Runner> children = runners;
+        if (runTestsInParallelFor(getTestClass().getJavaClass())) {
+            children = inDescendingOrderOfExpectedDuration(children);
+        }
+        if (!previouslyFailedDataSets.isEmpty()) {
+            children = previouslyFailedFirst(children);
+        }
+        return children;
+    }
+
+    private List<Runner> previouslyFailedFirst(final List<Runner> runners) {
+        List<Runner> previouslyFailedFirst = new ArrayList<Runner>();
+        List<Runner> otherRunners = new ArrayList<Runner>();
+        for (Runner runner : runners) {
+            if (previouslyFailedDataSets.contains(runner)) {
+                previouslyFailedFirst.add(runner);
+            } else {
+                otherRunners.add(runner);
+            }
+        }
+        previouslyFailedFirst.addAll(otherRunners);
+        return previouslyFailedFirst;
+    }
+
+    private List<Runner> inDescendingOrderOfExpectedDuration(final List<Runner> runners) {
+        List<Runner> sortedRunners = new ArrayList<Runner>(runners);
+        Collections.sort(sortedRunners, new Comparator<Runner>() {
+            public int compare(final Runner runner, final Runner otherRunner) {
+                long expectedDuration = expectedDurationOf(runner);
+                long otherExpectedDuration = expectedDurationOf(otherRunner);
+                return (expectedDuration > otherExpectedDuration) ? -1
+                        : ((expectedDuration < otherExpectedDuration) ? 1 : 0);
+            }
+
+            private long expectedDurationOf(final Runner runner) {
+                return getDataSetDurations().expectedDurationOf(runner.getDescription().getDisplayName());
+            }
+        });
+        return sortedRunners;
+    }
+
+    @Override
+    protected void runChild(final Runner runner, final RunNotifier notifier) {
+        long startTime = System.currentTimeMillis();
+        try {
+            super.runChild(runner, notifier);
+        } finally {
+            getDataSetDurations().record(runner.getDescription().getDisplayName(),
+                                         System.currentTimeMillis() - startTime);
+        }
     }
 
     @Override
@@ -166,7 +230,17 @@ public class ThucydidesParameterizedRunner extends Suite {
             super.run(notifier);
         } finally {
             generateReports();
+            if (runTestsInParallelFor(getTestClass().getJavaClass())) {
+                getDataSetDurations().save();
+            }
+        }
+    }
+
+    private synchronized DataSetDurations getDataSetDurations() {
+        if (dataSetDurations == null) {
+            dataSetDurations = DataSetDurations.forTestClass(getTestClass().getJavaClass(), getOutputDirectory());
         }
+        return dataSetDurations;
     }
 
     public void generateReports() {
@@ -9,6 +9,7 @@ import net.thucydides.core.annotations.Pending;
 import net.thucydides.core.annotations.TestCaseAnnotations;
 import net.thucydides.core.batches.BatchManager;
 import net.thucydides.core.batches.BatchManagerProvider;
+import net.thucydides.core.batches.FailureFeedback;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.pages.Pages;
@@ -45,7 +46,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -74,6 +78,8 @@ public class ThucydidesRunner extends BlockJUnit4ClassRunner {
     private String requestedDriver;
     private ReportService reportService;
     private final TestCount testCount;
+    private final FailureFeedback failureFeedback;
+    private final Injector injector;
     /**
      * Special listener that keeps track of test step execution and results.
      */
@@ -86,6 +92,10 @@ public class ThucydidesRunner extends BlockJUnit4ClassRunner {
 
     private BatchManager batchManager;
 
+    private final List<TestMethodWorker> testMethodWorkers = new ArrayList<TestMethodWorker>();
+
+    private boolean closeDriversAfterRun = true;
+
     private final Logger logger = LoggerFactory.getLogger(ThucydidesRunner.class);
 
     public Pages getPages() {
@@ -110,7 +120,8 @@ public class ThucydidesRunner extends BlockJUnit4ClassRunner {
         this(klass,
             injector.getInstance(WebdriverManager.class),
             injector.getInstance(Configuration.class),
-            injector.getInstance(BatchManager.class)
+            injector.getInstance(BatchManager.class),
+            injector
             );
     }
 
@@ -151,13 +162,31 @@ public class ThucydidesRunner extends BlockJUnit4ClassRunner {
                             final WebdriverManager webDriverManager,
                             final Configuration configuration,
                             final BatchManager batchManager) throws InitializationError {
+        this(klass,
+             webDriverManager,
+             configuration,
+             batchManager,
+             Injectors.getInjector());
+    }
+
+    /**
+     * The injector provides the services shared by the test runners, such as the test count,
+     * and is passed on to the workers that run the test methods of a concurrent test case.
+     */
+    ThucydidesRunner(final Class<?> klass,
+                     final WebdriverManager webDriverManager,
+                     final Configuration configuration,
+                     final BatchManager batchManager,
+                     final Injector injector) throws InitializationError {
         super(klass);
+        this.injector = injector;
         this.webdriverManager = webDriverManager;
         this.configuration = configuration;
         this.requestedDriver = getSpecifiedDriver(klass);
         this.tagScanner = new TagScanner(configuration.getEnvironmentVariables());
 
-        this.testCount = Injectors.getInjector().getInstance(TestCount.class);
+        this.testCount = injector.getInstance(TestCount.class);
+        this.failureFeedback = injector.getInstance(FailureFeedback.class);
 
         if (TestCaseAnnotations.supportsWebTests(klass)) {
             checkRequestedDriverType();
@@ -233,21 +262,118 @@ public class ThucydidesRunner extends BlockJUnit4ClassRunner {
 
     @Override
     public void run(final RunNotifier notifier) {
-        if (!skipThisTest()) {
-            try {
-                setupFixtureServices();
-                RunNotifier newNotifier = initializeRunNotifier(notifier);
-                super.run(newNotifier);
-            } finally {
-                notifyTestSuiteFinished();
-                generateReports();
-                dropListeners(notifier);
-                closeDrivers();
-                shutdownFixtureServices();
+        if (testNotInCurrentBatch()) {
+            return;
+        }
+        if (!failureFeedback.shouldRun(getTestClass().getJavaClass())) {
+            notifier.fireTestIgnored(getDescription());
+            return;
+        }
+        if (runTestMethodsConcurrently()) {
+            runTestMethodsConcurrentlyUsing(notifier);
+        } else {
+            runTestMethodsUsing(notifier);
+        }
+    }
+
+    void runTestMethodsUsing(final RunNotifier notifier) {
+        try {
+            setupFixtureServices();
+            RunNotifier newNotifier = initializeRunNotifier(notifier);
+            super.run(newNotifier);
+        } finally {
+            notifyTestSuiteFinished();
+            generateReports();
+            dropListeners(notifier);
+            closeDrivers();
+            shutdownFixtureServices();
+        }
+    }
+
+    /**
+     * The class-level fixtures are run once, in this thread. The test methods are shared out between
+     * workers that each run their methods one after the other with their own driver, so unique sessions
+     * and periodic browser restarts apply to each worker's session.
+     * The reports are generated once all of the workers are done.
+     */
+    private void runTestMethodsConcurrentlyUsing(final RunNotifier notifier) {
+        try {
+            super.run(notifier);
+        } finally {
+            generateReports();
+        }
+    }
+
+    /**
+     * Test methods are run in parallel if the test case is annotated with @Concurrent
+     * and there is more than one test method to run.
+     */
+    protected boolean runTestMethodsConcurrently() {
+        return ConcurrentAnnotations.forClass(getTestClass().getJavaClass()).isConcurrent()
+                && (getDescription().testCount() > 1);
+    }
+
+    @Override
+    protected Statement childrenInvoker(final RunNotifier notifier) {
+        if (runTestMethodsConcurrently()) {
+            return new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    runTestMethodWorkersUsing(notifier);
+                }
+            };
+        }
+        return super.childrenInvoker(notifier);
+    }
+
+    private void runTestMethodWorkersUsing(final RunNotifier notifier) throws InitializationError {
+        Class<?> testClass = getTestClass().getJavaClass();
+        List<List<String>> testMethodGroups = testMethodsSharedBetween(testMethodWorkerCount());
+        ParameterizedRunnerScheduler scheduler = new ParameterizedRunnerScheduler(testClass, testMethodGroups.size());
+        try {
+            for (List<String> testMethodNames : testMethodGroups) {
+                final TestMethodWorker worker = new TestMethodWorker(testClass, webdriverManager, configuration,
+                                                                     batchManager, injector, testMethodNames);
+                testMethodWorkers.add(worker);
+                scheduler.schedule(new Runnable() {
+                    public void run() {
+                        worker.run(notifier);
+                    }
+                });
             }
+        } finally {
+            scheduler.finished();
         }
     }
 
+    private int testMethodWorkerCount() {
+        int threadCount = ConcurrentAnnotations.forClass(getTestClass().getJavaClass()).getThreadCount();
+        return Math.max(1, Math.min(threadCount, testMethodNames().size()));
+    }
+
+    private List<List<String>> testMethodsSharedBetween(final int workerCount) {
+        List<List<String>> testMethodGroups = new ArrayList<List<String>>();
+        for (int worker = 0; worker < workerCount; worker++) {
+            testMethodGroups.add(new ArrayList<String>());
+        }
+        List<String> testMethodNames = testMethodNames();
+        for (int i = 0; i < testMethodNames.size(); i++) {
+            testMethodGroups.get(i % workerCount).add(testMethodNames.get(i));
+        }
+        return testMethodGroups;
+    }
+
+    /**
+     * The names of the test methods left to run once any filter has been applied, in the order JUnit runs them.
+     */
+    private List<String> testMethodNames() {
+        List<String> testMethodNames = new ArrayList<String>();
+        for (Description child : getDescription().getChildren()) {
+            testMethodNames.add(child.getMethodName());
+        }
+        return testMethodNames;
+    }
+
     private void setupFixtureServices() {
     }
 
@@ -273,10 +399,6 @@ public class ThucydidesRunner extends BlockJUnit4ClassRunner {
             generateReportsFor(getTestOutcomes());
     }
 
-    private boolean skipThisTest() {
-        return testNotInCurrentBatch();
-    }
-
     private boolean testNotInCurrentBatch() {
         return (batchManager != null) && (!batchManager.shouldExecuteThisTest(getDescription().testCount()));
     }
@@ -351,7 +473,17 @@ public class ThucydidesRunner extends BlockJUnit4ClassRunner {
     }
 
     private void closeDrivers() {
-        getWebdriverManager().closeAllCurrentDrivers();
+        if (closeDriversAfterRun) {
+            getWebdriverManager().closeAllCurrentDrivers();
+        }
+    }
+
+    /**
+     * Leave the drivers of the current thread open once the tests have run, so that the next test case run
+     * in this thread can reuse the same browser. Whoever runs the test case is then in charge of closing them.
+     */
+    void keepDriversOpenAfterRun() {
+        this.closeDriversAfterRun = false;
     }
 
     protected WebdriverManager getWebdriverManager() {
@@ -378,6 +510,28 @@ public class ThucydidesRunner extends BlockJUnit4ClassRunner {
     }
 
 
+    /**
+     * Tests that failed in the previous run come first if the failed tests are to be rerun first.
+     */
+    @Override
+    protected List<FrameworkMethod> getChildren() {
+        List<FrameworkMethod> testMethods = super.getChildren();
+        if (!failureFeedback.runFailedTestsFirst()) {
+            return testMethods;
+        }
+        List<FrameworkMethod> previouslyFailedFirst = new ArrayList<FrameworkMethod>();
+        List<FrameworkMethod> otherTestMethods = new ArrayList<FrameworkMethod>();
+        for (FrameworkMethod testMethod : testMethods) {
+            if (failureFeedback.previouslyFailed(getTestClass().getJavaClass(), testMethod.getName())) {
+                previouslyFailedFirst.add(testMethod);
+            } else {
+                otherTestMethods.add(testMethod);
+            }
+        }
+        previouslyFailedFirst.addAll(otherTestMethods);
+        return previouslyFailedFirst;
+    }
+
     @Override
     protected void runChild(FrameworkMethod method, RunNotifier notifier) {
 
@@ -387,6 +541,11 @@ public class ThucydidesRunner extends BlockJUnit4ClassRunner {
             return;
         }
 
+        if (!failureFeedback.shouldRun(getTestClass().getJavaClass(), method.getName())) {
+            notifier.fireTestIgnored(describeChild(method));
+            return;
+        }
+
         if (isPending(method)) {
             markAsPending(method);
             notifier.fireTestIgnored(describeChild(method));
@@ -424,6 +583,10 @@ public class ThucydidesRunner extends BlockJUnit4ClassRunner {
         if (notifier instanceof RetryFilteringRunNotifier) {
             ((RetryFilteringRunNotifier) notifier).flush();
         }
+
+        if (failureDetectingStepListener.lastTestFailed()) {
+            failureFeedback.recordFailure();
+        }
     }
 
     private void clearMetadataIfRequired() {
@@ -569,9 +732,34 @@ public class ThucydidesRunner extends BlockJUnit4ClassRunner {
     }
 
     public List<TestOutcome> getTestOutcomes() {
+        if (runTestMethodsConcurrently()) {
+            return getTestOutcomesFromTestMethodWorkers();
+        }
         return getStepListener().getTestOutcomes();
     }
 
+    /**
+     * Outcomes recorded by parallel workers are listed in test method order, whichever worker finished first.
+     */
+    private List<TestOutcome> getTestOutcomesFromTestMethodWorkers() {
+        List<TestOutcome> testOutcomes = new ArrayList<TestOutcome>();
+        for (TestMethodWorker worker : testMethodWorkers) {
+            testOutcomes.addAll(worker.getTestOutcomes());
+        }
+        final List<String> testMethodNames = testMethodNames();
+        Collections.sort(testOutcomes, new Comparator<TestOutcome>() {
+            public int compare(final TestOutcome outcome, final TestOutcome otherOutcome) {
+                return positionOf(outcome) - positionOf(otherOutcome);
+            }
+
+            private int positionOf(final TestOutcome outcome) {
+                int position = testMethodNames.indexOf(outcome.getMethodName());
+                return (position < 0) ? testMethodNames.size() : position;
+            }
+        });
+        return testOutcomes;
+    }
+
     /**
      * The default reporters applicable for standard test runs.
      */
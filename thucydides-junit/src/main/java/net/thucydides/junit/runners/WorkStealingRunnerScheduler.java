@@ -0,0 +1,239 @@
+package net.thucydides.junit.runners;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.runners.model.RunnerScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * JUnit scheduler for parallel parameterized tests with uneven durations.
+ * The scheduled data sets are dealt out in turn to a fixed number of workers, in the order they are scheduled,
+ * so data sets scheduled longest first are spread evenly. Each worker runs its own data sets first, then steals
+ * the cheapest remaining data sets from the busiest other worker rather than staying idle.
+ * A worker runs every data set in the same thread, and so with the same browser session. The session is released
+ * once the worker runs out of work, and the worker utilization is logged so that the thread count can be tuned.
+ */
+class WorkStealingRunnerScheduler implements RunnerScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkStealingRunnerScheduler.class);
+
+    private final Class<?> klass;
+    private final int threadCount;
+    private final Runnable sessionRelease;
+    private final List<Runnable> scheduledTasks = new ArrayList<Runnable>();
+    private final List<Worker> workers = new ArrayList<Worker>();
+
+    /**
+     * @param sessionRelease called in each worker thread once the worker has no more data sets to run,
+     *                       typically to close the browser used by the worker.
+     */
+    public WorkStealingRunnerScheduler(final Class<?> klass, final int threadCount, final Runnable sessionRelease) {
+        this.klass = klass;
+        this.threadCount = threadCount;
+        this.sessionRelease = sessionRelease;
+    }
+
+    public void schedule(final Runnable childStatement) {
+        scheduledTasks.add(childStatement);
+    }
+
+    public void finished() {
+        int workerCount = Math.min(threadCount, scheduledTasks.size());
+        if (workerCount == 0) {
+            return;
+        }
+        CountDownLatch workersDone = new CountDownLatch(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(new Worker(workersDone));
+        }
+        for (int i = 0; i < scheduledTasks.size(); i++) {
+            workers.get(i % workerCount).tasks.offerLast(scheduledTasks.get(i));
+        }
+        scheduledTasks.clear();
+
+        List<Thread> workerThreads = startWorkers();
+        try {
+            workersDone.await();
+        } catch (InterruptedException e) {
+            for (Thread workerThread : workerThreads) {
+                workerThread.interrupt();
+            }
+            Thread.currentThread().interrupt();
+        }
+        logWorkerUtilization();
+    }
+
+    private List<Thread> startWorkers() {
+        ThreadFactory threadFactory = new ParameterizedRunnerScheduler.NamedThreadFactory(klass.getSimpleName());
+        List<Thread> workerThreads = new ArrayList<Thread>();
+        for (Worker worker : workers) {
+            Thread workerThread = threadFactory.newThread(worker);
+            worker.name = workerThread.getName();
+            workerThreads.add(workerThread);
+            workerThread.start();
+        }
+        return workerThreads;
+    }
+
+    private void logWorkerUtilization() {
+        for (WorkerStatistics statistics : getWorkerStatistics()) {
+            LOGGER.info(String.format("%s ran %d data sets (%d stolen), busy for %d ms out of %d ms (%d%%)",
+                                      statistics.getName(),
+                                      statistics.getTaskCount(),
+                                      statistics.getStolenTaskCount(),
+                                      statistics.getBusyTime(),
+                                      statistics.getElapsedTime(),
+                                      Math.round(statistics.getUtilization() * 100)));
+        }
+    }
+
+    /**
+     * @return How busy each worker was during the last run, once the run is finished.
+     */
+    public List<WorkerStatistics> getWorkerStatistics() {
+        List<WorkerStatistics> statistics = new ArrayList<WorkerStatistics>();
+        for (Worker worker : workers) {
+            statistics.add(worker.getStatistics());
+        }
+        return ImmutableList.copyOf(statistics);
+    }
+
+    /**
+     * Take the cheapest remaining data set of the busiest other worker, or of any other worker that still
+     * has work if the busiest one has emptied its queue in the meantime.
+     */
+    private Runnable stealTaskFor(final Worker thief) {
+        Worker busiestWorker = null;
+        for (Worker worker : workers) {
+            if ((worker != thief)
+                    && ((busiestWorker == null) || (worker.tasks.size() > busiestWorker.tasks.size()))) {
+                busiestWorker = worker;
+            }
+        }
+        Runnable stolenTask = (busiestWorker == null) ? null : busiestWorker.tasks.pollLast();
+        for (int i = 0; (stolenTask == null) && (i < workers.size()); i++) {
+            if (workers.get(i) != thief) {
+                stolenTask = workers.get(i).tasks.pollLast();
+            }
+        }
+        return stolenTask;
+    }
+
+    private class Worker implements Runnable {
+        private final BlockingDeque<Runnable> tasks = new LinkedBlockingDeque<Runnable>();
+        private final CountDownLatch workersDone;
+        private String name;
+        private int taskCount;
+        private int stolenTaskCount;
+        private long busyTime;
+        private long elapsedTime;
+
+        private Worker(final CountDownLatch workersDone) {
+            this.workersDone = workersDone;
+        }
+
+        public void run() {
+            long startTime = System.currentTimeMillis();
+            try {
+                Runnable task = nextTask();
+                while (task != null && !Thread.currentThread().isInterrupted()) {
+                    runTask(task);
+                    task = nextTask();
+                }
+            } finally {
+                releaseSession();
+                elapsedTime = System.currentTimeMillis() - startTime;
+                workersDone.countDown();
+            }
+        }
+
+        private Runnable nextTask() {
+            Runnable task = tasks.pollFirst();
+            if (task == null) {
+                task = stealTaskFor(this);
+                if (task != null) {
+                    stolenTaskCount++;
+                }
+            }
+            return task;
+        }
+
+        private void runTask(final Runnable task) {
+            long taskStartTime = System.currentTimeMillis();
+            try {
+                task.run();
+            } catch (RuntimeException taskFailure) {
+                LOGGER.error("Parallel test run failed: " + taskFailure.getMessage(), taskFailure);
+            } finally {
+                busyTime += System.currentTimeMillis() - taskStartTime;
+                taskCount++;
+            }
+        }
+
+        private void releaseSession() {
+            try {
+                sessionRelease.run();
+            } catch (RuntimeException releaseFailure) {
+                LOGGER.warn("Could not release the browser session of " + name, releaseFailure);
+            }
+        }
+
+        private WorkerStatistics getStatistics() {
+            return new WorkerStatistics(name, taskCount, stolenTaskCount, busyTime, elapsedTime);
+        }
+    }
+
+    /**
+     * How much work a worker did during a parallel run.
+     */
+    public static class WorkerStatistics {
+        private final String name;
+        private final int taskCount;
+        private final int stolenTaskCount;
+        private final long busyTime;
+        private final long elapsedTime;
+
+        WorkerStatistics(final String name, final int taskCount, final int stolenTaskCount,
+                         final long busyTime, final long elapsedTime) {
+            this.name = name;
+            this.taskCount = taskCount;
+            this.stolenTaskCount = stolenTaskCount;
+            this.busyTime = busyTime;
+            this.elapsedTime = elapsedTime;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getTaskCount() {
+            return taskCount;
+        }
+
+        public int getStolenTaskCount() {
+            return stolenTaskCount;
+        }
+
+        public long getBusyTime() {
+            return busyTime;
+        }
+
+        public long getElapsedTime() {
+            return elapsedTime;
+        }
+
+        /**
+         * @return The share of the worker's lifetime spent running data sets, between 0 and 1.
+         */
+        public double getUtilization() {
+            return (elapsedTime == 0) ? 1.0 : ((double) busyTime) / elapsedTime;
+        }
+    }
+}
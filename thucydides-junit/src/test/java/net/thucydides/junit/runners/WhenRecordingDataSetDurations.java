@@ -0,0 +1,69 @@
+package net.thucydides.junit.runners;
+
+import net.thucydides.samples.SampleParallelDataDrivenScenario;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class WhenRecordingDataSetDurations {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void data_sets_should_be_expected_to_take_as_long_as_they_did_in_the_previous_run() {
+        File outputDirectory = temporaryFolder.getRoot();
+        DataSetDurations previousRun = DataSetDurations.forTestClass(SampleParallelDataDrivenScenario.class, outputDirectory);
+        previousRun.record("[a]", 1000);
+        previousRun.record("[b]", 3000);
+        previousRun.save();
+
+        DataSetDurations durations = DataSetDurations.forTestClass(SampleParallelDataDrivenScenario.class, outputDirectory);
+
+        assertThat(durations.expectedDurationOf("[a]"), is(1000L));
+        assertThat(durations.expectedDurationOf("[b]"), is(3000L));
+    }
+
+    @Test
+    public void new_data_sets_should_be_expected_to_take_as_long_as_the_average_data_set() {
+        File outputDirectory = temporaryFolder.getRoot();
+        DataSetDurations previousRun = DataSetDurations.forTestClass(SampleParallelDataDrivenScenario.class, outputDirectory);
+        previousRun.record("[a]", 1000);
+        previousRun.record("[b]", 3000);
+        previousRun.save();
+
+        DataSetDurations durations = DataSetDurations.forTestClass(SampleParallelDataDrivenScenario.class, outputDirectory);
+
+        assertThat(durations.expectedDurationOf("[c]"), is(2000L));
+    }
+
+    @Test
+    public void durations_of_data_sets_that_did_not_run_should_be_kept() {
+        File outputDirectory = temporaryFolder.getRoot();
+        DataSetDurations firstRun = DataSetDurations.forTestClass(SampleParallelDataDrivenScenario.class, outputDirectory);
+        firstRun.record("[a]", 1000);
+        firstRun.record("[b]", 3000);
+        firstRun.save();
+
+        DataSetDurations secondRun = DataSetDurations.forTestClass(SampleParallelDataDrivenScenario.class, outputDirectory);
+        secondRun.record("[a]", 1500);
+        secondRun.save();
+
+        DataSetDurations durations = DataSetDurations.forTestClass(SampleParallelDataDrivenScenario.class, outputDirectory);
+        assertThat(durations.expectedDurationOf("[a]"), is(1500L));
+        assertThat(durations.expectedDurationOf("[b]"), is(3000L));
+    }
+
+    @Test
+    public void there_should_be_no_expected_duration_without_a_previous_run() {
+        DataSetDurations durations = DataSetDurations.forTestClass(SampleParallelDataDrivenScenario.class,
+                                                                   temporaryFolder.getRoot());
+
+        assertThat(durations.expectedDurationOf("[a]"), is(0L));
+    }
+}
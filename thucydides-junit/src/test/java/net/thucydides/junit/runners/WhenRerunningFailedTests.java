@@ -0,0 +1,155 @@
+package net.thucydides.junit.runners;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+import net.thucydides.core.batches.FailureFeedback;
+import net.thucydides.core.guice.ThucydidesModule;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import net.thucydides.junit.rules.DisableThucydidesHistoryRule;
+import net.thucydides.junit.rules.QuietThucydidesLoggingRule;
+import net.thucydides.samples.SamplePassingNonWebScenario;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.Description;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+public class WhenRerunningFailedTests {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Rule
+    public QuietThucydidesLoggingRule quietThucydidesLoggingRule = new QuietThucydidesLoggingRule();
+
+    @Rule
+    public DisableThucydidesHistoryRule disableThucydidesHistoryRule = new DisableThucydidesHistoryRule();
+
+    MockEnvironmentVariables environmentVariables;
+
+    File previousOutcomeDirectory;
+
+    List<String> startedTests;
+
+    List<String> ignoredTests;
+
+    RunNotifier notifier;
+
+    @Before
+    public void recordThePreviousRun() throws IOException {
+        StepEventBus.getEventBus().clear();
+        environmentVariables = new MockEnvironmentVariables();
+        previousOutcomeDirectory = temporaryFolder.newFolder("previous-run");
+
+        TestOutcome failingTest = TestOutcome.forTest("happy_day_scenario", SamplePassingNonWebScenario.class);
+        failingTest.recordStep(aStepWithResult(TestResult.FAILURE));
+        TestOutcome passingTest = TestOutcome.forTest("edge_case_1", SamplePassingNonWebScenario.class);
+        passingTest.recordStep(aStepWithResult(TestResult.SUCCESS));
+        TestOutcome anotherPassingTest = TestOutcome.forTest("edge_case_2", SamplePassingNonWebScenario.class);
+        anotherPassingTest.recordStep(aStepWithResult(TestResult.SUCCESS));
+
+        List<TestOutcome> previousOutcomes = Arrays.asList(failingTest, passingTest, anotherPassingTest);
+        XMLTestOutcomeReporter reporter = new XMLTestOutcomeReporter();
+        reporter.setOutputDirectory(previousOutcomeDirectory);
+        for (TestOutcome outcome : previousOutcomes) {
+            reporter.generateReportFor(outcome, TestOutcomes.of(previousOutcomes));
+        }
+
+        startedTests = Collections.synchronizedList(new ArrayList<String>());
+        ignoredTests = Collections.synchronizedList(new ArrayList<String>());
+        notifier = new RunNotifier();
+        notifier.addListener(new RunListener() {
+            @Override
+            public void testStarted(Description description) throws Exception {
+                startedTests.add(description.getMethodName());
+            }
+
+            @Override
+            public void testIgnored(Description description) throws Exception {
+                ignoredTests.add(description.isTest() ? description.getMethodName() : description.getClassName());
+            }
+        });
+    }
+
+    @Test
+    public void tests_that_passed_in_the_previous_run_should_be_reported_as_ignored_in_failed_tests_only_mode()
+            throws Exception {
+        environmentVariables.setProperty("thucydides.rerun.failed.tests.only", "true");
+
+        ThucydidesRunner runner = new ThucydidesRunner(SamplePassingNonWebScenario.class,
+                                                       injectorUsing(failureFeedback()));
+        runner.run(notifier);
+
+        assertThat(startedTests, contains("happy_day_scenario"));
+        assertThat(ignoredTests, containsInAnyOrder("edge_case_1", "edge_case_2"));
+    }
+
+    @Test
+    public void tests_that_failed_in_the_previous_run_should_be_run_first() throws Exception {
+        environmentVariables.setProperty("thucydides.rerun.failed.tests.first", "true");
+
+        ThucydidesRunner runner = new ThucydidesRunner(SamplePassingNonWebScenario.class,
+                                                       injectorUsing(failureFeedback()));
+        runner.run(notifier);
+
+        assertThat(startedTests.get(0), is("happy_day_scenario"));
+        assertThat(startedTests.size(), is(3));
+        assertThat(ignoredTests.isEmpty(), is(true));
+    }
+
+    @Test
+    public void test_cases_skipped_once_the_failure_threshold_is_reached_should_be_reported_as_ignored()
+            throws Exception {
+        environmentVariables.setProperty("thucydides.fail.fast.threshold", "1");
+        FailureFeedback failureFeedback = failureFeedback();
+        failureFeedback.recordFailure();
+
+        ThucydidesRunner runner = new ThucydidesRunner(SamplePassingNonWebScenario.class,
+                                                       injectorUsing(failureFeedback));
+        runner.run(notifier);
+
+        assertThat(startedTests.isEmpty(), is(true));
+        assertThat(ignoredTests, contains(SamplePassingNonWebScenario.class.getName()));
+    }
+
+    private TestStep aStepWithResult(TestResult result) {
+        TestStep step = new TestStep("step 1");
+        step.setResult(result);
+        return step;
+    }
+
+    private FailureFeedback failureFeedback() {
+        return new FailureFeedback(environmentVariables, previousOutcomeDirectory);
+    }
+
+    private Injector injectorUsing(final FailureFeedback failureFeedback) {
+        return Guice.createInjector(Modules.override(new ThucydidesModule()).with(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(FailureFeedback.class).toInstance(failureFeedback);
+            }
+        }));
+    }
+}
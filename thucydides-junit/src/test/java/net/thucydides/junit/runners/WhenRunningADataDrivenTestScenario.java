@@ -26,6 +26,7 @@ import net.thucydides.samples.SampleDataDrivenIgnoredScenario;
 import net.thucydides.samples.SampleDataDrivenPendingScenario;
 import net.thucydides.samples.SampleDataDrivenScenario;
 import net.thucydides.samples.SampleDataDrivenScenarioWithExternalFailure;
+import net.thucydides.samples.SampleLongestFirstDataDrivenScenario;
 import net.thucydides.samples.SampleParallelDataDrivenScenario;
 import net.thucydides.samples.SamplePassingScenarioWithTestSpecificData;
 import net.thucydides.samples.SampleScenarioSteps;
@@ -44,16 +45,19 @@ import org.mockito.MockitoAnnotations;
 import org.openqa.selenium.WebDriver;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Properties;
 
 import static ch.lambdaj.Lambda.filter;
 import static net.thucydides.core.steps.StepData.withTestDataFrom;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 
@@ -629,6 +633,33 @@ public class WhenRunningADataDrivenTestScenario {
 
     }
 
+    @Test
+    public void data_sets_that_took_longest_in_the_previous_run_should_be_started_first() throws Throwable  {
+
+        File outputDirectory = tempFolder.newFolder("thucydides");
+        environmentVariables.setProperty(ThucydidesSystemProperty.OUTPUT_DIRECTORY.getPropertyName(),
+                            outputDirectory.getAbsolutePath());
+        File durationsFile = new File(outputDirectory,
+                                      SampleLongestFirstDataDrivenScenario.class.getName() + ".durations.properties");
+        Properties previousDurations = new Properties();
+        previousDurations.setProperty("[a]", "100");
+        previousDurations.setProperty("[b]", "400");
+        previousDurations.setProperty("[c]", "300");
+        previousDurations.setProperty("[d]", "200");
+        FileOutputStream out = new FileOutputStream(durationsFile);
+        try {
+            previousDurations.store(out, null);
+        } finally {
+            out.close();
+        }
+        SampleLongestFirstDataDrivenScenario.EXECUTED_DATA_SETS.clear();
+
+        ThucydidesParameterizedRunner runner = getTestRunnerUsing(SampleLongestFirstDataDrivenScenario.class);
+        runner.run(new RunNotifier());
+
+        assertThat(SampleLongestFirstDataDrivenScenario.EXECUTED_DATA_SETS, contains("b", "c", "d", "a"));
+    }
+
     @Test
     public void the_Concurrent_annotation_indicates_that_tests_should_be_run_in_parallel() throws Throwable  {
 
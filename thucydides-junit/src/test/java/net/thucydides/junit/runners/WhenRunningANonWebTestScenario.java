@@ -1,16 +1,21 @@
 package net.thucydides.junit.runners;
 
+import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+import net.thucydides.core.batches.FailureFeedback;
 import net.thucydides.core.guice.ThucydidesModule;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestResult;
 import net.thucydides.core.model.TestStep;
 import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.util.MockEnvironmentVariables;
 import net.thucydides.core.webdriver.WebDriverFactory;
 import net.thucydides.junit.rules.DisableThucydidesHistoryRule;
 import net.thucydides.junit.rules.QuietThucydidesLoggingRule;
 import net.thucydides.samples.NonWebTestScenarioWithParameterizedSteps;
+import net.thucydides.samples.SampleConcurrentNonWebScenario;
 import net.thucydides.samples.SampleNonWebScenarioWithError;
 import net.thucydides.samples.SamplePassingNonWebScenario;
 import net.thucydides.samples.SamplePassingNonWebScenarioWithEmptyTests;
@@ -22,6 +27,7 @@ import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.junit.runner.Description;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.model.InitializationError;
@@ -29,6 +35,7 @@ import org.mockito.MockitoAnnotations;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -120,6 +127,59 @@ public class WhenRunningANonWebTestScenario extends AbstractTestStepRunnerTest {
     }
 
 
+    @Test
+    public void test_methods_of_a_concurrent_test_case_should_be_shared_between_several_threads() throws InitializationError {
+
+        SampleConcurrentNonWebScenario.THREADS.clear();
+        ThucydidesRunner runner = new ThucydidesRunner(SampleConcurrentNonWebScenario.class, injector);
+        runner.run(new RunNotifier());
+
+        List<TestOutcome> executedSteps = runner.getTestOutcomes();
+        assertThat(executedSteps.size(), is(4));
+        assertThat(SampleConcurrentNonWebScenario.THREADS.size(), is(2));
+
+        assertThat(inTheTesOutcomes(executedSteps).theResultFor("happy_day_scenario"), is(TestResult.SUCCESS));
+        assertThat(inTheTesOutcomes(executedSteps).theResultFor("edge_case_1"), is(TestResult.FAILURE));
+        assertThat(inTheTesOutcomes(executedSteps).theResultFor("edge_case_2"), is(TestResult.SUCCESS));
+        assertThat(inTheTesOutcomes(executedSteps).theResultFor("edge_case_3"), is(TestResult.PENDING));
+    }
+
+    @Test
+    public void the_methods_of_a_concurrent_test_case_should_be_run_using_the_injector_given_to_the_runner() throws Exception {
+
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("thucydides.fail.fast.threshold", "1");
+        final FailureFeedback failureFeedback = new FailureFeedback(environmentVariables, temporaryFolder.newFolder("thucydides"));
+        Injector injectorWithFailureFeedback = Guice.createInjector(Modules.override(new ThucydidesModule()).with(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(FailureFeedback.class).toInstance(failureFeedback);
+            }
+        }));
+
+        ThucydidesRunner runner = new ThucydidesRunner(SampleConcurrentNonWebScenario.class, injectorWithFailureFeedback);
+        runner.run(new RunNotifier());
+
+        assertThat(failureFeedback.failureThresholdReached(), is(true));
+    }
+
+    @Test
+    public void outcomes_of_a_concurrent_test_case_should_be_listed_in_test_method_order() throws InitializationError {
+
+        ThucydidesRunner runner = new ThucydidesRunner(SampleConcurrentNonWebScenario.class, injector);
+        runner.run(new RunNotifier());
+
+        List<String> methodNames = new ArrayList<String>();
+        for (Description child : runner.getDescription().getChildren()) {
+            methodNames.add(child.getMethodName());
+        }
+        List<String> outcomeNames = new ArrayList<String>();
+        for (TestOutcome outcome : runner.getTestOutcomes()) {
+            outcomeNames.add(outcome.getMethodName());
+        }
+        assertThat(outcomeNames, is(methodNames));
+    }
+
     @Test
     public void tests_should_be_run_after_an_assertion_error() throws InitializationError {
 
@@ -6,8 +6,15 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class WhenSchedulingParallelTestJobs {
 
@@ -17,6 +24,9 @@ public class WhenSchedulingParallelTestJobs {
     @Mock
     Runnable testJob2;
 
+    @Mock
+    Runnable sessionRelease;
+
     @Before
     public void initMocks() {
         MockitoAnnotations.initMocks(this);
@@ -47,4 +57,70 @@ public class WhenSchedulingParallelTestJobs {
         assertThat(scheduler.getTaskQueue().size(), is(0));
     }
 
+    @Test
+    public void the_work_stealing_scheduler_should_run_every_scheduled_test_job() {
+        WorkStealingRunnerScheduler scheduler
+                = new WorkStealingRunnerScheduler(SampleParallelDataDrivenScenario.class, 2, sessionRelease);
+
+        scheduler.schedule(testJob);
+        scheduler.schedule(testJob2);
+        scheduler.finished();
+
+        verify(testJob).run();
+        verify(testJob2).run();
+    }
+
+    @Test
+    public void each_worker_should_release_its_browser_session_once_it_has_no_more_work() {
+        WorkStealingRunnerScheduler scheduler
+                = new WorkStealingRunnerScheduler(SampleParallelDataDrivenScenario.class, 4, sessionRelease);
+
+        scheduler.schedule(testJob);
+        scheduler.schedule(testJob2);
+        scheduler.finished();
+
+        assertThat(scheduler.getWorkerStatistics().size(), is(2));
+        verify(sessionRelease, times(2)).run();
+    }
+
+    @Test
+    public void idle_workers_should_steal_test_jobs_from_busy_workers() {
+        WorkStealingRunnerScheduler scheduler
+                = new WorkStealingRunnerScheduler(SampleParallelDataDrivenScenario.class, 2, sessionRelease);
+
+        final CountDownLatch longJobStarted = new CountDownLatch(1);
+        final CountDownLatch shortJobsDone = new CountDownLatch(6);
+        final AtomicInteger jobsRun = new AtomicInteger();
+        scheduler.schedule(new Runnable() {
+            public void run() {
+                longJobStarted.countDown();
+                await(shortJobsDone);
+                jobsRun.incrementAndGet();
+            }
+        });
+        for (int i = 0; i < 6; i++) {
+            scheduler.schedule(new Runnable() {
+                public void run() {
+                    await(longJobStarted);
+                    jobsRun.incrementAndGet();
+                    shortJobsDone.countDown();
+                }
+            });
+        }
+        scheduler.finished();
+
+        assertThat(jobsRun.get(), is(7));
+        List<WorkStealingRunnerScheduler.WorkerStatistics> workerStatistics = scheduler.getWorkerStatistics();
+        assertThat(workerStatistics.get(0).getTaskCount(), is(1));
+        assertThat(workerStatistics.get(1).getTaskCount(), is(6));
+        assertThat(workerStatistics.get(1).getStolenTaskCount(), is(3));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
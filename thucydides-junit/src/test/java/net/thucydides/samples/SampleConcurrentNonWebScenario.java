@@ -0,0 +1,49 @@
+package net.thucydides.samples;
+
+import net.thucydides.core.annotations.Steps;
+import net.thucydides.junit.annotations.Concurrent;
+import net.thucydides.junit.runners.ThucydidesRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+@RunWith(ThucydidesRunner.class)
+@Concurrent(threads = "2")
+public class SampleConcurrentNonWebScenario {
+
+    public static final Set<String> THREADS = Collections.synchronizedSet(new HashSet<String>());
+
+    @Steps
+    public SampleNonWebSteps steps;
+
+    @Test
+    public void happy_day_scenario() throws Throwable {
+        THREADS.add(Thread.currentThread().getName());
+        steps.stepThatSucceeds();
+        steps.anotherStepThatSucceeds();
+    }
+
+    @Test
+    public void edge_case_1() throws Throwable {
+        THREADS.add(Thread.currentThread().getName());
+        steps.stepThatSucceeds();
+        steps.stepThatFails();
+    }
+
+    @Test
+    public void edge_case_2() throws Throwable {
+        THREADS.add(Thread.currentThread().getName());
+        Thread.sleep(100);
+        steps.stepThatSucceeds();
+    }
+
+    @Test
+    public void edge_case_3() throws Throwable {
+        THREADS.add(Thread.currentThread().getName());
+        steps.stepThatSucceeds();
+        steps.stepThatIsPending();
+    }
+}
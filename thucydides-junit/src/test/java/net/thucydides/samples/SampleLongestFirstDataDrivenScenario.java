@@ -0,0 +1,41 @@
+package net.thucydides.samples;
+
+import net.thucydides.junit.annotations.Concurrent;
+import net.thucydides.junit.annotations.TestData;
+import net.thucydides.junit.runners.ThucydidesParameterizedRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@RunWith(ThucydidesParameterizedRunner.class)
+@Concurrent(threads = "1")
+public class SampleLongestFirstDataDrivenScenario {
+
+    public static final List<String> EXECUTED_DATA_SETS = Collections.synchronizedList(new ArrayList<String>());
+
+    @TestData
+    public static Collection testData() {
+        return Arrays.asList(new Object[][]{
+                {"a"},
+                {"b"},
+                {"c"},
+                {"d"}
+        });
+    }
+
+    private String name;
+
+    public SampleLongestFirstDataDrivenScenario(String name) {
+        this.name = name;
+    }
+
+    @Test
+    public void happy_day_scenario() {
+        EXECUTED_DATA_SETS.add(name);
+    }
+}
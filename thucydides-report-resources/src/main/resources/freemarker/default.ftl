@@ -289,6 +289,43 @@
         </#if>
 </table>
 </div>
+<#-- Step timeline: where the time in each step was spent -->
+<#if testOutcome.hasTimingBreakdown() && (testOutcome.duration > 0)>
+    <#assign timingColors = {"PAGE_LOAD":"#4a90d9", "BROWSER":"#7ab648", "WAIT":"#f0ad4e", "SCREENSHOT":"#b455b6"}>
+    <#assign totalDuration = testOutcome.duration>
+    <div class="step-timeline">
+        <h3>Timeline</h3>
+        <div class="step-timeline-legend">
+            <#list testOutcome.timingCategories as category>
+                <span style="display:inline-block; width:12px; height:12px; background:${timingColors[category.name()]}"></span>
+                ${category.label} (${testOutcome.getPercentageOfTimeSpentOn(category.name())?string("0.#")}%)&nbsp;&nbsp;
+            </#list>
+            <span style="display:inline-block; width:12px; height:12px; background:#cccccc"></span> Step code
+        </div>
+        <table class="step-timeline-table" width="1005">
+            <#assign elapsed = 0>
+            <#list testOutcome.leafTestSteps as step>
+                <tr>
+                    <td width="300"><span class="nested-group-step" title="${step.description?html}">${formatter.truncatedHtmlCompatible(step.description,40)}</span></td>
+                    <td style="width:630px">
+                        <div style="position:relative; width:100%; height:14px; white-space:nowrap; overflow:hidden">
+                            <span style="display:inline-block; height:14px; width:${(elapsed * 100 / totalDuration)?c}%"></span><#t>
+                            <#list testOutcome.timingCategories as category>
+                                <#assign timeSpent = step.getTimeSpentOn(category.name())>
+                                <#if (timeSpent > 0)>
+                                    <span style="display:inline-block; height:14px; background:${timingColors[category.name()]}; width:${(timeSpent * 100 / totalDuration)?c}%" title="${category.label}: ${timeSpent} ms"></span><#t>
+                                </#if>
+                            </#list>
+                            <span style="display:inline-block; height:14px; background:#cccccc; width:${(step.untimedDuration * 100 / totalDuration)?c}%" title="Step code: ${step.untimedDuration} ms"></span><#t>
+                        </div>
+                    </td>
+                    <td width="75"><span class="nested-group-step">${step.duration} ms</span></td>
+                </tr>
+                <#assign elapsed = elapsed + step.duration>
+            </#list>
+        </table>
+    </div>
+</#if>
 <div id="beforefooter"></div>
 <div id="bottomfooter"></div>
 
@@ -24,6 +24,12 @@
     <#if reportOptions.showHistory>
         <li><a href="history.html" <#if selected=="history">class="current"</#if>>History</a></li>
     </#if>
+    <#if (showNetworkTraffic!false)>
+        <li><a href="network-traffic.html" <#if selected=="network-traffic">class="current"</#if>>Network Traffic</a></li>
+    </#if>
+    <#if (showPagePerformance!false)>
+        <li><a href="page-performance.html" <#if selected=="page-performance">class="current"</#if>>Page Performance</a></li>
+    </#if>
     </ul>
     <span class="date-and-time">Report generated ${timestamp}</span>
     <br style="clear:left"/>
@@ -0,0 +1,92 @@
+<!DOCTYPE html>
+<html>
+<head>
+    <meta charset="UTF-8" />
+    <title>Network Traffic</title>
+    <link rel="shortcut icon" href="favicon.ico">
+    <link rel="stylesheet" href="css/core.css"/>
+
+    <script type="text/javascript" src="scripts/jquery.js"></script>
+    <script type="text/javascript" src="datatables/media/js/jquery.dataTables.min.js"></script>
+
+    <link type="text/css" href="jqueryui/css/start/jquery-ui-1.8.18.custom.css" rel="Stylesheet" />
+    <script type="text/javascript" src="jqueryui/js/jquery-ui-1.8.18.custom.min.js"></script>
+
+    <script class="code" type="text/javascript">$(document).ready(function () {
+        $('#page-load-table').dataTable( {
+            "aaSorting": [[ 0, "asc" ]],
+            "bJQueryUI": true
+        } );
+    });
+    </script>
+</head>
+
+<body>
+<div id="topheader">
+    <div id="topbanner">
+        <div id="logo"><a href="index.html"><img src="images/logo.jpg" border="0"/></a></div>
+        <div id="projectname-banner" style="float:right">
+            <span class="projectname">${reportOptions.projectName}</span>
+        </div>
+    </div>
+</div>
+
+<div class="middlecontent">
+    <div id="contenttop">
+        <div class="leftbg"></div>
+        <div class="middlebg">
+            <span class="bluetext"><a href="index.html" class="bluetext">Home</a> > Network Traffic</span>
+        </div>
+        <div class="rightbg"></div>
+    </div>
+
+    <div class="clr"></div>
+
+<#include "menu.ftl">
+<@main_menu selected="network-traffic" />
+    <div class="clr"></div>
+    <div id="beforetable"></div>
+    <div id="results-dashboard">
+        <div class="middlb">
+            <div class="table">
+                <table id="page-load-table">
+                    <thead>
+                    <tr>
+                        <th width="50" class="test-results-heading">Rank</th>
+                        <th width="%" class="test-results-heading">Page</th>
+                        <th width="65" class="test-results-heading">Visits</th>
+                        <th width="100" class="test-results-heading">Average load time (ms)</th>
+                        <th width="100" class="test-results-heading">Slowest load time (ms)</th>
+                        <th width="100" class="test-results-heading">Average requests</th>
+                        <th width="100" class="test-results-heading">Average size (KB)</th>
+                        <th width="65" class="test-results-heading">Over budget</th>
+                    </tr>
+                    </thead>
+                    <tbody>
+                    <#assign rank = 1>
+                    <#foreach pageLoadCost in pageLoadCosts>
+                    <tr <#if (pageLoadCost.budgetViolations > 0)>class="test-FAILURE"</#if>>
+                        <td class="lightgreentext">${rank}</td>
+                        <td class="lightgreentext">
+                            <span title="<#foreach resource in pageLoadCost.slowestResources>${resource.url?html} (${resource.time} ms)&#10;</#foreach>">${pageLoadCost.page?html}</span>
+                        </td>
+                        <td class="lightgreentext">${pageLoadCost.visits}</td>
+                        <td class="lightgreentext">${pageLoadCost.averageLoadTime?c}</td>
+                        <td class="lightgreentext">${pageLoadCost.maximumLoadTime?c}</td>
+                        <td class="lightgreentext">${pageLoadCost.averageRequests?c}</td>
+                        <td class="lightgreentext">${(pageLoadCost.averageBytes / 1024)?string("0.0")}</td>
+                        <td class="lightgreentext">${pageLoadCost.budgetViolations}</td>
+                    </tr>
+                    <#assign rank = rank + 1>
+                    </#foreach>
+                    </tbody>
+                </table>
+            </div>
+        </div>
+    </div>
+</div>
+<div id="beforefooter"></div>
+<div id="bottomfooter"></div>
+
+</body>
+</html>
@@ -0,0 +1,88 @@
+<!DOCTYPE html>
+<html>
+<head>
+    <meta charset="UTF-8" />
+    <title>Page Performance</title>
+    <link rel="shortcut icon" href="favicon.ico">
+    <link rel="stylesheet" href="css/core.css"/>
+
+    <script type="text/javascript" src="scripts/jquery.js"></script>
+    <script type="text/javascript" src="datatables/media/js/jquery.dataTables.min.js"></script>
+
+    <link type="text/css" href="jqueryui/css/start/jquery-ui-1.8.18.custom.css" rel="Stylesheet" />
+    <script type="text/javascript" src="jqueryui/js/jquery-ui-1.8.18.custom.min.js"></script>
+
+    <script class="code" type="text/javascript">$(document).ready(function () {
+        $('#page-performance-table').dataTable( {
+            "aaSorting": [[ 3, "desc" ]],
+            "bJQueryUI": true
+        } );
+    });
+    </script>
+</head>
+
+<body>
+<div id="topheader">
+    <div id="topbanner">
+        <div id="logo"><a href="index.html"><img src="images/logo.jpg" border="0"/></a></div>
+        <div id="projectname-banner" style="float:right">
+            <span class="projectname">${reportOptions.projectName}</span>
+        </div>
+    </div>
+</div>
+
+<div class="middlecontent">
+    <div id="contenttop">
+        <div class="leftbg"></div>
+        <div class="middlebg">
+            <span class="bluetext"><a href="index.html" class="bluetext">Home</a> > Page Performance</span>
+        </div>
+        <div class="rightbg"></div>
+    </div>
+
+    <div class="clr"></div>
+
+<#include "menu.ftl">
+<@main_menu selected="page-performance" />
+    <div class="clr"></div>
+    <div id="beforetable"></div>
+    <div id="results-dashboard">
+        <div class="middlb">
+            <div class="table">
+                <table id="page-performance-table">
+                    <thead>
+                    <tr>
+                        <th width="%" class="test-results-heading">Page</th>
+                        <th width="65" class="test-results-heading">Visits</th>
+                        <th width="90" class="test-results-heading">Median load (ms)</th>
+                        <th width="90" class="test-results-heading">90th percentile (ms)</th>
+                        <th width="90" class="test-results-heading">95th percentile (ms)</th>
+                        <th width="90" class="test-results-heading">Median first byte (ms)</th>
+                        <th width="90" class="test-results-heading">Median DOM loaded (ms)</th>
+                        <th width="200" class="test-results-heading">Median load in recent builds (ms)</th>
+                    </tr>
+                    </thead>
+                    <tbody>
+                    <#foreach page in pages>
+                    <tr>
+                        <td class="lightgreentext">${page.urlPattern?html}</td>
+                        <td class="lightgreentext">${page.visits}</td>
+                        <td class="lightgreentext">${page.medianPageLoad?c}</td>
+                        <td class="lightgreentext">${page.getPageLoadPercentile(90)?c}</td>
+                        <td class="lightgreentext">${page.getPageLoadPercentile(95)?c}</td>
+                        <td class="lightgreentext">${page.medianTimeToFirstByte?c}</td>
+                        <td class="lightgreentext">${page.medianDomContentLoaded?c}</td>
+                        <td class="lightgreentext"><#if trends[page.urlPattern]??><#list trends[page.urlPattern] as load>${load?c}<#if load_has_next> &rarr; </#if></#list></#if></td>
+                    </tr>
+                    </#foreach>
+                    </tbody>
+                </table>
+            </div>
+        </div>
+    </div>
+</div>
+<div id="beforefooter"></div>
+<div id="bottomfooter"></div>
+
+</body>
+</html>
@@ -24,6 +24,12 @@
 	    border:0;
 	    display:block;
 	}
+    <#if screenshotHeight??>
+	#slider {
+	    height:${screenshotHeight?string.computer}px;
+	    background-color:#d3d3d3;
+	}
+    </#if>
 
     </style>
 
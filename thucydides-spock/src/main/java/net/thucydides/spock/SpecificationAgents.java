@@ -0,0 +1,42 @@
+package net.thucydides.spock;
+
+import com.google.common.base.Optional;
+import net.thucydides.core.bootstrap.ThucydidesAgent;
+import net.thucydides.core.steps.Listeners;
+
+/**
+ * Keeps one Thucydides agent for each thread that runs a specification.
+ * The agent registers its step listeners with the event bus of the thread that creates it, and opens the
+ * browser on that thread, so specifications run in parallel each record their own test outcomes
+ * with their own driver.
+ */
+class SpecificationAgents {
+
+    private final Optional<String> driver;
+
+    private final ThreadLocal<ThucydidesAgent> agents = new ThreadLocal<ThucydidesAgent>();
+
+    SpecificationAgents(Optional<String> driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * @return The agent for the specification running in the current thread, created if there is none yet.
+     */
+    ThucydidesAgent forCurrentThread() {
+        ThucydidesAgent agent = agents.get();
+        if (agent == null) {
+            agent = new ThucydidesAgent(driver, Listeners.getLoggingListener(), Listeners.getStatisticsListener());
+            agents.set(agent);
+        }
+        return agent;
+    }
+
+    /**
+     * Forget the agent of the current thread once its specification is finished, so that the next specification
+     * run in this thread starts with a new one.
+     */
+    void releaseForCurrentThread() {
+        agents.remove();
+    }
+}
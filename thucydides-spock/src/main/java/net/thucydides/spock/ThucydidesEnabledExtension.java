@@ -1,28 +1,23 @@
 package net.thucydides.spock;
 
 import com.google.common.base.Optional;
-import net.thucydides.core.bootstrap.ThucydidesAgent;
-import net.thucydides.core.steps.Listeners;
 import org.apache.commons.lang3.StringUtils;
 import org.spockframework.runtime.extension.AbstractAnnotationDrivenExtension;
-import org.spockframework.runtime.model.FeatureInfo;
-import org.spockframework.runtime.model.FieldInfo;
-import org.spockframework.runtime.model.MethodInfo;
 import org.spockframework.runtime.model.SpecInfo;
 
 public class ThucydidesEnabledExtension extends AbstractAnnotationDrivenExtension<ThucydidesEnabled> {
 
-    private ThucydidesAgent agent;
-
     public ThucydidesEnabledExtension() {
     }
 
+    /**
+     * Specifications can run in parallel, so the Thucydides agent is created by the thread that runs
+     * the specification rather than by the one that visits it.
+     */
     public void visitSpecAnnotation(ThucydidesEnabled annotation, SpecInfo spec) {
-        agent = new ThucydidesAgent(optionalDriverFrom(annotation),
-                                    Listeners.getLoggingListener(),
-                                    Listeners.getStatisticsListener());
-        spec.addListener(new ThucydidesRunListener(agent));
-        spec.getInitializerMethod().addInterceptor(new ThucydidesInterceptor(agent));
+        SpecificationAgents agents = new SpecificationAgents(optionalDriverFrom(annotation));
+        spec.addListener(new ThucydidesRunListener(agents));
+        spec.getInitializerMethod().addInterceptor(new ThucydidesInterceptor(agents));
     }
 
     private Optional<String> optionalDriverFrom(ThucydidesEnabled annotation) {
@@ -32,24 +27,4 @@ public class ThucydidesEnabledExtension extends AbstractAnnotationDrivenExtensio
             return Optional.of(annotation.driver());
         }
     }
-
-    @Override
-    public void visitFeatureAnnotation(ThucydidesEnabled annotation, FeatureInfo feature) {
-        System.out.println("visitFeatureAnnotation");
-    }
-
-    @Override
-    public void visitFixtureAnnotation(ThucydidesEnabled annotation, MethodInfo fixtureMethod) {
-        System.out.println("visitFixtureAnnotation");
-    }
-
-    @Override
-    public void visitFieldAnnotation(ThucydidesEnabled annotation, FieldInfo field) {
-        System.out.println("visitFieldAnnotation");
-    }
-
-    @Override
-    public void visitSpec(SpecInfo spec) {
-        System.out.println("visitSpec");
-    }
 }
@@ -1,21 +1,23 @@
 package net.thucydides.spock;
 
-import net.thucydides.core.bootstrap.ThucydidesAgent;
 import org.spockframework.runtime.extension.AbstractMethodInterceptor;
 import org.spockframework.runtime.extension.IMethodInvocation;
 import spock.lang.Specification;
 
 public class ThucydidesInterceptor extends AbstractMethodInterceptor {
-    private final ThucydidesAgent agent;
+    private final SpecificationAgents agents;
 
-    public ThucydidesInterceptor(final ThucydidesAgent agent) {
-        this.agent = agent;
+    ThucydidesInterceptor(final SpecificationAgents agents) {
+        this.agents = agents;
     }
 
+    /**
+     * Each feature and iteration runs in a new specification instance, whose step libraries are instrumented
+     * by the agent of the thread running the specification.
+     */
     @Override
     public void interceptInitializerMethod(IMethodInvocation invocation) throws Throwable {
-        System.out.println("interceptInitializerMethod");
-        agent.enrich(specificationFrom(invocation));
+        agents.forCurrentThread().enrich(specificationFrom(invocation));
         invocation.proceed();
     }
 
@@ -26,43 +28,4 @@ public class ThucydidesInterceptor extends AbstractMethodInterceptor {
             return (Specification) invocation.getSharedInstance();
         }
     }
-
-    /////////////////////////////
-
-    @Override
-    public void interceptFeatureExecution(IMethodInvocation invocation) throws Throwable {
-        System.out.println("interceptFeatureExecution");
-        invocation.proceed();
-    }
-
-    @Override
-    public void interceptSpecExecution(IMethodInvocation invocation) throws Throwable {
-        System.out.println("interceptSpecExecution");
-        invocation.proceed();
-    }
-
-    @Override
-    public void interceptFeatureMethod(IMethodInvocation invocation) throws Throwable {
-        System.out.println("interceptFeatureMethod");
-        invocation.proceed();
-    }
-
-    @Override
-    public void interceptSetupSpecMethod(IMethodInvocation invocation) throws Throwable {
-        System.out.println("interceptSetupSpecMethod");
-        invocation.proceed();
-    }
-
-    @Override
-    public void interceptSetupMethod(IMethodInvocation invocation) throws Throwable {
-        System.out.println("interceptSetupMethod");
-        invocation.proceed();
-    }
-
-    @Override
-    public void interceptSharedInitializerMethod(IMethodInvocation invocation) throws Throwable {
-        System.out.println("interceptSharedInitializerMethod");
-        invocation.proceed();
-    }
-
 }
@@ -1,6 +1,5 @@
 package net.thucydides.spock;
 
-import net.thucydides.core.bootstrap.ThucydidesAgent;
 import org.spockframework.runtime.IRunListener;
 import org.spockframework.runtime.model.ErrorInfo;
 import org.spockframework.runtime.model.FeatureInfo;
@@ -9,43 +8,39 @@ import org.spockframework.runtime.model.SpecInfo;
 
 public class ThucydidesRunListener implements IRunListener {
 
-    private final ThucydidesAgent agent;
+    private final SpecificationAgents agents;
 
-    public ThucydidesRunListener(ThucydidesAgent agent) {
-        this.agent = agent;
+    ThucydidesRunListener(SpecificationAgents agents) {
+        this.agents = agents;
     }
 
     public void beforeSpec(SpecInfo spec) {
-        agent.testSuiteStarted(spec.getName());
-        System.out.println("listener: beforeSpec" + spec.getName());
+        agents.forCurrentThread().testSuiteStarted(spec.getName());
     }
 
     public void beforeFeature(FeatureInfo feature) {
-        System.out.println("listener: beforeFeature " + feature.getName());
-        agent.testStarted(feature.getFeatureMethod().getName());
-
+        agents.forCurrentThread().testStarted(feature.getFeatureMethod().getName());
     }
 
     public void beforeIteration(IterationInfo iteration) {
-        System.out.println("listener: beforeIteration");
     }
 
     public void afterIteration(IterationInfo iteration) {
-        System.out.println("listener: afterIteration");
     }
 
     public void afterFeature(FeatureInfo feature) {
-        System.out.println("listener: afterFeature");
-        agent.testFinished();
+        agents.forCurrentThread().testFinished();
     }
 
     public void afterSpec(SpecInfo spec) {
-        System.out.println("listener: afterSpec");
-        agent.testSuiteFinished();
+        try {
+            agents.forCurrentThread().testSuiteFinished();
+        } finally {
+            agents.releaseForCurrentThread();
+        }
     }
 
     public void error(ErrorInfo error) {
-        System.out.println("listener: error");
     }
 
     public void specSkipped(SpecInfo spec) {
@@ -0,0 +1,57 @@
+package net.thucydides.spock.acceptance
+
+import net.thucydides.core.annotations.Steps
+import net.thucydides.core.steps.StepEventBus
+import net.thucydides.spock.ThucydidesEnabled
+import org.junit.experimental.ParallelComputer
+import org.junit.runner.JUnitCore
+import spock.lang.Specification
+
+/**
+ * Specifications run at the same time in different threads should each record their own test outcomes.
+ */
+@ThucydidesEnabled
+class FirstParallelSpecification extends Specification {
+
+    @Steps
+    SimpleSteps steps
+
+    def "a feature of the first specification"() {
+        when:
+            steps.step1()
+            Thread.sleep(100)
+        then:
+            def titles = StepEventBus.eventBus.baseStepListener.testOutcomes.collect { it.title.toLowerCase() }
+            titles.any { it.contains("first specification") }
+            !titles.any { it.contains("second specification") }
+    }
+}
+
+@ThucydidesEnabled
+class SecondParallelSpecification extends Specification {
+
+    @Steps
+    SimpleSteps steps
+
+    def "a feature of the second specification"() {
+        when:
+            steps.step2()
+            Thread.sleep(100)
+        then:
+            def titles = StepEventBus.eventBus.baseStepListener.testOutcomes.collect { it.title.toLowerCase() }
+            titles.any { it.contains("second specification") }
+            !titles.any { it.contains("first specification") }
+    }
+}
+
+class WhenRunningSpecificationsInParallel extends Specification {
+
+    def "specifications running in parallel should record their test outcomes separately"() {
+        when: "two Thucydides-enabled specifications are run at the same time"
+            def result = JUnitCore.runClasses(new ParallelComputer(true, false),
+                                              FirstParallelSpecification, SecondParallelSpecification)
+        then: "each one should only see its own test outcomes"
+            result.failures.empty
+            result.runCount == 2
+    }
+}